@@ -24,7 +24,7 @@ public class JwtFontCreateServerFilter extends OncePerRequestFilter {
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request){
         String uri = request.getRequestURI();
-        boolean isFontProgressRequest = "PATCH".equalsIgnoreCase(request.getMethod()) && uri.matches("/fonts/progress/\\d+");
+        boolean isFontProgressRequest = "PATCH".equalsIgnoreCase(request.getMethod()) && uri.matches("/fonts/progress(/\\d+)?");
         return !isFontProgressRequest;
     }
 
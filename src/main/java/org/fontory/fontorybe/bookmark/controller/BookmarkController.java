@@ -7,6 +7,7 @@ import org.fontory.fontorybe.bookmark.controller.dto.BookmarkDeleteResponse;
 import org.fontory.fontorybe.bookmark.controller.port.BookmarkService;
 import org.fontory.fontorybe.bookmark.domain.Bookmark;
 import org.fontory.fontorybe.font.controller.dto.FontResponse;
+import org.fontory.fontorybe.font.controller.dto.SliceResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -68,11 +69,22 @@ public class BookmarkController {
             @Parameter(description = "페이지 시작 오프셋 (기본값: 0)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 당 엘리먼트 개수 (기본값: 10)", example = "10") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "검색 키워드", example = "") @RequestParam(required = false) String keyword,
+            @Parameter(description = "전체 개수 없이 hasNext만 반환 (기본값: false)", example = "false") @RequestParam(defaultValue = "false") boolean slice,
+            @Parameter(description = "slice 조회 시 근사 전체 개수 포함 여부 (기본값: false)", example = "false") @RequestParam(defaultValue = "false") boolean withTotal,
             @Login UserPrincipal userPrincipal
     ) {
         Long memberId = userPrincipal.getId();
-        log.info("Request received: Get bookmarked fonts for member ID: {}, page: {}, size: {}, keyword: {}", 
-                memberId, page, size, keyword);
+        log.info("Request received: Get bookmarked fonts for member ID: {}, page: {}, size: {}, keyword: {}, slice: {}",
+                memberId, page, size, keyword, slice);
+
+        if (slice) {
+            SliceResponse<FontResponse> fontSlice = bookmarkService.getBookmarkedFontSlice(memberId, page, size, keyword, withTotal);
+            log.info("Response sent: Returned {} bookmarked fonts, hasNext: {}", fontSlice.getContent().size(), fontSlice.isHasNext());
+
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(fontSlice);
+        }
 
         Page<FontResponse> fonts = bookmarkService.getBookmarkedFonts(memberId, page, size, keyword);
         log.info("Response sent: Returned {} bookmarked fonts out of {} total, {} pages", 
@@ -1,14 +1,74 @@
 package org.fontory.fontorybe.bookmark.infrastructure;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.fontory.fontorybe.bookmark.infrastructure.entity.BookmarkEntity;
+import org.fontory.fontorybe.bookmark.service.dto.BookmarkedFontCard;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BookmarkJpaRepository extends JpaRepository<BookmarkEntity, Long> {
+    String BOOKMARKED_FONT_CONDITION = "WHERE b.memberId = :memberId AND f.status = :status " +
+            "AND (:keyword IS NULL OR f.name LIKE CONCAT('%', :keyword, '%')) ";
+
     boolean existsByMemberIdAndFontId(Long memberId, Long fontId);
     Optional<BookmarkEntity> findByMemberIdAndFontId(Long memberId, Long fontId);
     Page<BookmarkEntity> findAllByMemberId(Long memberId, Pageable pageable);
+    long countByMemberId(Long memberId);
+
+    /**
+     * (member_id, font_id) 유니크 제약에 걸리면 아무 것도 하지 않는다. 반환값은 실제로 추가된 행 수
+     * 감사(auditing)를 거치지 않으므로 다른 행과 같이 애플리케이션 시각을 받아 기록한다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO bookmark (bookmark_id, member_id, font_id, created_at, updated_at) " +
+            "VALUES (:id, :memberId, :fontId, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("id") Long id, @Param("memberId") Long memberId, @Param("fontId") Long fontId,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM BookmarkEntity b WHERE b.memberId = :memberId AND b.fontId = :fontId")
+    int deleteByMemberIdAndFontId(@Param("memberId") Long memberId, @Param("fontId") Long fontId);
+
+    @Query("SELECT b.fontId FROM BookmarkEntity b WHERE b.memberId = :memberId")
+    List<Long> findFontIdsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 키워드, 상태 필터와 정렬을 조인 한 번에 처리하고 작성자 닉네임까지 함께 조회한다.
+     * (member_id, created_at) 인덱스로 회원의 북마크를 최신순으로 읽는다.
+     */
+    @Query(value = "SELECT new org.fontory.fontorybe.bookmark.service.dto.BookmarkedFontCard(" +
+            "f.id, f.name, f.example, f.downloadCount, f.bookmarkCount, f.key, m.nickname) " +
+            "FROM BookmarkEntity b " +
+            "JOIN FontEntity f ON f.id = b.fontId " +
+            "JOIN MemberEntity m ON m.id = f.memberId " +
+            BOOKMARKED_FONT_CONDITION +
+            "ORDER BY b.createdAt DESC, b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM BookmarkEntity b " +
+                    "JOIN FontEntity f ON f.id = b.fontId " +
+                    "JOIN MemberEntity m ON m.id = f.memberId " +
+                    BOOKMARKED_FONT_CONDITION)
+    Page<BookmarkedFontCard> findBookmarkedFontCards(@Param("memberId") Long memberId,
+                                                     @Param("status") FontStatus status,
+                                                     @Param("keyword") String keyword,
+                                                     Pageable pageable);
 
+    @Query("SELECT new org.fontory.fontorybe.bookmark.service.dto.BookmarkedFontCard(" +
+            "f.id, f.name, f.example, f.downloadCount, f.bookmarkCount, f.key, m.nickname) " +
+            "FROM BookmarkEntity b " +
+            "JOIN FontEntity f ON f.id = b.fontId " +
+            "JOIN MemberEntity m ON m.id = f.memberId " +
+            BOOKMARKED_FONT_CONDITION +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BookmarkedFontCard> findBookmarkedFontCardSlice(@Param("memberId") Long memberId,
+                                                          @Param("status") FontStatus status,
+                                                          @Param("keyword") String keyword,
+                                                          Pageable pageable);
 }
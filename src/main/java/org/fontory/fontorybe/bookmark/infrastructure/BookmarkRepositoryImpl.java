@@ -1,20 +1,30 @@
 package org.fontory.fontorybe.bookmark.infrastructure;
 
 import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.fontory.fontorybe.bookmark.domain.Bookmark;
 import org.fontory.fontorybe.bookmark.infrastructure.entity.BookmarkEntity;
+import org.fontory.fontorybe.bookmark.service.dto.BookmarkedFontCard;
 import org.fontory.fontorybe.bookmark.service.port.BookmarkRepository;
+import org.fontory.fontorybe.common.application.TsidGenerator;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class BookmarkRepositoryImpl implements BookmarkRepository {
     private final BookmarkJpaRepository bookmarkJpaRepository;
     private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final TsidGenerator tsidGenerator;
 
     @Override
     public Bookmark save(Bookmark bookmark) {
@@ -26,6 +36,43 @@ public class BookmarkRepositoryImpl implements BookmarkRepository {
         return savedBookmark.toModel();
     }
 
+    @Override
+    public boolean insertIfAbsent(Long memberId, Long fontId) {
+        return bookmarkJpaRepository.insertIgnore(tsidGenerator.nextId(), memberId, fontId, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean deleteByMemberIdAndFontId(Long memberId, Long fontId) {
+        return bookmarkJpaRepository.deleteByMemberIdAndFontId(memberId, fontId) > 0;
+    }
+
+    /**
+     * 구간의 font 행을 먼저 잠근 뒤 집계한다.
+     * 잠금 이전에 커밋된 북마크 변경은 집계에 포함되고, 커밋되지 않은 변경은 잠금이 풀린 뒤 자신의 ±1을 반영하므로
+     * 재계산 도중 들어온 북마크가 덮어써지지 않는다.
+     */
+    @Override
+    @Transactional
+    public int recountFontBookmarkCounts(Long fromFontId, Long toFontId) {
+        jdbcTemplate.queryForList("SELECT font_id FROM font WHERE font_id BETWEEN ? AND ? FOR UPDATE",
+                Long.class, fromFontId, toFontId);
+
+        List<Object[]> corrections = jdbcTemplate.query(
+                "SELECT f.font_id, COUNT(b.bookmark_id) AS actual_count FROM font f " +
+                        "LEFT JOIN bookmark b ON b.font_id = f.font_id " +
+                        "WHERE f.font_id BETWEEN ? AND ? " +
+                        "GROUP BY f.font_id, f.bookmark_count " +
+                        "HAVING COUNT(b.bookmark_id) <> f.bookmark_count",
+                (rs, rowNum) -> new Object[]{rs.getLong("actual_count"), rs.getLong("font_id")},
+                fromFontId, toFontId);
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE font SET bookmark_count = ? WHERE font_id = ?", corrections);
+        return corrections.size();
+    }
+
     @Override
     public boolean existsByMemberIdAndFontId(Long memberId, Long fontId) {
         return bookmarkJpaRepository.existsByMemberIdAndFontId(memberId, fontId);
@@ -37,6 +84,11 @@ public class BookmarkRepositoryImpl implements BookmarkRepository {
                 .map(BookmarkEntity::toModel);
     }
 
+    @Override
+    public List<Long> findAllFontIdsByMemberId(Long memberId) {
+        return bookmarkJpaRepository.findFontIdsByMemberId(memberId);
+    }
+
     @Override
     public void deleteById(Long id) {
         bookmarkJpaRepository.deleteById(id);
@@ -48,4 +100,19 @@ public class BookmarkRepositoryImpl implements BookmarkRepository {
 
         return bookmarkEntities.map(BookmarkEntity::toModel);
     }
+
+    @Override
+    public Page<BookmarkedFontCard> findBookmarkedFontCards(Long memberId, FontStatus status, String keyword, PageRequest pageRequest) {
+        return bookmarkJpaRepository.findBookmarkedFontCards(memberId, status, keyword, pageRequest);
+    }
+
+    @Override
+    public Slice<BookmarkedFontCard> findBookmarkedFontCardSlice(Long memberId, FontStatus status, String keyword, PageRequest pageRequest) {
+        return bookmarkJpaRepository.findBookmarkedFontCardSlice(memberId, status, keyword, pageRequest);
+    }
+
+    @Override
+    public long countByMemberId(Long memberId) {
+        return bookmarkJpaRepository.countByMemberId(memberId);
+    }
 }
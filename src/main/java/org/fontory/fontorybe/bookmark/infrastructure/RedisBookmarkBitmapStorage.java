@@ -0,0 +1,123 @@
+package org.fontory.fontorybe.bookmark.infrastructure;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.bookmark.service.port.BookmarkBitmapStorage;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 직렬화한 Roaring 비트맵을 Base64 문자열로 저장한다.
+ * 버전은 별도 키의 INCR 값이며(없으면 0), 저장은 Lua 스크립트로 버전 비교와 SET을 한 번에 수행한다.
+ * Redis 장애는 캐시 미스로 취급한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisBookmarkBitmapStorage implements BookmarkBitmapStorage {
+    private static final String KEY_PREFIX = "bookmark_bitmap:";
+    private static final String VERSION_KEY_PREFIX = "bookmark_bitmap_version:";
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final RedisScript<Long> SAVE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1",
+            Long.class);
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Optional<Roaring64NavigableMap> find(Long memberId) {
+        try {
+            String encoded = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+            if (encoded == null) {
+                return Optional.empty();
+            }
+            return Optional.of(deserialize(Base64.getDecoder().decode(encoded)));
+        } catch (DataAccessException | IllegalArgumentException | UncheckedIOException e) {
+            log.warn("Failed to read bookmark bitmap for member ID: {}: {}", memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long findVersion(Long memberId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + memberId);
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Failed to read bookmark bitmap version for member ID: {}: {}", memberId, e.getMessage());
+            return -1L;
+        }
+    }
+
+    @Override
+    public void save(Long memberId, Roaring64NavigableMap bitmap, long version) {
+        if (version < 0) {
+            return;
+        }
+        try {
+            String encoded = Base64.getEncoder().encodeToString(serialize(bitmap));
+            Long saved = redisTemplate.execute(SAVE_IF_VERSION_SCRIPT,
+                    List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId),
+                    String.valueOf(version), encoded, String.valueOf(TTL.toMillis()));
+            if (!Long.valueOf(1L).equals(saved)) {
+                log.debug("Skipped saving bookmark bitmap for member ID: {}, changed while loading", memberId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to save bookmark bitmap for member ID: {}: {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 버전 키는 비트맵보다 오래 남아야 적재 중이던 이전 버전의 저장을 막을 수 있다.
+     */
+    @Override
+    public void evict(Long memberId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT,
+                    List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId),
+                    String.valueOf(TTL.multipliedBy(2).toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict bookmark bitmap for member ID: {}: {}", memberId, e.getMessage());
+        }
+    }
+
+    private byte[] serialize(Roaring64NavigableMap bitmap) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            bitmap.serialize(out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Roaring64NavigableMap deserialize(byte[] serialized) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(serialized))) {
+            Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+            bitmap.deserialize(in);
+            return bitmap;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
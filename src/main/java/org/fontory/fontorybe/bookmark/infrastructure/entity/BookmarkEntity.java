@@ -2,10 +2,10 @@ package org.fontory.fontorybe.bookmark.infrastructure.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,17 +13,25 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.fontory.fontorybe.bookmark.domain.Bookmark;
 import org.fontory.fontorybe.common.domain.BaseEntity;
+import org.fontory.fontorybe.common.domain.TsidId;
 
 @Entity
 @Getter
-@Table(name = "bookmark")
+@Table(
+        name = "bookmark",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bookmark_member_font", columnNames = {"member_id", "font_id"}),
+        indexes = {
+                @Index(name = "idx_bookmark_font_id", columnList = "font_id"),
+                @Index(name = "idx_bookmark_member_created_at", columnList = "member_id, created_at")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @SuperBuilder
 public class BookmarkEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "bookmark_id")
     private Long id;
 
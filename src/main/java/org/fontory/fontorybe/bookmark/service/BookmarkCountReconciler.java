@@ -0,0 +1,46 @@
+package org.fontory.fontorybe.bookmark.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.bookmark.service.port.BookmarkRepository;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * font.bookmark_count를 bookmark 테이블 기준으로 다시 계산해 어긋난 값을 바로잡는다.
+ * 실제 font_id를 키셋으로 CHUNK_SIZE개씩 읽어 [첫 ID, 마지막 ID] 구간마다 짧은 트랜잭션으로 처리한다.
+ * (ID가 TSID라 값이 크고 듬성듬성하므로 1부터 최대 ID까지 고정 폭으로 나누면 빈 구간만 끝없이 돈다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkCountReconciler {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final BookmarkRepository bookmarkRepository;
+    private final FontRepository fontRepository;
+
+    @Scheduled(cron = "${bookmark.recount-cron}")
+    public void recount() {
+        long lastFontId = 0L;
+        int corrected = 0;
+        List<Long> fontIds;
+        do {
+            fontIds = fontRepository.findIdsGreaterThan(lastFontId, CHUNK_SIZE);
+            if (fontIds.isEmpty()) {
+                break;
+            }
+            long firstFontId = fontIds.get(0);
+            lastFontId = fontIds.get(fontIds.size() - 1);
+            corrected += bookmarkRepository.recountFontBookmarkCounts(firstFontId, lastFontId);
+        } while (fontIds.size() == CHUNK_SIZE);
+
+        if (corrected > 0) {
+            log.warn("Service detail: Corrected bookmark count drift for {} fonts", corrected);
+        } else {
+            log.info("Service detail: Bookmark counts are consistent up to font ID: {}", lastFontId);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.fontory.fontorybe.bookmark.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.bookmark.service.port.BookmarkBitmapStorage;
+import org.fontory.fontorybe.bookmark.service.port.BookmarkRepository;
+import org.fontory.fontorybe.common.application.PrimaryReads;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 북마크 폰트 ID 캐시
+ * 로컬(Caffeine, 크기 제한) -> Redis -> DB 순으로 비트맵을 찾고, 폰트 카드의 북마크 여부는 비트맵 조회로만 판단한다.
+ * 적재는 항상 기본 DB에서 읽어, 복제 지연으로 빠진 북마크가 Redis에 올라가 모든 인스턴스에 퍼지지 않게 한다.
+ * 캐시된 비트맵은 변경하지 않고 복사본을 만들어 교체하므로 조회 중인 요청과 경합하지 않는다.
+ * 다른 인스턴스의 로컬 캐시는 local-ttl 동안 이전 값을 볼 수 있다.
+ */
+@Slf4j
+@Component
+public class BookmarkMembershipCache {
+    private final BookmarkRepository bookmarkRepository;
+    private final BookmarkBitmapStorage bookmarkBitmapStorage;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, Roaring64NavigableMap> localBitmaps;
+
+    public BookmarkMembershipCache(BookmarkRepository bookmarkRepository,
+                                   BookmarkBitmapStorage bookmarkBitmapStorage,
+                                   PrimaryReads primaryReads,
+                                   @Value("${bookmark.cache.local-max-members}") long localMaxMembers,
+                                   @Value("${bookmark.cache.local-ttl-ms}") long localTtlMs) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.bookmarkBitmapStorage = bookmarkBitmapStorage;
+        this.primaryReads = primaryReads;
+        this.localBitmaps = Caffeine.newBuilder()
+                .maximumSize(localMaxMembers)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .build();
+    }
+
+    public Set<Long> findBookmarkedFontIds(Long memberId, Collection<Long> fontIds) {
+        if (memberId == null || fontIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Roaring64NavigableMap bitmap = getBitmap(memberId);
+        return fontIds.stream()
+                .filter(bitmap::contains)
+                .collect(Collectors.toSet());
+    }
+
+    public boolean isBookmarked(Long memberId, Long fontId) {
+        return memberId != null && getBitmap(memberId).contains(fontId);
+    }
+
+    /**
+     * 북마크 추가/삭제 커밋 이후 호출한다.
+     * Redis 사본은 인스턴스 간 덮어쓰기 경합을 피하기 위해 수정하지 않고 지우며, 버전을 올려 적재 중인 이전 비트맵의 저장을 막는다.
+     */
+    public void onBookmarkAdded(Long memberId, Long fontId) {
+        update(memberId, bitmap -> bitmap.addLong(fontId));
+    }
+
+    public void onBookmarkRemoved(Long memberId, Long fontId) {
+        update(memberId, bitmap -> bitmap.removeLong(fontId));
+    }
+
+    private void update(Long memberId, Consumer<Roaring64NavigableMap> mutation) {
+        bookmarkBitmapStorage.evict(memberId);
+        localBitmaps.asMap().computeIfPresent(memberId, (key, current) -> {
+            Roaring64NavigableMap updated = new Roaring64NavigableMap();
+            updated.or(current);
+            mutation.accept(updated);
+            return updated;
+        });
+    }
+
+    private Roaring64NavigableMap getBitmap(Long memberId) {
+        return localBitmaps.get(memberId, this::loadBitmap);
+    }
+
+    private Roaring64NavigableMap loadBitmap(Long memberId) {
+        return bookmarkBitmapStorage.find(memberId).orElseGet(() -> {
+            // DB보다 먼저 읽어야 적재 도중 커밋된 변경이 있으면 저장을 건너뛴다.
+            long version = bookmarkBitmapStorage.findVersion(memberId);
+            Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+            primaryReads.read(() -> bookmarkRepository.findAllFontIdsByMemberId(memberId)).forEach(bitmap::addLong);
+            bitmap.runOptimize();
+            bookmarkBitmapStorage.save(memberId, bitmap, version);
+            log.debug("Service detail: Loaded bookmark bitmap for member ID: {} with {} fonts", memberId, bitmap.getLongCardinality());
+            return bitmap;
+        });
+    }
+}
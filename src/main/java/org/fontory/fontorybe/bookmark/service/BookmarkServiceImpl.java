@@ -7,18 +7,23 @@ import org.fontory.fontorybe.bookmark.controller.port.BookmarkService;
 import org.fontory.fontorybe.bookmark.domain.Bookmark;
 import org.fontory.fontorybe.bookmark.domain.exception.BookmarkAlreadyException;
 import org.fontory.fontorybe.bookmark.domain.exception.BookmarkNotFoundException;
+import org.fontory.fontorybe.bookmark.service.dto.BookmarkedFontCard;
 import org.fontory.fontorybe.bookmark.service.port.BookmarkRepository;
+import org.fontory.fontorybe.common.application.TransactionCallbacks;
 import org.fontory.fontorybe.file.application.port.CloudStorageService;
 import org.fontory.fontorybe.font.controller.dto.FontResponse;
+import org.fontory.fontorybe.font.controller.dto.SliceResponse;
 import org.fontory.fontorybe.font.controller.port.FontService;
 import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.FontDetailCache;
+import org.fontory.fontorybe.font.service.port.FontLeaderboard;
 import org.fontory.fontorybe.font.service.port.FontRepository;
 import org.fontory.fontorybe.member.controller.port.MemberLookupService;
 import org.fontory.fontorybe.member.domain.Member;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -28,39 +33,60 @@ import org.springframework.util.StringUtils;
 public class BookmarkServiceImpl implements BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final FontRepository fontRepository;
+    private final FontLeaderboard fontLeaderboard;
+    private final FontDetailCache fontDetailCache;
     private final MemberLookupService memberLookupService;
     private final FontService fontService;
     private final CloudStorageService cloudStorageService;
-
+    private final BookmarkTotalCounter bookmarkTotalCounter;
+    private final BookmarkMembershipCache bookmarkMembershipCache;
+
+    /**
+     * 중복 여부는 (member_id, font_id) 유니크 제약으로 판단하고(INSERT IGNORE),
+     * 실제로 추가된 경우에만 bookmark_count를 상대값(+1)으로 증가시켜 동시 요청에도 개수가 정확하다.
+     * 랭킹에는 DONE 폰트만 올라가므로 제작 중/실패한 폰트의 점수는 올리지 않는다.
+     */
     @Override
     @Transactional
     public Bookmark create(Long memberId, Long fontId) {
-        if (bookmarkRepository.existsByMemberIdAndFontId(memberId, fontId)) {
-            throw new BookmarkAlreadyException();
-        }
-
-        Member member = memberLookupService.getOrThrowById(memberId);
         Font font = fontService.getOrThrowById(fontId);
 
-        font.increaseBookmarkCount();
-        fontRepository.save(font);
-
-        return bookmarkRepository.save(Bookmark.from(memberId, fontId));
+        if (!bookmarkRepository.insertIfAbsent(memberId, fontId)) {
+            throw new BookmarkAlreadyException();
+        }
+        fontRepository.addBookmarkCount(fontId, 1);
+        TransactionCallbacks.afterCommit(() -> {
+            if (font.getStatus() == FontStatus.DONE) {
+                fontLeaderboard.incrementScore(font, 1);
+            }
+            fontDetailCache.invalidate(fontId);
+            bookmarkMembershipCache.onBookmarkAdded(memberId, fontId);
+        });
+
+        return bookmarkRepository.findByMemberIdAndFontId(memberId, fontId)
+                .orElseThrow(BookmarkNotFoundException::new);
     }
 
     @Override
     @Transactional
     public BookmarkDeleteResponse delete(Long memberId, Long fontId) {
-        Member member = memberLookupService.getOrThrowById(memberId);
         Font font = fontService.getOrThrowById(fontId);
 
         Bookmark bookmark = bookmarkRepository.findByMemberIdAndFontId(memberId, fontId)
                 .orElseThrow(BookmarkNotFoundException::new);
 
-        bookmarkRepository.deleteById(bookmark.getId());
-
-        font.decreaseBookmarkCount();
-        fontRepository.save(font);
+        // 동시에 들어온 삭제 요청 중 실제로 행을 지운 요청만 개수를 감소시킨다.
+        if (!bookmarkRepository.deleteByMemberIdAndFontId(memberId, fontId)) {
+            throw new BookmarkNotFoundException();
+        }
+        fontRepository.addBookmarkCount(fontId, -1);
+        TransactionCallbacks.afterCommit(() -> {
+            if (font.getStatus() == FontStatus.DONE) {
+                fontLeaderboard.incrementScore(font, -1);
+            }
+            fontDetailCache.invalidate(fontId);
+            bookmarkMembershipCache.onBookmarkRemoved(memberId, fontId);
+        });
 
         return BookmarkDeleteResponse.from(bookmark.getId());
     }
@@ -70,24 +96,33 @@ public class BookmarkServiceImpl implements BookmarkService {
     public Page<FontResponse> getBookmarkedFonts(Long memberId, int page, int size, String keyword) {
         Member member = memberLookupService.getOrThrowById(memberId);
 
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
-        Page<Bookmark> bookmarks = bookmarkRepository.findAllByMemberId(memberId, pageRequest);
+        Page<BookmarkedFontCard> cards = bookmarkRepository.findBookmarkedFontCards(
+                member.getId(), FontStatus.DONE, keywordOrNull(keyword), PageRequest.of(page, size));
 
-        List<Long> fontIds = bookmarks.stream()
-                .map(Bookmark::getFontId)
-                .toList();
+        return cards.map(this::toFontResponse);
+    }
 
-        List<Font> fonts = fontRepository.findAllByIdIn(fontIds);
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<FontResponse> getBookmarkedFontSlice(Long memberId, int page, int size, String keyword, boolean withTotal) {
+        String filter = keywordOrNull(keyword);
+        Slice<BookmarkedFontCard> cards = bookmarkRepository.findBookmarkedFontCardSlice(
+                memberId, FontStatus.DONE, filter, PageRequest.of(page, size));
 
-        List<FontResponse> filtered = fonts.stream()
-                .filter(font -> !StringUtils.hasText(keyword) || font.getName().contains(keyword))
-                .map(font -> {
-                    Member writer = memberLookupService.getOrThrowById(font.getMemberId());
-                    String woff2Url = cloudStorageService.getWoff2Url(font.getKey());
-                    return FontResponse.from(font, true, writer.getNickname(), woff2Url);
-                })
+        List<FontResponse> content = cards.stream()
+                .map(this::toFontResponse)
                 .toList();
 
-        return new PageImpl<>(filtered, pageRequest, bookmarks.getTotalElements());
+        // 근사 전체 개수는 회원의 전체 북마크 수라 키워드로 거른 결과와 맞지 않으므로 검색 시에는 돌려주지 않는다.
+        Long total = withTotal && filter == null ? bookmarkTotalCounter.getBookmarkCountByMember(memberId) : null;
+        return SliceResponse.of(content, cards, total);
+    }
+
+    private FontResponse toFontResponse(BookmarkedFontCard card) {
+        return card.toFontResponse(cloudStorageService.getWoff2Url(card.getKey()));
+    }
+
+    private String keywordOrNull(String keyword) {
+        return StringUtils.hasText(keyword) ? keyword : null;
     }
 }
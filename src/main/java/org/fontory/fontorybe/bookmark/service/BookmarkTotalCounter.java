@@ -0,0 +1,29 @@
+package org.fontory.fontorybe.bookmark.service;
+
+import java.time.Duration;
+import org.fontory.fontorybe.bookmark.service.port.BookmarkRepository;
+import org.fontory.fontorybe.common.application.ApproximateCountCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookmarkTotalCounter {
+    private final BookmarkRepository bookmarkRepository;
+    private final ApproximateCountCache<Long> bookmarkCounts;
+
+    public BookmarkTotalCounter(BookmarkRepository bookmarkRepository,
+                                @Value("${approximate-count.refresh-interval-ms}") long refreshIntervalMs) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.bookmarkCounts = new ApproximateCountCache<>(Duration.ofMillis(refreshIntervalMs));
+    }
+
+    public long getBookmarkCountByMember(Long memberId) {
+        return bookmarkCounts.get(memberId, bookmarkRepository::countByMemberId);
+    }
+
+    @Scheduled(fixedDelayString = "${approximate-count.refresh-interval-ms}")
+    public void evictExpired() {
+        bookmarkCounts.evictExpired();
+    }
+}
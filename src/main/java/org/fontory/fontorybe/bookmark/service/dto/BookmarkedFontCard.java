@@ -0,0 +1,33 @@
+package org.fontory.fontorybe.bookmark.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.fontory.fontorybe.font.controller.dto.FontResponse;
+
+/**
+ * 북마크 목록 조회 결과 (bookmark, font, member 조인 결과를 그대로 담는다)
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkedFontCard {
+    private Long id;
+    private String name;
+    private String example;
+    private Long downloadCount;
+    private Long bookmarkCount;
+    private String key;
+    private String writerName;
+
+    public FontResponse toFontResponse(String woff2Url) {
+        return FontResponse.builder()
+                .id(id)
+                .name(name)
+                .example(example)
+                .downloadCount(downloadCount)
+                .bookmarkCount(bookmarkCount)
+                .isBookmarked(true)
+                .writerName(writerName)
+                .woff(woff2Url)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package org.fontory.fontorybe.bookmark.service.port;
+
+import java.util.Optional;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+/**
+ * 회원별 북마크 폰트 ID 비트맵의 공유 저장소 (인스턴스 간 공유 계층)
+ * 비트맵은 회원별 버전과 함께 관리한다. evict는 버전을 올리고, save는 DB를 읽기 전에 얻은 버전이 그대로일 때만 저장해
+ * 적재 도중 커밋된 변경을 이전 비트맵으로 덮어쓰지 않는다.
+ */
+public interface BookmarkBitmapStorage {
+    Optional<Roaring64NavigableMap> find(Long memberId);
+
+    /**
+     * 버전을 읽지 못하면 음수를 돌려주며, 이 값으로는 저장되지 않는다.
+     */
+    long findVersion(Long memberId);
+    void save(Long memberId, Roaring64NavigableMap bitmap, long version);
+    void evict(Long memberId);
+}
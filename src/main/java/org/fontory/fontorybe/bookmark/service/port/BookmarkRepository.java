@@ -1,14 +1,25 @@
 package org.fontory.fontorybe.bookmark.service.port;
 
+import java.util.List;
 import java.util.Optional;
 import org.fontory.fontorybe.bookmark.domain.Bookmark;
+import org.fontory.fontorybe.bookmark.service.dto.BookmarkedFontCard;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 public interface BookmarkRepository {
     Bookmark save(Bookmark bookmark);
+    boolean insertIfAbsent(Long memberId, Long fontId);
+    boolean deleteByMemberIdAndFontId(Long memberId, Long fontId);
+    int recountFontBookmarkCounts(Long fromFontId, Long toFontId);
     boolean existsByMemberIdAndFontId(Long memberId, Long fontId);
     Optional<Bookmark> findByMemberIdAndFontId(Long memberId, Long fontId);
+    List<Long> findAllFontIdsByMemberId(Long memberId);
     void deleteById(Long id);
     Page<Bookmark> findAllByMemberId(Long memberId, PageRequest pageRequest);
+    Page<BookmarkedFontCard> findBookmarkedFontCards(Long memberId, FontStatus status, String keyword, PageRequest pageRequest);
+    Slice<BookmarkedFontCard> findBookmarkedFontCardSlice(Long memberId, FontStatus status, String keyword, PageRequest pageRequest);
+    long countByMemberId(Long memberId);
 }
@@ -3,6 +3,7 @@ package org.fontory.fontorybe.common.adapter.inbound;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.fontory.fontorybe.authentication.domain.exception.AuthenticationRequiredException;
@@ -18,9 +19,13 @@ import org.fontory.fontorybe.file.domain.exception.InvalidMultipartRequestExcept
 import org.fontory.fontorybe.file.domain.exception.SingleFileRequiredException;
 import org.fontory.fontorybe.font.domain.exception.FontContainsBadWordException;
 import org.fontory.fontorybe.font.domain.exception.FontDuplicateNameExistsException;
+import org.fontory.fontorybe.font.domain.exception.FontGenerationOverloadedException;
+import org.fontory.fontorybe.font.domain.exception.FontGenerationQuotaExceededException;
+import org.fontory.fontorybe.font.domain.exception.FontInvalidCursorException;
 import org.fontory.fontorybe.font.domain.exception.FontInvalidStatusException;
 import org.fontory.fontorybe.font.domain.exception.FontNotFoundException;
 import org.fontory.fontorybe.font.domain.exception.FontOwnerMismatchException;
+import org.fontory.fontorybe.font.domain.exception.FontProgressStreamLimitExceededException;
 import org.fontory.fontorybe.font.domain.exception.FontSQSProduceExcepetion;
 import org.fontory.fontorybe.member.domain.exception.MemberAlreadyDisabledException;
 import org.fontory.fontorybe.member.domain.exception.MemberAlreadyExistException;
@@ -30,12 +35,15 @@ import org.fontory.fontorybe.member.domain.exception.MemberDuplicateNameExistsEx
 import org.fontory.fontorybe.member.domain.exception.MemberNotFoundException;
 import org.fontory.fontorybe.member.domain.exception.MemberOwnerMismatchException;
 import org.fontory.fontorybe.provide.domain.exception.ProvideNotFoundException;
+import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @RestControllerAdvice
@@ -52,6 +60,16 @@ public class GlobalExceptionHandler {
         return new BaseErrorResponse(message);
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public BaseErrorResponse handlerMethodValidationException(HandlerMethodValidationException e) {
+        String message = e.getAllErrors()
+                .stream()
+                .map(MessageSourceResolvable::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+        return new BaseErrorResponse(message);
+    }
+
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler({MemberNotFoundException.class, FontNotFoundException.class, BookmarkNotFoundException.class})
     public BaseErrorResponse notFoundException(Exception e) {
@@ -142,6 +160,26 @@ public class GlobalExceptionHandler {
         return new BaseErrorResponse(e.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(FontProgressStreamLimitExceededException.class)
+    public BaseErrorResponse fontProgressStreamLimitExceededException(FontProgressStreamLimitExceededException e) {
+        return new BaseErrorResponse(e.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(FontGenerationQuotaExceededException.class)
+    public BaseErrorResponse fontGenerationQuotaExceededException(FontGenerationQuotaExceededException e, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return new BaseErrorResponse(e.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(FontGenerationOverloadedException.class)
+    public BaseErrorResponse fontGenerationOverloadedException(FontGenerationOverloadedException e, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return new BaseErrorResponse(e.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(SingleFileRequiredException.class)
     public BaseErrorResponse singleFileRequiredException(SingleFileRequiredException e) {
@@ -172,6 +210,12 @@ public class GlobalExceptionHandler {
         return new BaseErrorResponse(e.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(FontInvalidCursorException.class)
+    public BaseErrorResponse fontInvalidCursorException(FontInvalidCursorException e) {
+        return new BaseErrorResponse(e.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(FileNotFoundException.class)
     public BaseErrorResponse fileNotFoundException(FileNotFoundException e) {
@@ -0,0 +1,294 @@
+package org.fontory.fontorybe.common.adapter.inbound.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.authentication.domain.UserPrincipal;
+import org.fontory.fontorybe.common.application.IdempotencyRecord;
+import org.fontory.fontorybe.common.application.IdempotencyStorage;
+import org.fontory.fontorybe.common.domain.BaseErrorResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청을 회원별로 한 번만 실행한다. (대상: idempotency.endpoints)
+ * 같은 키로 다시 오면 저장한 응답을 그대로 돌려주고(Idempotent-Replayed: true), 첫 요청이 처리 중이면 끝날 때까지 기다린다.
+ * 같은 키에 다른 요청(메서드, 경로, 본문 지문이 다름)이 오면 422, 기다려도 끝나지 않으면 409로 거절한다.
+ * 5xx와 429 응답은 저장하지 않아 같은 키로 다시 시도할 수 있다.
+ * 인증 정보가 필요하므로 Spring Security 필터 이후에 실행된다.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final IdempotencyStorage idempotencyStorage;
+    private final ObjectMapper objectMapper;
+    private final List<Endpoint> endpoints;
+    private final long waitTimeoutMs;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyStorage idempotencyStorage,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.endpoints}") List<String> endpoints,
+                             @Value("${idempotency.wait-timeout-ms}") long waitTimeoutMs) {
+        this.idempotencyStorage = idempotencyStorage;
+        this.objectMapper = objectMapper;
+        this.endpoints = endpoints.stream()
+                .map(Endpoint::parse)
+                .toList();
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || endpoints.stream().noneMatch(endpoint -> endpoint.matches(request, pathMatcher));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long memberId = currentMemberId();
+        if (memberId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+
+        HttpServletRequest cachedRequest = isMultipart(request) ? request : new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+        String key = memberId + ":" + idempotencyKey;
+
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        while (!idempotencyStorage.start(key, fingerprint)) {
+            IdempotencyRecord record = idempotencyStorage.find(key).orElse(null);
+            if (record != null && !record.fingerprint().equals(fingerprint)) {
+                log.warn("Idempotency-Key {} reused with a different request by member ID: {}", idempotencyKey, memberId);
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used for a different request.");
+                return;
+            }
+            if (record != null && record.isCompleted()) {
+                log.info("Replaying response for Idempotency-Key {} of member ID: {}", idempotencyKey, memberId);
+                replay(response, record);
+                return;
+            }
+            if (System.currentTimeMillis() >= deadline || !sleep()) {
+                writeError(response, HttpStatus.CONFLICT, "A request with the same Idempotency-Key is still in progress.");
+                return;
+            }
+        }
+
+        execute(cachedRequest, response, filterChain, key, fingerprint);
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, cachedResponse);
+            int status = cachedResponse.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                idempotencyStorage.complete(key, new IdempotencyRecord(fingerprint, status, cachedResponse.getContentType(),
+                        new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8)));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStorage.release(key);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.status());
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.body() != null) {
+            response.getOutputStream().write(record.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), new BaseErrorResponse(message));
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getId();
+        }
+        return null;
+    }
+
+    private boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase().startsWith("multipart/");
+    }
+
+    /**
+     * 메서드, 경로, 쿼리와 본문으로 지문을 만든다. multipart는 파트별 이름, 파일명, 내용을 쓴다.
+     * (컨테이너가 파싱한 파트는 캐시되므로 이후 컨트롤러에서 다시 읽을 수 있다)
+     */
+    private String fingerprint(HttpServletRequest request) throws IOException, ServletException {
+        MessageDigest digest = sha256();
+        update(digest, request.getMethod());
+        update(digest, request.getRequestURI());
+        update(digest, request.getQueryString());
+        if (request instanceof CachedBodyRequest cachedBodyRequest) {
+            digest.update(cachedBodyRequest.body);
+        } else {
+            for (Part part : request.getParts()) {
+                update(digest, part.getName());
+                update(digest, part.getSubmittedFileName());
+                try (InputStream in = part.getInputStream()) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Endpoint(String method, String pattern) {
+
+        static Endpoint parse(String value) {
+            String[] tokens = value.trim().split("\\s+", 2);
+            if (tokens.length != 2) {
+                throw new IllegalArgumentException("Idempotency endpoint must be 'METHOD /path': " + value);
+            }
+            return new Endpoint(tokens[0], tokens[1]);
+        }
+
+        boolean matches(HttpServletRequest request, AntPathMatcher pathMatcher) {
+            return method.equalsIgnoreCase(request.getMethod()) && pathMatcher.match(pattern, request.getRequestURI());
+        }
+    }
+
+    /**
+     * 지문을 만들며 읽은 본문을 컨트롤러가 다시 읽을 수 있게 보관한다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 메모리에 있으므로 등록 즉시 읽을 수 있다고 알리고, 다 읽었으면 완료를 알린다.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.fontory.fontorybe.common.adapter.outbound;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.common.application.IdempotencyRecord;
+import org.fontory.fontorybe.common.application.IdempotencyStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 선점은 SET NX로 하고 처리 중 기록은 짧은 TTL(lock-ttl-ms)을 둬, 처리 도중 인스턴스가 죽어도 키가 영구히 묶이지 않게 한다.
+ * Redis 장애 시에는 선점에 성공한 것으로 보고 멱등 처리 없이 요청을 실행한다.
+ */
+@Slf4j
+@Repository
+public class RedisIdempotencyStorage implements IdempotencyStorage {
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+
+    public RedisIdempotencyStorage(RedisTemplate<String, String> redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${idempotency.ttl-ms}") long ttlMs,
+                                   @Value("${idempotency.lock-ttl-ms}") long lockTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+    }
+
+    @Override
+    public boolean start(String key, String fingerprint) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + key, serialize(IdempotencyRecord.inProgress(fingerprint)), lockTtl));
+        } catch (DataAccessException e) {
+            log.warn("Failed to claim idempotency key {}, proceeding without it: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return value == null ? Optional.empty() : Optional.of(objectMapper.readValue(value, IdempotencyRecord.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read idempotency key {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, serialize(record), ttl);
+        } catch (DataAccessException e) {
+            log.warn("Failed to save idempotent response for key {}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + key);
+        } catch (DataAccessException e) {
+            log.warn("Failed to release idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    private String serialize(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotency record", e);
+        }
+    }
+}
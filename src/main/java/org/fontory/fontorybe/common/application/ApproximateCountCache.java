@@ -0,0 +1,46 @@
+package org.fontory.fontorybe.common.application;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 목록 API의 총 개수를 COUNT(*) 없이 제공하기 위한 근사 카운터
+ * 키별로 마지막으로 집계한 값을 ttl 동안 재사용한다.
+ */
+public class ApproximateCountCache<K> {
+    private final Map<K, CachedCount> counts = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public ApproximateCountCache(Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public long get(K key, ToLongFunction<K> loader) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && !cached.isExpired(now, ttlMillis)) {
+            return cached.count();
+        }
+
+        long count = loader.applyAsLong(key);
+        counts.put(key, new CachedCount(count, now));
+        return count;
+    }
+
+    public void put(K key, long count) {
+        counts.put(key, new CachedCount(count, System.currentTimeMillis()));
+    }
+
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        counts.entrySet().removeIf(entry -> entry.getValue().isExpired(now, ttlMillis));
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+        boolean isExpired(long now, long ttlMillis) {
+            return now - loadedAt >= ttlMillis;
+        }
+    }
+}
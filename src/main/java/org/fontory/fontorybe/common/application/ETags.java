@@ -0,0 +1,24 @@
+package org.fontory.fontorybe.common.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 응답에 영향을 주는 값들로 강한 ETag를 만든다.
+ * 응답 본문을 만들거나 직렬화하지 않고도 변경 여부를 판단하기 위해 사용한다.
+ */
+public final class ETags {
+    private static final String DELIMITER = "|";
+
+    private ETags() {
+    }
+
+    public static String of(Object... parts) {
+        StringJoiner joiner = new StringJoiner(DELIMITER);
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,16 @@
+package org.fontory.fontorybe.common.application;
+
+/**
+ * Idempotency-Key로 처리한 요청의 지문과 응답
+ * status가 없으면 첫 요청이 아직 처리 중이다.
+ */
+public record IdempotencyRecord(String fingerprint, Integer status, String contentType, String body) {
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, null, null, null);
+    }
+
+    public boolean isCompleted() {
+        return status != null;
+    }
+}
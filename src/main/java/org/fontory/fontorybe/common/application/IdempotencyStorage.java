@@ -0,0 +1,19 @@
+package org.fontory.fontorybe.common.application;
+
+import java.util.Optional;
+
+public interface IdempotencyStorage {
+    /**
+     * 키가 없을 때만 처리 중으로 기록한다. 이미 다른 요청이 선점했으면 false
+     */
+    boolean start(String key, String fingerprint);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    void complete(String key, IdempotencyRecord record);
+
+    /**
+     * 응답을 저장하지 않을 때(5xx 등) 선점을 풀어 같은 키로 다시 시도할 수 있게 한다.
+     */
+    void release(String key);
+}
@@ -0,0 +1,39 @@
+package org.fontory.fontorybe.common.application;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 복제 지연과 무관하게 기본 DB에서 읽어야 하는 조회 (공유 캐시 적재 등)
+ * 호출한 트랜잭션이 이미 복제본 커넥션을 잡았을 수 있으므로 새 readOnly 트랜잭션에서 실행하고,
+ * 그 동안 라우팅 데이터소스가 기본 DB를 고르도록 표시한다. (쓰기로 라우팅하지 않으므로 read-your-writes 기록도 남기지 않는다)
+ */
+@Component
+public class PrimaryReads {
+    private static final ThreadLocal<Boolean> REQUESTED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        boolean previous = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return transactionTemplate.execute(status -> query.get());
+        } finally {
+            REQUESTED.set(previous);
+        }
+    }
+
+    public static boolean isRequested() {
+        return REQUESTED.get();
+    }
+}
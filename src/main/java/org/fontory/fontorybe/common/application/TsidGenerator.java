@@ -0,0 +1,61 @@
+package org.fontory.fontorybe.common.application;
+
+import java.time.Clock;
+
+/**
+ * 시간순으로 정렬되는 ID 생성기 (TSID, 초 단위 시각 32비트 | 노드 6비트 | 순번 15비트)
+ * JavaScript Number로도 손실 없이 다룰 수 있도록 2^53 미만의 값만 만든다.
+ * 같은 초의 순번을 모두 쓰거나 시계가 뒤로 가면 마지막 시각을 이어서 사용해 단조 증가를 유지한다.
+ * 노드 ID는 인스턴스마다 달라야 하며 id.tsid.node-id로 설정한다.
+ */
+public final class TsidGenerator {
+    public static final int MAX_NODE_ID = (1 << 6) - 1;
+
+    /**
+     * 2025-01-01T00:00:00Z
+     */
+    private static final long EPOCH_SECONDS = 1_735_689_600L;
+    private static final int SEQUENCE_BITS = 15;
+    private static final int NODE_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + 6;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile TsidGenerator instance = new TsidGenerator(0, Clock.systemUTC());
+
+    private final long nodeId;
+    private final Clock clock;
+    private long lastSeconds = -1;
+    private long sequence;
+
+    public TsidGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("TSID node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 엔티티 ID 생성(Hibernate)과 직접 INSERT가 같은 생성기를 쓰도록 전역 인스턴스를 교체한다.
+     */
+    public static TsidGenerator configure(int nodeId) {
+        instance = new TsidGenerator(nodeId, Clock.systemUTC());
+        return instance;
+    }
+
+    public static TsidGenerator getInstance() {
+        return instance;
+    }
+
+    public synchronized long nextId() {
+        long seconds = clock.millis() / 1000 - EPOCH_SECONDS;
+        if (seconds > lastSeconds) {
+            lastSeconds = seconds;
+            sequence = 0;
+        } else if (++sequence > MAX_SEQUENCE) {
+            lastSeconds++;
+            sequence = 0;
+        }
+        return (lastSeconds << TIMESTAMP_SHIFT) | (nodeId << NODE_SHIFT) | sequence;
+    }
+}
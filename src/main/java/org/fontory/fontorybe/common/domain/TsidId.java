@@ -0,0 +1,18 @@
+package org.fontory.fontorybe.common.domain;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * INSERT 전에 애플리케이션에서 TSID를 할당한다.
+ * IDENTITY와 달리 INSERT마다 생성된 키를 돌려받을 필요가 없어 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface TsidId {
+}
@@ -0,0 +1,19 @@
+package org.fontory.fontorybe.config;
+
+import org.fontory.fontorybe.common.application.TsidGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public TsidGenerator tsidGenerator(@Value("${id.tsid.node-id:}") String nodeId) {
+        if (!StringUtils.hasText(nodeId)) {
+            throw new IllegalStateException("id.tsid.node-id is not set. Set TSID_NODE_ID to a value (0 ~ 63) unique to this instance.");
+        }
+        return TsidGenerator.configure(Integer.parseInt(nodeId.trim()));
+    }
+}
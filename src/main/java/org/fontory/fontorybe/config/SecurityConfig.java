@@ -1,5 +1,6 @@
 package org.fontory.fontorybe.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.fontory.fontorybe.authentication.adapter.inbound.CustomOauth2FailureHandler;
 import org.fontory.fontorybe.authentication.adapter.inbound.CustomOauth2SuccessHandler;
@@ -102,7 +103,8 @@ public class SecurityConfig {
     public SecurityFilterChain fontCreateServerSecurityFilterChain(HttpSecurity http) throws Exception {
         return http
                 .securityMatcher(new OrRequestMatcher(
-                        new AntPathRequestMatcher("/fonts/progress/{fontId:[\\d]+}", HttpMethod.PATCH.name())
+                        new AntPathRequestMatcher("/fonts/progress/{fontId:[\\d]+}", HttpMethod.PATCH.name()),
+                        new AntPathRequestMatcher("/fonts/progress", HttpMethod.PATCH.name())
                 ))
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .sessionManagement(AbstractHttpConfigurer::disable)
@@ -135,11 +137,14 @@ public class SecurityConfig {
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(restAuthenticationEntryPoint))
                 .addFilterAfter(new JwtAuthenticationFilter(jwtTokenProvider, authService, cookieUtils), ExceptionTranslationFilter.class)
                 .authorizeHttpRequests(auth -> auth
+                        // SSE(/fonts/progress/stream) 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가되었다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증이 없어도 되는 (@Login(required= false) 가능) 요청 엔드포인트
                         .requestMatchers(HttpMethod.GET, "/fonts/{fontId:[\\d]+}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/fonts").permitAll()
                         .requestMatchers(HttpMethod.GET, "/fonts/{fontId:[\\d]+}/others").permitAll()
                         .requestMatchers(HttpMethod.GET, "/fonts/popular").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/fonts/autocomplete").permitAll()
                         // 그 외엔 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -3,6 +3,7 @@ package org.fontory.fontorybe.config;
 import java.util.List;
 
 import org.fontory.fontorybe.authentication.adapter.inbound.resolver.LoginMemberArgumentResolver;
+import org.fontory.fontorybe.common.adapter.inbound.filter.IdempotencyFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
@@ -50,6 +51,7 @@ public class WebConfig implements WebMvcConfigurer {
         ));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("ETag", "Retry-After", IdempotencyFilter.REPLAYED_HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,45 @@
+package org.fontory.fontorybe.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.fontory.fontorybe.authentication.domain.UserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 최근에 쓰기 트랜잭션을 커밋한 회원 (read-your-writes)
+ * 쓰기 직후 복제 지연 때문에 자신이 쓴 데이터가 안 보이는 일이 없도록, 창(window) 동안은 해당 회원의 조회를 기본 DB로 보낸다.
+ * 인스턴스 로컬 기록이므로 다른 인스턴스로 간 요청은 복제 지연 임계값(max-lag-seconds)으로만 보호된다.
+ */
+public class RecentWriterRegistry {
+    private static final long MAX_TRACKED_MEMBERS = 100_000;
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public RecentWriterRegistry(long stickyWindowMs) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_MEMBERS)
+                .expireAfterWrite(Duration.ofMillis(stickyWindowMs))
+                .build();
+    }
+
+    public void markWrite(Long memberId) {
+        recentWriters.put(memberId, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(Long memberId) {
+        return recentWriters.getIfPresent(memberId) != null;
+    }
+
+    /**
+     * 인증된 회원 요청이 아니면 null
+     */
+    public static Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+package org.fontory.fontorybe.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제본의 복제 지연(Seconds_Behind_Master)을 주기적으로 확인한다.
+ * 지연이 임계값을 넘거나, 복제가 멈췄거나, 확인에 실패하면 복제본을 쓰지 않는다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final long UNKNOWN = -1;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+    private volatile long lagSeconds = UNKNOWN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .description("Replica lag, -1 when unknown or replication is stopped")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms}")
+    public void refresh() {
+        long previous = lagSeconds;
+        lagSeconds = readLagSeconds();
+        if (isAvailable(previous) != isReplicaAvailable()) {
+            log.warn("Replica {}: lag {}s (threshold {}s)",
+                    isReplicaAvailable() ? "back in rotation" : "taken out of rotation", lagSeconds, maxLagSeconds);
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return isAvailable(lagSeconds);
+    }
+
+    private boolean isAvailable(long lag) {
+        return lag != UNKNOWN && lag <= maxLagSeconds;
+    }
+
+    private long readLagSeconds() {
+        try {
+            List<Map<String, Object>> status = replicaJdbcTemplate.queryForList("SHOW SLAVE STATUS");
+            if (status.isEmpty()) {
+                return UNKNOWN;
+            }
+            Object seconds = status.get(0).get("Seconds_Behind_Master");
+            return seconds instanceof Number number ? number.longValue() : UNKNOWN;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read replica lag: {}", e.getMessage());
+            return UNKNOWN;
+        }
+    }
+}
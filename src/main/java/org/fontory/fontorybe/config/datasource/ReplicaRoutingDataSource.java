@@ -0,0 +1,86 @@
+package org.fontory.fontorybe.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.fontory.fontorybe.common.application.PrimaryReads;
+import org.fontory.fontorybe.common.application.TransactionCallbacks;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 그 외는 기본 DB로 보낸다.
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 쓰는 시점에 정해지므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ * PrimaryReads로 요청한 조회는 readOnly여도 기본 DB로 보낸다.
+ * 선택 결과는 datasource.routing 카운터(pool, reason 태그)로 남긴다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Pool {
+        PRIMARY, REPLICA
+    }
+
+    enum Reason {
+        WRITE(Pool.PRIMARY),
+        STICKY(Pool.PRIMARY),
+        PRIMARY_READ(Pool.PRIMARY),
+        REPLICA_LAG(Pool.PRIMARY),
+        READ(Pool.REPLICA);
+
+        private final Pool pool;
+
+        Reason(Pool pool) {
+            this.pool = pool;
+        }
+    }
+
+    private final RecentWriterRegistry recentWriterRegistry;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Map<Reason, Counter> routingCounters = new EnumMap<>(Reason.class);
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    RecentWriterRegistry recentWriterRegistry,
+                                    ReplicaLagMonitor replicaLagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.recentWriterRegistry = recentWriterRegistry;
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(Pool.PRIMARY, primary, Pool.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        for (Reason reason : Reason.values()) {
+            routingCounters.put(reason, Counter.builder("datasource.routing")
+                    .tag("pool", reason.pool.name().toLowerCase())
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Reason reason = route();
+        routingCounters.get(reason).increment();
+        return reason.pool;
+    }
+
+    private Reason route() {
+        Long memberId = RecentWriterRegistry.currentMemberId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (memberId != null) {
+                TransactionCallbacks.afterCommit(() -> recentWriterRegistry.markWrite(memberId));
+            }
+            return Reason.WRITE;
+        }
+        if (PrimaryReads.isRequested()) {
+            return Reason.PRIMARY_READ;
+        }
+        if (memberId != null && recentWriterRegistry.wroteRecently(memberId)) {
+            return Reason.STICKY;
+        }
+        if (!replicaLagMonitor.isReplicaAvailable()) {
+            return Reason.REPLICA_LAG;
+        }
+        return Reason.READ;
+    }
+}
@@ -0,0 +1,14 @@
+package org.fontory.fontorybe.font;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 제작 요청을 작업 큐로 보내지 못하고 포기한 폰트
+ */
+@Getter
+@RequiredArgsConstructor
+public class FontRequestAbandonedEvent {
+    private final List<Long> fontIds;
+}
@@ -8,6 +8,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,18 +19,25 @@ import org.fontory.fontorybe.file.adapter.inbound.dto.FileUploadResponse;
 import org.fontory.fontorybe.file.application.annotation.SingleFileUpload;
 import org.fontory.fontorybe.file.application.port.FileService;
 import org.fontory.fontorybe.file.domain.FileUploadResult;
+import org.fontory.fontorybe.font.controller.dto.CursorPageResponse;
+import org.fontory.fontorybe.font.controller.dto.FontAutocompleteResponse;
 import org.fontory.fontorybe.font.controller.dto.FontCreateDTO;
 import org.fontory.fontorybe.font.controller.dto.FontCreateResponse;
 import org.fontory.fontorybe.font.controller.dto.FontDeleteResponse;
 import org.fontory.fontorybe.font.controller.dto.FontDownloadResponse;
 import org.fontory.fontorybe.font.controller.dto.FontPageResponse;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchUpdateDTO;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchUpdateResponse;
 import org.fontory.fontorybe.font.controller.dto.FontProgressResponse;
 import org.fontory.fontorybe.font.controller.dto.FontProgressUpdateDTO;
 import org.fontory.fontorybe.font.controller.dto.FontResponse;
 import org.fontory.fontorybe.font.controller.dto.FontUpdateResponse;
+import org.fontory.fontorybe.font.controller.dto.SliceResponse;
 import org.fontory.fontorybe.font.controller.port.FontService;
 import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.service.dto.FontAdmission;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -39,11 +48,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Tag(name = "폰트 관리", description = "폰트 API")
@@ -51,6 +63,12 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/fonts")
 @RequiredArgsConstructor
 public class FontController {
+    /**
+     * 조회자에 따라 북마크 여부가 달라지므로 공유 캐시에는 저장하지 않고, 매 요청마다 ETag로 재검증하게 한다.
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FontService fontService;
     private final FileService fileService;
     private final ObjectMapper objectMapper;
@@ -83,8 +101,10 @@ public class FontController {
 
         logFileDetails(file, "Font template image upload");
 
+        // 거절될 요청은 템플릿을 업로드하기 전에 돌려보낸다.
+        FontAdmission admission = fontService.admitCreation(memberId);
         FileUploadResult fileDetails = fileService.uploadFontTemplateImage(file, memberId);
-        Font createdFont = fontService.create(memberId, fontCreateDTO, fileDetails);
+        Font createdFont = fontService.create(memberId, fontCreateDTO, fileDetails, admission);
 
         log.info("Response sent: Font created with ID: {}, name: {} and Font template image uploaded successfully, url: {}, fileName: {}, size: {} bytes",
                 createdFont.getId(), createdFont.getName(), fileDetails.getFileUrl(), fileDetails.getFileName(), fileDetails.getSize());
@@ -95,6 +115,14 @@ public class FontController {
                 .body(FontCreateResponse.from(createdFont, fileUploadResponse));
     }
 
+    private ResponseEntity<?> notModified(String eTag) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(REVALIDATE)
+                .eTag(eTag)
+                .build();
+    }
+
     private void logFileDetails(MultipartFile file, String context) {
         log.debug("{} - File details: name='{}', original name='{}', size={} bytes, contentType='{}'",
                 context,
@@ -106,27 +134,73 @@ public class FontController {
 
     @Operation(summary = "폰트 제작 상황")
     @GetMapping("/progress")
-    public ResponseEntity<?> getFontProgress(@Login UserPrincipal userPrincipal) {
+    public ResponseEntity<?> getFontProgress(@Login UserPrincipal userPrincipal, WebRequest webRequest) {
         Long memberId = userPrincipal.getId();
         log.info("Request received: Get font progress for member ID: {}", memberId);
 
+        String eTag = fontService.getFontProgressETag(memberId);
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("Response sent: Font progress not modified for member ID: {}", memberId);
+            return notModified(eTag);
+        }
+
         List<FontProgressResponse> fontsProgress = fontService.getFontProgress(memberId);
         log.info("Response sent: Returned {} fonts for progress display", fontsProgress.size());
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(REVALIDATE)
+                .eTag(eTag)
                 .body(fontsProgress);
     }
 
+    @Operation(summary = "폰트 제작 상황 스트림",
+            description = "제작 상황이 바뀔 때마다 progress 이벤트로 GET /fonts/progress와 같은 목록을 보낸다. "
+                    + "연결 수 상한을 넘으면 503을 반환하므로 GET /fonts/progress 폴링으로 대체한다.")
+    @GetMapping(value = "/progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFontProgress(
+            @Login UserPrincipal userPrincipal,
+            @Parameter(hidden = true) @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        Long memberId = userPrincipal.getId();
+        log.info("Request received: Stream font progress for member ID: {}", memberId);
+
+        SseEmitter emitter = fontService.streamFontProgress(memberId, lastEventId);
+        log.info("Response sent: Font progress stream opened for member ID: {}", memberId);
+        return emitter;
+    }
+
     @Operation(summary = "내가 제작한 폰트")
     @GetMapping("/members")
     public ResponseEntity<?> getFonts(
             @Parameter(description = "페이지 시작 오프셋 (기본값: 0)", example = "0") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 당 엘리먼트 개수 (기본값: 10)", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "페이지 당 엘리먼트 개수 (기본값: 10, 최대 100)", example = "10") @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "size는 1 이상이어야 합니다.") @Max(value = MAX_PAGE_SIZE, message = "size는 100 이하여야 합니다.") int size,
+            @Parameter(description = "커서 기반 조회 시 이전 응답의 nextCursor (첫 페이지는 빈 값)", example = "") @RequestParam(required = false) String cursor,
+            @Parameter(description = "전체 개수 없이 hasNext만 반환 (기본값: false)", example = "false") @RequestParam(defaultValue = "false") boolean slice,
+            @Parameter(description = "slice 조회 시 근사 전체 개수 포함 여부 (기본값: false)", example = "false") @RequestParam(defaultValue = "false") boolean withTotal,
             @Login UserPrincipal userPrincipal
     ) {
         Long memberId = userPrincipal.getId();
-        log.info("Request received: Get fonts for member ID: {}, page: {}, size: {}", memberId, page, size);
+        log.info("Request received: Get fonts for member ID: {}, page: {}, size: {}, cursor: {}", memberId, page, size, cursor);
+
+        if (cursor != null) {
+            CursorPageResponse<FontResponse> fonts = fontService.getFontsByCursor(memberId, size, cursor);
+            log.info("Response sent: Returned {} fonts, hasNext: {}", fonts.getSize(), fonts.isHasNext());
+
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(fonts);
+        }
+
+        if (slice) {
+            SliceResponse<FontResponse> fonts = fontService.getFontSlice(memberId, page, size, withTotal);
+            log.info("Response sent: Returned {} fonts, hasNext: {}", fonts.getContent().size(), fonts.isHasNext());
+
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(fonts);
+        }
 
         Page<FontResponse> fonts = fontService.getFonts(memberId, page, size);
         log.info("Response sent: Returned {} fonts, total pages: {}", fonts.getNumberOfElements(), fonts.getTotalPages());
@@ -141,17 +215,26 @@ public class FontController {
     @GetMapping("/{fontId}")
     public ResponseEntity<?> getFont(
             @PathVariable Long fontId,
-            @Login(required = false) UserPrincipal userPrincipal
+            @Login(required = false) UserPrincipal userPrincipal,
+            WebRequest webRequest
     ) {
         Long memberId = userPrincipal != null ? userPrincipal.getId() : null;
         log.info("Request received: Get font details for font ID: {}", fontId);
 
+        String eTag = fontService.getFontETag(fontId, memberId);
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("Response sent: Font details not modified for font ID: {}", fontId);
+            return notModified(eTag);
+        }
+
         FontResponse font = fontService.getFont(fontId, memberId);
         log.info("Response sent: Font details returned for font ID: {}, name: {}", 
                 fontId, font.getName());
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(REVALIDATE)
+                .eTag(eTag)
                 .body(font);
     }
 
@@ -174,14 +257,36 @@ public class FontController {
     @GetMapping
     public ResponseEntity<?> getFontPage(
             @Parameter(description = "페이지 시작 오프셋 (기본값: 0)", example = "0") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 당 엘리먼트 개수 (기본값: 10)", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "페이지 당 엘리먼트 개수 (기본값: 10, 최대 100)", example = "10") @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "size는 1 이상이어야 합니다.") @Max(value = MAX_PAGE_SIZE, message = "size는 100 이하여야 합니다.") int size,
             @Parameter(description = "정렬 기준 (예: createdAt, downloadCount, bookmarkCount)", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "검색 키워드", example = "") @RequestParam(required = false) String keyword,
+            @Parameter(description = "커서 기반 조회 시 이전 응답의 nextCursor (첫 페이지는 빈 값)", example = "") @RequestParam(required = false) String cursor,
+            @Parameter(description = "전체 개수 없이 hasNext만 반환 (기본값: false)", example = "false") @RequestParam(defaultValue = "false") boolean slice,
+            @Parameter(description = "slice 조회 시 근사 전체 개수 포함 여부 (기본값: false)", example = "false") @RequestParam(defaultValue = "false") boolean withTotal,
             @Login(required = false) UserPrincipal userPrincipal
     ) {
         Long memberId = userPrincipal != null ? userPrincipal.getId() : null;
-        log.info("Request received: Get font page with params - page: {}, size: {}, sortBy: {}, keyword: {}, memberId: {}", 
-                page, size, sortBy, keyword, memberId);
+        log.info("Request received: Get font page with params - page: {}, size: {}, sortBy: {}, keyword: {}, cursor: {}, memberId: {}",
+                page, size, sortBy, keyword, cursor, memberId);
+
+        if (cursor != null) {
+            CursorPageResponse<FontPageResponse> fontPage = fontService.getFontPageByCursor(memberId, size, sortBy, keyword, cursor);
+            log.info("Response sent: Returned {} fonts, hasNext: {}", fontPage.getSize(), fontPage.isHasNext());
+
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(fontPage);
+        }
+
+        if (slice) {
+            SliceResponse<FontPageResponse> fontSlice = fontService.getFontPageSlice(memberId, page, size, sortBy, keyword, withTotal);
+            log.info("Response sent: Returned {} fonts, hasNext: {}", fontSlice.getContent().size(), fontSlice.isHasNext());
+
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .body(fontSlice);
+        }
 
         Page<FontPageResponse> fontPage = fontService.getFontPage(memberId, page, size, sortBy, keyword);
         log.info("Response sent: Returned {} fonts, total pages: {}", fontPage.getNumberOfElements(), fontPage.getTotalPages());
@@ -221,15 +326,23 @@ public class FontController {
 
     @Operation(summary = "인기 폰트 조회")
     @GetMapping("/popular")
-    public ResponseEntity<?> getPopularFonts(@Login(required = false) UserPrincipal userPrincipal) {
+    public ResponseEntity<?> getPopularFonts(@Login(required = false) UserPrincipal userPrincipal, WebRequest webRequest) {
         Long memberId = userPrincipal != null ? userPrincipal.getId() : null;
         log.info("Request received: Get globally popular fonts, requesting member ID: {}", memberId);
 
+        String eTag = fontService.getPopularFontsETag(memberId);
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("Response sent: Globally popular fonts not modified");
+            return notModified(eTag);
+        }
+
         List<FontResponse> fonts = fontService.getPopularFonts(memberId);
         log.info("Response sent: Returned {} globally popular fonts", fonts.size());
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(REVALIDATE)
+                .eTag(eTag)
                 .body(fonts);
     }
 
@@ -243,7 +356,10 @@ public class FontController {
         log.info("Request received: Update font progress ID: {}, request: {}",
                 fontId, toJson(fontProgressUpdateDTO));
 
-        FontUpdateResponse fontUpdateResponse = fontService.updateProgress(fontId, fontProgressUpdateDTO);
+        // 제작 중 보고는 트랜잭션 없이 Redis에만 반영한다.
+        FontUpdateResponse fontUpdateResponse = fontProgressUpdateDTO.getStatus().isTerminal()
+                ? fontService.updateProgress(fontId, fontProgressUpdateDTO)
+                : fontService.reportProgress(fontId, fontProgressUpdateDTO);
         log.info("Response sent: Font ID: {} updated successfully, name: {}",
                 fontUpdateResponse.getId(), fontUpdateResponse.getName());
 
@@ -252,6 +368,22 @@ public class FontController {
                 .body(fontUpdateResponse);
     }
 
+    @Operation(summary = "폰트 상태 일괄 수정",
+            description = "제작 서버가 여러 폰트의 상태를 한 번에 보낸다. 항목별 결과(UPDATED, UNCHANGED, IGNORED, NOT_FOUND)를 반환한다.")
+    @PatchMapping("/progress")
+    public ResponseEntity<?> updateFontProgresses(
+            @RequestBody @Valid FontProgressBatchUpdateDTO fontProgressBatchUpdateDTO
+    ) {
+        log.info("Request received: Update progress of {} fonts", fontProgressBatchUpdateDTO.getUpdates().size());
+
+        List<FontProgressBatchUpdateResponse> results = fontService.updateProgresses(fontProgressBatchUpdateDTO.getUpdates());
+        log.info("Response sent: Returned {} font progress update results", results.size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(results);
+    }
+
     @Operation(summary = "폰트 다운로드")
     @GetMapping("/{fontId}/download")
     public ResponseEntity<?> downloadFont(
@@ -288,4 +420,23 @@ public class FontController {
                 .status(HttpStatus.OK)
                 .body(duplicateNameExist);
     }
+
+    @Operation(
+            summary = "폰트 이름 자동완성",
+            description = "접두사가 일치하는 폰트를 인기순(다운로드 수 + 북마크 수)으로 반환합니다. 초성(예: ㄱㄴ)으로도 검색할 수 있습니다."
+    )
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocompleteFontName(
+            @Parameter(description = "입력 중인 검색어", example = "나눔") @RequestParam String keyword,
+            @Parameter(description = "최대 결과 개수 (기본값: 10, 최대 10)", example = "10") @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("Request received: Autocomplete font name for keyword: {}, size: {}", keyword, size);
+
+        List<FontAutocompleteResponse> suggestions = fontService.getAutocompleteSuggestions(keyword, size);
+        log.info("Response sent: Returned {} autocomplete suggestions", suggestions.size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(suggestions);
+    }
 }
@@ -0,0 +1,19 @@
+package org.fontory.fontorybe.font.controller.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.fontory.fontorybe.font.service.search.FontAutocompleteIndex.Suggestion;
+
+@Getter
+@Builder
+public class FontAutocompleteResponse {
+    private Long id;
+    private String name;
+
+    public static FontAutocompleteResponse from(Suggestion suggestion) {
+        return FontAutocompleteResponse.builder()
+                .id(suggestion.id())
+                .name(suggestion.name())
+                .build();
+    }
+}
@@ -2,7 +2,6 @@ package org.fontory.fontorybe.font.controller.dto;
 
 import lombok.Builder;
 import lombok.Getter;
-import org.fontory.fontorybe.font.domain.Font;
 
 @Getter
 @Builder
@@ -15,17 +14,4 @@ public class FontPageResponse {
     private Long bookmarkCount;
     private boolean isBookmarked;
     private String woff;
-
-    public static FontPageResponse from(Font font, String writerName, boolean isBookmarked, String url) {
-        return FontPageResponse.builder()
-                .id(font.getId())
-                .name(font.getName())
-                .example(font.getExample())
-                .writerName(writerName)
-                .downloadCount(font.getDownloadCount())
-                .bookmarkCount(font.getBookmarkCount())
-                .isBookmarked(isBookmarked)
-                .woff(url)
-                .build();
-    }
 }
@@ -0,0 +1,43 @@
+package org.fontory.fontorybe.font.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FontProgressBatchItem {
+    @NotNull(message = "폰트 ID는 필수입니다.")
+    @Schema(description = "폰트 ID")
+    private Long fontId;
+
+    @NotNull(message = "폰트 상태는 필수입니다.")
+    @Schema(description = "폰트의 상태 (PROGRESS, DONE, FAILED)")
+    private FontStatus status;
+
+    @Min(value = 0, message = "진행률은 0 이상이어야 합니다.")
+    @Max(value = 100, message = "진행률은 100 이하여야 합니다.")
+    @Schema(description = "제작 진행률 (0~100, PROGRESS일 때만 사용)")
+    private Integer percentage;
+
+    @Size(max = 50, message = "제작 단계는 50자 이하로 입력해주세요.")
+    @Schema(description = "제작 단계 (PROGRESS일 때만 사용)")
+    private String stage;
+
+    public FontProgressUpdateDTO toUpdateDTO() {
+        return FontProgressUpdateDTO.builder()
+                .status(status)
+                .percentage(percentage)
+                .stage(stage)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package org.fontory.fontorybe.font.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FontProgressBatchUpdateDTO {
+    @NotEmpty(message = "갱신할 폰트 상태는 1개 이상이어야 합니다.")
+    @Size(max = 500, message = "한 번에 갱신할 수 있는 폰트 상태는 500개 이하입니다.")
+    @Schema(description = "폰트별 상태 (같은 폰트가 여러 번 있으면 마지막 항목을 적용하되, 완료/실패 뒤에 온 제작 중 보고는 무시)")
+    private List<@Valid FontProgressBatchItem> updates;
+}
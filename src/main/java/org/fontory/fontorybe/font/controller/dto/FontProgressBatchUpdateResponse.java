@@ -0,0 +1,42 @@
+package org.fontory.fontorybe.font.controller.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+
+@Getter
+@Builder
+public class FontProgressBatchUpdateResponse {
+    private Long fontId;
+    private Result result;
+    /**
+     * 처리 후 폰트 상태 (NOT_FOUND이면 null)
+     */
+    private FontStatus status;
+
+    public enum Result {
+        /** 상태 또는 진행 정보가 반영됨 */
+        UPDATED,
+        /** 이미 같은 상태/진행 정보라 반영하지 않음 */
+        UNCHANGED,
+        /** 이미 완료/실패한 폰트에 대한 제작 중 보고라 무시함 */
+        IGNORED,
+        NOT_FOUND
+    }
+
+    public static FontProgressBatchUpdateResponse of(Font font, Result result) {
+        return FontProgressBatchUpdateResponse.builder()
+                .fontId(font.getId())
+                .result(result)
+                .status(font.getStatus())
+                .build();
+    }
+
+    public static FontProgressBatchUpdateResponse notFound(Long fontId) {
+        return FontProgressBatchUpdateResponse.builder()
+                .fontId(fontId)
+                .result(Result.NOT_FOUND)
+                .build();
+    }
+}
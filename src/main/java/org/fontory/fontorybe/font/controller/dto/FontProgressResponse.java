@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import org.fontory.fontorybe.font.domain.Font;
 import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.dto.FontProgressDetail;
 
 @Getter
 @Builder
@@ -13,13 +14,24 @@ public class FontProgressResponse {
     private Long id;
     private String name;
     private FontStatus status;
+    /**
+     * 제작 중(PROGRESS)이고 제작 서버가 보고한 경우에만 값이 있다.
+     */
+    private Integer percentage;
+    private String stage;
     private LocalDateTime createdAt;
 
     public static FontProgressResponse from(Font font) {
+        return from(font, null);
+    }
+
+    public static FontProgressResponse from(Font font, FontProgressDetail detail) {
         return FontProgressResponse.builder()
                 .id(font.getId())
                 .name(font.getName())
                 .status(font.getStatus())
+                .percentage(detail != null ? detail.percentage() : null)
+                .stage(detail != null ? detail.stage() : null)
                 .createdAt(
                         font.getCreatedAt()
                                 .atZone(ZoneId.of("UTC"))
@@ -0,0 +1,29 @@
+package org.fontory.fontorybe.font.controller.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@Builder
+public class SliceResponse<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    /**
+     * withTotal 요청 시에만 채워지는 근사값 (주기적으로 갱신되는 카운터 기준)
+     */
+    private Long approximateTotalElements;
+
+    public static <T> SliceResponse<T> of(List<T> content, Slice<?> slice, Long approximateTotalElements) {
+        return SliceResponse.<T>builder()
+                .content(content)
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .approximateTotalElements(approximateTotalElements)
+                .build();
+    }
+}
@@ -4,20 +4,35 @@ import java.util.List;
 import org.fontory.fontorybe.file.domain.FileUploadResult;
 import org.fontory.fontorybe.font.controller.dto.*;
 import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.service.dto.FontAdmission;
 import org.springframework.data.domain.Page;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface FontService {
+    FontAdmission admitCreation(Long memberId);
     Font create(Long memberId, FontCreateDTO fontCreateDTO, FileUploadResult fileDetails);
+    Font create(Long memberId, FontCreateDTO fontCreateDTO, FileUploadResult fileDetails, FontAdmission admission);
     List<FontProgressResponse> getFontProgress(Long memberId);
     Font getOrThrowById(Long id);
     Page<FontResponse> getFonts(Long memberId, int page, int size);
     FontResponse getFont(Long fondId, Long memberId);
     FontDeleteResponse delete(Long memberId, Long fontId);
     Page<FontPageResponse> getFontPage(Long memberId, int page, int size, String sortBy, String keyword);
+    SliceResponse<FontResponse> getFontSlice(Long memberId, int page, int size, boolean withTotal);
+    SliceResponse<FontPageResponse> getFontPageSlice(Long memberId, int page, int size, String sortBy, String keyword, boolean withTotal);
+    CursorPageResponse<FontResponse> getFontsByCursor(Long memberId, int size, String cursor);
+    CursorPageResponse<FontPageResponse> getFontPageByCursor(Long memberId, int size, String sortBy, String keyword, String cursor);
     List<FontResponse> getOtherFonts(Long fontId);
     List<FontResponse> getMyPopularFonts(Long memberId);
     List<FontResponse> getPopularFonts(Long memberId);
+    String getFontETag(Long fontId, Long memberId);
+    String getPopularFontsETag(Long memberId);
+    String getFontProgressETag(Long memberId);
+    SseEmitter streamFontProgress(Long memberId, String lastEventId);
+    FontUpdateResponse reportProgress(Long fontId, FontProgressUpdateDTO fontProgressUpdateDTO);
     FontUpdateResponse updateProgress(Long fontId, FontProgressUpdateDTO fontProgressUpdateDTO);
+    List<FontProgressBatchUpdateResponse> updateProgresses(List<FontProgressBatchItem> items);
     FontDownloadResponse fontDownload(Long memberId, Long fontId);
     Boolean isDuplicateNameExists(Long memberId, String fontName);
+    List<FontAutocompleteResponse> getAutocompleteSuggestions(String keyword, int size);
 }
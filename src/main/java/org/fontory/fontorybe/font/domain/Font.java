@@ -38,6 +38,10 @@ public class Font {
 
     private LocalDateTime updatedAt;
 
+    public long getPopularity() {
+        return downloadCount + bookmarkCount;
+    }
+
     public void increaseBookmarkCount() {
         this.bookmarkCount++;
     }
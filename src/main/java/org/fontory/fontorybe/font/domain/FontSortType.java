@@ -0,0 +1,23 @@
+package org.fontory.fontorybe.font.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FontSortType {
+    CREATED_AT("createdAt"),
+    DOWNLOAD_COUNT("downloadCount"),
+    BOOKMARK_COUNT("bookmarkCount");
+
+    private final String property;
+
+    public static FontSortType from(String sortBy) {
+        for (FontSortType sortType : values()) {
+            if (sortType.property.equalsIgnoreCase(sortBy)) {
+                return sortType;
+            }
+        }
+        return CREATED_AT;
+    }
+}
@@ -0,0 +1,15 @@
+package org.fontory.fontorybe.font.domain.exception;
+
+import lombok.Getter;
+import org.fontory.fontorybe.common.domain.SkipDiscordNotification;
+
+@Getter
+@SkipDiscordNotification
+public class FontGenerationOverloadedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public FontGenerationOverloadedException(long retryAfterSeconds) {
+        super("Too many fonts are being generated, try again later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
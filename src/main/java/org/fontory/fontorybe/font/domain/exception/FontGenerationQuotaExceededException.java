@@ -0,0 +1,15 @@
+package org.fontory.fontorybe.font.domain.exception;
+
+import lombok.Getter;
+import org.fontory.fontorybe.common.domain.SkipDiscordNotification;
+
+@Getter
+@SkipDiscordNotification
+public class FontGenerationQuotaExceededException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public FontGenerationQuotaExceededException(int quota, long retryAfterSeconds) {
+        super("You can have up to " + quota + " fonts in progress, try again after they finish");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
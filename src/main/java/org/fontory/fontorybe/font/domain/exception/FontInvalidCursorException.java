@@ -0,0 +1,10 @@
+package org.fontory.fontorybe.font.domain.exception;
+
+import org.fontory.fontorybe.common.domain.SkipDiscordNotification;
+
+@SkipDiscordNotification
+public class FontInvalidCursorException extends RuntimeException {
+    public FontInvalidCursorException() {
+        super("Font page cursor is invalid");
+    }
+}
@@ -0,0 +1,10 @@
+package org.fontory.fontorybe.font.domain.exception;
+
+import org.fontory.fontorybe.common.domain.SkipDiscordNotification;
+
+@SkipDiscordNotification
+public class FontProgressStreamLimitExceededException extends RuntimeException {
+    public FontProgressStreamLimitExceededException() {
+        super("Too many font progress streams are open, poll font progress instead");
+    }
+}
@@ -0,0 +1,208 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.operations.SqsOperations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.common.application.TransactionCallbacks;
+import org.fontory.fontorybe.font.FontRequestAbandonedEvent;
+import org.fontory.fontorybe.font.domain.exception.FontSQSProduceExcepetion;
+import org.fontory.fontorybe.font.service.dto.FontRequestProduceDto;
+import org.fontory.fontorybe.font.service.port.FontRequestProducer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 폰트 제작 요청을 요청 스레드에서 바로 보내지 않고 버퍼에 넣은 뒤, 전용 스레드가 SendMessageBatch로 모아 보낸다.
+ * 최대 10개가 모이거나 첫 요청 이후 linger 시간이 지나면 보내며, 실패하면 지수 백오프로 재시도한다.
+ * 버퍼에는 트랜잭션 커밋 이후에 넣으므로 롤백된 폰트의 요청은 보내지 않는다.
+ * 버퍼가 가득 차면 요청을 거절(503)해 폰트 생성도 롤백되게 한다.
+ * 그래도 보내지 못하고 버린 요청(커밋 직후 버퍼 초과, 재시도 소진, 종료 시 남은 요청)은 FontRequestAbandonedEvent로 알려 폰트를 FAILED로 바꾼다.
+ * 큐가 내용 기반 중복 제거를 쓰므로, 일부만 성공한 묶음을 통째로 재시도해도 같은 요청이 두 번 전달되지 않는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "font.request-producer.mode", havingValue = "batch")
+public class BatchingSqsFontRequestProducer implements FontRequestProducer {
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final long POLL_TIMEOUT_MS = 1000;
+
+    private final SqsOperations sqsOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String queueName;
+    private final BlockingQueue<FontRequestProduceDto> buffer;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long drainTimeoutMs;
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "font-request-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final DistributionSummary batchSize;
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+    private final Counter dropped;
+
+    private volatile boolean running = true;
+
+    public BatchingSqsFontRequestProducer(SqsOperations sqsOperations,
+                                          ApplicationEventPublisher eventPublisher,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${spring.cloud.aws.sqs.queue-name}") String queueName,
+                                          @Value("${font.request-producer.buffer-capacity}") int bufferCapacity,
+                                          @Value("${font.request-producer.linger-ms}") long lingerMs,
+                                          @Value("${font.request-producer.max-attempts}") int maxAttempts,
+                                          @Value("${font.request-producer.initial-backoff-ms}") long initialBackoffMs,
+                                          @Value("${font.request-producer.max-backoff-ms}") long maxBackoffMs,
+                                          @Value("${font.request-producer.drain-timeout-ms}") long drainTimeoutMs) {
+        this.sqsOperations = sqsOperations;
+        this.eventPublisher = eventPublisher;
+        this.queueName = queueName;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.drainTimeoutMs = drainTimeoutMs;
+        Gauge.builder("font.request.producer.buffer", buffer, BlockingQueue::size)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("font.request.producer.batch.size")
+                .register(meterRegistry);
+        this.sendSuccess = Timer.builder("font.request.producer.send")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.sendFailure = Timer.builder("font.request.producer.send")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("font.request.producer.dropped")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        sender.execute(this::sendLoop);
+    }
+
+    @Override
+    public void sendFontRequest(FontRequestProduceDto fontRequestProduceDto) {
+        if (!running || buffer.remainingCapacity() == 0) {
+            log.error("Font request buffer is unavailable, rejected font ID: {}", fontRequestProduceDto.getFontId());
+            throw new FontSQSProduceExcepetion("Font request buffer is full for sqs queue " + queueName);
+        }
+        TransactionCallbacks.afterCommit(() -> enqueue(fontRequestProduceDto));
+    }
+
+    /**
+     * 받은 요청을 모두 보낸 뒤 종료한다. (drain-timeout-ms 안에 끝나지 않으면 남은 요청은 버린다)
+     */
+    @PreDestroy
+    public void drain() throws InterruptedException {
+        running = false;
+        sender.shutdown();
+        if (!sender.awaitTermination(drainTimeoutMs, TimeUnit.MILLISECONDS)) {
+            log.error("Font request sender did not drain in {} ms, {} requests dropped", drainTimeoutMs, buffer.size());
+            sender.shutdownNow();
+            List<FontRequestProduceDto> remaining = new ArrayList<>();
+            buffer.drainTo(remaining);
+            abandon(remaining);
+        }
+    }
+
+    private void enqueue(FontRequestProduceDto fontRequestProduceDto) {
+        if (!buffer.offer(fontRequestProduceDto)) {
+            log.error("Font request buffer is full, dropped font ID: {}", fontRequestProduceDto.getFontId());
+            abandon(List.of(fontRequestProduceDto));
+        }
+    }
+
+    private void abandon(List<FontRequestProduceDto> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        dropped.increment(requests.size());
+        eventPublisher.publishEvent(new FontRequestAbandonedEvent(requests.stream()
+                .map(FontRequestProduceDto::getFontId)
+                .toList()));
+    }
+
+    private void sendLoop() {
+        List<FontRequestProduceDto> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !buffer.isEmpty()) {
+            try {
+                FontRequestProduceDto first = buffer.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < MAX_BATCH_SIZE) {
+                    FontRequestProduceDto next = buffer.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                sendWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendWithRetry(List<FontRequestProduceDto> batch) throws InterruptedException {
+        List<Message<FontRequestProduceDto>> messages = batch.stream()
+                .map(this::toMessage)
+                .toList();
+        for (int attempt = 1; ; attempt++) {
+            Timer.Sample sample = Timer.start();
+            try {
+                sqsOperations.sendMany(queueName, messages);
+                sample.stop(sendSuccess);
+                batchSize.record(batch.size());
+                log.info("Successfully sent {} font requests to sqs queue {}", batch.size(), queueName);
+                return;
+            } catch (RuntimeException e) {
+                sample.stop(sendFailure);
+                if (attempt >= maxAttempts) {
+                    log.error("Failed to send font requests for font IDs: {} to sqs queue {} after {} attempts",
+                            batch.stream().map(FontRequestProduceDto::getFontId).toList(), queueName, attempt, e);
+                    abandon(List.copyOf(batch));
+                    return;
+                }
+                long backoffMs = Math.min(initialBackoffMs << (attempt - 1), maxBackoffMs);
+                log.warn("Failed to send {} font requests to sqs queue {} (attempt {}), retrying in {} ms: {}",
+                        batch.size(), queueName, attempt, backoffMs, e.getMessage());
+                Thread.sleep(backoffMs);
+            }
+        }
+    }
+
+    private Message<FontRequestProduceDto> toMessage(FontRequestProduceDto fontRequestProduceDto) {
+        return MessageBuilder.withPayload(fontRequestProduceDto)
+                .setHeader(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER, fontRequestProduceDto.getMessageGroupId())
+                .build();
+    }
+}
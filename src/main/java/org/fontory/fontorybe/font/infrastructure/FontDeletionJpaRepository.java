@@ -0,0 +1,18 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.fontory.fontorybe.font.infrastructure.entity.FontDeletionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FontDeletionJpaRepository extends JpaRepository<FontDeletionEntity, Long> {
+    @Query("SELECT d.fontId FROM FontDeletionEntity d WHERE d.deletedAt >= :deletedAt")
+    List<Long> findFontIdsByDeletedAtGreaterThanEqual(@Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("DELETE FROM FontDeletionEntity d WHERE d.deletedAt < :deletedBefore")
+    int deleteByDeletedAtBefore(@Param("deletedBefore") LocalDateTime deletedBefore);
+}
@@ -1,20 +1,32 @@
 package org.fontory.fontorybe.font.infrastructure;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.fontory.fontorybe.font.infrastructure.entity.FontEntity;
 import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.dto.FontCard;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface FontJpaRepository extends JpaRepository<FontEntity, Long> {
+    /**
+     * 목록 카드에 필요한 컬럼만 조회한다. (엔티티 -> 도메인 -> 응답 복사 없이 카드 DTO로 바로 담는다)
+     */
+    String FONT_CARD = "SELECT new org.fontory.fontorybe.font.service.dto.FontCard(" +
+            "f.id, f.name, f.example, f.downloadCount, f.bookmarkCount, f.key, f.memberId, f.createdAt) " +
+            "FROM FontEntity f ";
+    String BY_MEMBER_AND_STATUS = "WHERE f.memberId = :memberId AND f.status = :status ";
+    String BY_STATUS = "WHERE f.status = :status ";
+    String BY_NAME_AND_STATUS = "WHERE f.name LIKE CONCAT('%', :keyword, '%') AND f.status = :status ";
+    String BY_IDS_AND_STATUS = "WHERE f.id IN :ids AND f.status = :status ";
+
     List<FontEntity> findTop5ByMemberIdOrderByCreatedAtDesc(Long memberId);
-    Page<FontEntity> findAllByMemberIdAndStatus(Long memberId, PageRequest pageRequest, FontStatus status);
-    Page<FontEntity> findByNameContainingAndStatus(String name, PageRequest pageRequest, FontStatus status);
-    List<FontEntity> findTop3ByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(Long memberId, Long fontId, FontStatus status);
     List<FontEntity> findAllByIdIn(List<Long> ids);
     @Query("SELECT f FROM FontEntity f WHERE f.memberId = :memberId AND f.status = :status ORDER BY (f.downloadCount + f.bookmarkCount) DESC")
     List<FontEntity> findTopByMemberIdAndStatusOrderByPopularityDesc(
@@ -28,5 +40,133 @@ public interface FontJpaRepository extends JpaRepository<FontEntity, Long> {
             Pageable pageable
     );
     boolean existsByName(String fontName);
-    Page<FontEntity> findAllByStatus(PageRequest pageRequest, FontStatus status);
+    long countByStatus(FontStatus status);
+    long countByMemberIdAndStatus(Long memberId, FontStatus status);
+    List<FontEntity> findByStatusAndIdGreaterThanOrderByIdAsc(FontStatus status, Long id, Pageable pageable);
+    List<FontEntity> findAllByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    @Query(value = FONT_CARD + BY_MEMBER_AND_STATUS,
+            countQuery = "SELECT COUNT(f) FROM FontEntity f " + BY_MEMBER_AND_STATUS)
+    Page<FontCard> findCardsByMemberIdAndStatus(@Param("memberId") Long memberId,
+                                                @Param("status") FontStatus status,
+                                                Pageable pageable);
+
+    @Query(value = FONT_CARD + BY_STATUS,
+            countQuery = "SELECT COUNT(f) FROM FontEntity f " + BY_STATUS)
+    Page<FontCard> findCardsByStatus(@Param("status") FontStatus status, Pageable pageable);
+
+    @Query(value = FONT_CARD + BY_NAME_AND_STATUS,
+            countQuery = "SELECT COUNT(f) FROM FontEntity f " + BY_NAME_AND_STATUS)
+    Page<FontCard> findCardsByNameContainingAndStatus(@Param("keyword") String keyword,
+                                                      @Param("status") FontStatus status,
+                                                      Pageable pageable);
+
+    @Query(value = FONT_CARD + BY_IDS_AND_STATUS,
+            countQuery = "SELECT COUNT(f) FROM FontEntity f " + BY_IDS_AND_STATUS)
+    Page<FontCard> findCardsByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                            @Param("status") FontStatus status,
+                                            Pageable pageable);
+
+    @Query(FONT_CARD + BY_IDS_AND_STATUS)
+    List<FontCard> findCardsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") FontStatus status);
+
+    @Query(FONT_CARD + BY_STATUS)
+    Slice<FontCard> findCardSliceByStatus(@Param("status") FontStatus status, Pageable pageable);
+
+    @Query(FONT_CARD + BY_NAME_AND_STATUS)
+    Slice<FontCard> findCardSliceByNameContainingAndStatus(@Param("keyword") String keyword,
+                                                           @Param("status") FontStatus status,
+                                                           Pageable pageable);
+
+    @Query(FONT_CARD + BY_MEMBER_AND_STATUS)
+    Slice<FontCard> findCardSliceByMemberIdAndStatus(@Param("memberId") Long memberId,
+                                                     @Param("status") FontStatus status,
+                                                     Pageable pageable);
+
+    @Query(FONT_CARD + BY_MEMBER_AND_STATUS + "AND f.id <> :fontId ORDER BY f.createdAt DESC")
+    List<FontCard> findCardsByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(@Param("memberId") Long memberId,
+                                                                            @Param("fontId") Long fontId,
+                                                                            @Param("status") FontStatus status,
+                                                                            Pageable pageable);
+
+    @Query(FONT_CARD + BY_STATUS +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FontCard> findAllByStatusAfterCreatedAt(
+            @Param("status") FontStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query(FONT_CARD + BY_STATUS +
+            "AND (f.downloadCount < :count OR (f.downloadCount = :count AND f.id < :id)) " +
+            "ORDER BY f.downloadCount DESC, f.id DESC")
+    List<FontCard> findAllByStatusAfterDownloadCount(
+            @Param("status") FontStatus status,
+            @Param("count") Long count,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query(FONT_CARD + BY_STATUS +
+            "AND (f.bookmarkCount < :count OR (f.bookmarkCount = :count AND f.id < :id)) " +
+            "ORDER BY f.bookmarkCount DESC, f.id DESC")
+    List<FontCard> findAllByStatusAfterBookmarkCount(
+            @Param("status") FontStatus status,
+            @Param("count") Long count,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query(FONT_CARD + BY_IDS_AND_STATUS +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FontCard> findAllByIdInAndStatusAfterCreatedAt(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") FontStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query(FONT_CARD + BY_IDS_AND_STATUS +
+            "AND (f.downloadCount < :count OR (f.downloadCount = :count AND f.id < :id)) " +
+            "ORDER BY f.downloadCount DESC, f.id DESC")
+    List<FontCard> findAllByIdInAndStatusAfterDownloadCount(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") FontStatus status,
+            @Param("count") Long count,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query(FONT_CARD + BY_IDS_AND_STATUS +
+            "AND (f.bookmarkCount < :count OR (f.bookmarkCount = :count AND f.id < :id)) " +
+            "ORDER BY f.bookmarkCount DESC, f.id DESC")
+    List<FontCard> findAllByIdInAndStatusAfterBookmarkCount(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") FontStatus status,
+            @Param("count") Long count,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query(FONT_CARD + BY_MEMBER_AND_STATUS +
+            "AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id)) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FontCard> findAllByMemberIdAndStatusAfterCreatedAt(
+            @Param("memberId") Long memberId,
+            @Param("status") FontStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("UPDATE FontEntity f SET f.bookmarkCount = f.bookmarkCount + :delta WHERE f.id = :fontId")
+    int addBookmarkCount(@Param("fontId") Long fontId, @Param("delta") long delta);
+
+    @Query("SELECT f.id FROM FontEntity f WHERE f.id > :lastId ORDER BY f.id")
+    List<Long> findIdsGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
 }
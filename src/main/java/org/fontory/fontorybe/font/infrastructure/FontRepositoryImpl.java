@@ -1,24 +1,41 @@
 package org.fontory.fontorybe.font.infrastructure;
 
 import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontDeletionEntity;
 import org.fontory.fontorybe.font.infrastructure.entity.FontEntity;
 import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.dto.FontCard;
+import org.fontory.fontorybe.font.service.dto.FontCursor;
+import org.fontory.fontorybe.font.service.dto.FontGenerationLoad;
 import org.fontory.fontorybe.font.service.port.FontRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class FontRepositoryImpl implements FontRepository {
     private final FontJpaRepository fontJpaRepository;
+    private final FontDeletionJpaRepository fontDeletionJpaRepository;
     private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Font save(Font font) {
@@ -45,40 +62,47 @@ public class FontRepositoryImpl implements FontRepository {
     }
 
     @Override
-    public Page<Font> findAllByMemberIdAndStatus(Long memberId, PageRequest pageRequest, FontStatus status) {
-        Page<FontEntity> fontEntityPage = fontJpaRepository.findAllByMemberIdAndStatus(memberId, pageRequest, status);
-
-        return fontEntityPage.map(FontEntity::toModel);
-    }
-
-    @Override
+    @Transactional
     public void deleteById(Long id) {
         fontJpaRepository.deleteById(id);
+        em.persist(FontDeletionEntity.of(id, LocalDateTime.now()));
     }
 
     @Override
-    public Page<Font> findAllByStatus(PageRequest pageRequest, FontStatus status) {
-        Page<FontEntity> fontEntityPage = fontJpaRepository.findAllByStatus(pageRequest, status);
-
-        return fontEntityPage.map(FontEntity::toModel);
+    public List<Long> findIdsDeletedSince(LocalDateTime deletedAt) {
+        return fontDeletionJpaRepository.findFontIdsByDeletedAtGreaterThanEqual(deletedAt);
     }
 
     @Override
-    public Page<Font> findByNameContainingAndStatus(String keyword, PageRequest pageRequest, FontStatus status) {
-        Page<FontEntity> fontEntityPage = fontJpaRepository.findByNameContainingAndStatus(keyword, pageRequest, status);
-
-        return fontEntityPage.map(FontEntity::toModel);
+    @Transactional
+    public int deleteDeletionsBefore(LocalDateTime deletedBefore) {
+        return fontDeletionJpaRepository.deleteByDeletedAtBefore(deletedBefore);
     }
 
     @Override
-    public List<Font> findTop3ByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(Long memberId, Long fontId, FontStatus status) {
-        List<FontEntity> fontEntities = fontJpaRepository.findTop3ByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(memberId, fontId, status);
+    public List<Font> findAllByStatusAndIdGreaterThan(FontStatus status, Long lastId, int limit) {
+        return fontJpaRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, lastId, PageRequest.of(0, limit)).stream()
+                .map(FontEntity::toModel)
+                .collect(Collectors.toList());
+    }
 
-        return fontEntities.stream()
+    @Override
+    public List<Font> findAllByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt) {
+        return fontJpaRepository.findAllByUpdatedAtGreaterThanEqual(updatedAt).stream()
                 .map(FontEntity::toModel)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long countByStatus(FontStatus status) {
+        return fontJpaRepository.countByStatus(status);
+    }
+
+    @Override
+    public long countByMemberIdAndStatus(Long memberId, FontStatus status) {
+        return fontJpaRepository.countByMemberIdAndStatus(memberId, status);
+    }
+
     @Override
     public List<Font> findAllByIdIn(List<Long> ids) {
         List<FontEntity> fontEntities = fontJpaRepository.findAllByIdIn(ids);
@@ -112,4 +136,141 @@ public class FontRepositoryImpl implements FontRepository {
     public boolean existsByName(String fontName) {
         return fontJpaRepository.existsByName(fontName);
     }
+
+    /**
+     * 증가분을 상대값으로 한 번의 배치로 반영한다. (엔티티를 읽지 않으므로 동시 갱신이 유실되지 않는다)
+     */
+    @Override
+    @Transactional
+    public void increaseDownloadCounts(Map<Long, Long> deltas) {
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE font SET download_count = download_count + ? WHERE font_id = ?", batchArgs);
+    }
+
+    /**
+     * 상태만 반영한다. (엔티티 병합/재조회 없이 UPDATE만 보낸다)
+     * 아직 제작 중인 폰트만 바꾸며, 실제로 바뀐 폰트 ID를 돌려준다.
+     * 드라이버의 bulk 배치는 행별 결과(SUCCESS_NO_INFO)를 주지 않으므로, 한 커넥션에서 같은 문장을 행마다 실행해 실제 갱신 수를 받는다.
+     */
+    @Override
+    @Transactional
+    public Set<Long> updateStatuses(Collection<Font> fonts) {
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        List<Font> targets = List.copyOf(fonts);
+        return jdbcTemplate.execute("UPDATE font SET status = ?, updated_at = ? WHERE font_id = ? AND status = 'PROGRESS'",
+                (PreparedStatementCallback<Set<Long>>) statement -> {
+                    Set<Long> updatedIds = new HashSet<>();
+                    for (Font font : targets) {
+                        statement.setString(1, font.getStatus().name());
+                        statement.setTimestamp(2, updatedAt);
+                        statement.setLong(3, font.getId());
+                        if (statement.executeUpdate() > 0) {
+                            updatedIds.add(font.getId());
+                        }
+                    }
+                    return updatedIds;
+                });
+    }
+
+    @Override
+    public void addBookmarkCount(Long fontId, long delta) {
+        fontJpaRepository.addBookmarkCount(fontId, delta);
+    }
+
+    @Override
+    public List<Long> findIdsGreaterThan(Long lastId, int limit) {
+        return fontJpaRepository.findIdsGreaterThan(lastId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 제작 중인 폰트를 회원별로 세고, 그중 아웃박스에서 아직 보내지 않은 요청 수를 함께 센다.
+     */
+    @Override
+    public List<FontGenerationLoad> findGenerationLoads() {
+        return jdbcTemplate.query(
+                "SELECT f.member_id, COUNT(*) AS in_progress, COUNT(o.outbox_id) AS queued FROM font f " +
+                        "LEFT JOIN font_request_outbox o ON o.font_id = f.font_id AND o.sent_at IS NULL " +
+                        "WHERE f.status = ? GROUP BY f.member_id ORDER BY NULL",
+                (rs, rowNum) -> new FontGenerationLoad(rs.getLong("member_id"), rs.getLong("in_progress"), rs.getLong("queued")),
+                FontStatus.PROGRESS.name());
+    }
+
+    @Override
+    public Page<FontCard> findCardsByMemberIdAndStatus(Long memberId, PageRequest pageRequest, FontStatus status) {
+        return fontJpaRepository.findCardsByMemberIdAndStatus(memberId, status, pageRequest);
+    }
+
+    @Override
+    public Page<FontCard> findCardsByStatus(PageRequest pageRequest, FontStatus status) {
+        return fontJpaRepository.findCardsByStatus(status, pageRequest);
+    }
+
+    @Override
+    public Page<FontCard> findCardsByNameContainingAndStatus(String keyword, PageRequest pageRequest, FontStatus status) {
+        return fontJpaRepository.findCardsByNameContainingAndStatus(keyword, status, pageRequest);
+    }
+
+    @Override
+    public Slice<FontCard> findCardSliceByStatus(PageRequest pageRequest, FontStatus status) {
+        return fontJpaRepository.findCardSliceByStatus(status, pageRequest);
+    }
+
+    @Override
+    public Slice<FontCard> findCardSliceByNameContainingAndStatus(String keyword, PageRequest pageRequest, FontStatus status) {
+        return fontJpaRepository.findCardSliceByNameContainingAndStatus(keyword, status, pageRequest);
+    }
+
+    @Override
+    public Slice<FontCard> findCardSliceByMemberIdAndStatus(Long memberId, PageRequest pageRequest, FontStatus status) {
+        return fontJpaRepository.findCardSliceByMemberIdAndStatus(memberId, status, pageRequest);
+    }
+
+    @Override
+    public Page<FontCard> findCardsByIdInAndStatus(Collection<Long> ids, PageRequest pageRequest, FontStatus status) {
+        return fontJpaRepository.findCardsByIdInAndStatus(ids, status, pageRequest);
+    }
+
+    @Override
+    public List<FontCard> findCardsByIdInAndStatus(Collection<Long> ids, FontStatus status) {
+        return fontJpaRepository.findCardsByIdInAndStatus(ids, status);
+    }
+
+    @Override
+    public List<FontCard> findTop3CardsByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(Long memberId, Long fontId, FontStatus status) {
+        return fontJpaRepository.findCardsByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(memberId, fontId, status, PageRequest.of(0, 3));
+    }
+
+    @Override
+    public List<FontCard> findCardsByStatusAfterCursor(FontStatus status, FontCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return switch (cursor.getSortType()) {
+            case CREATED_AT -> fontJpaRepository.findAllByStatusAfterCreatedAt(
+                    status, cursor.getCreatedAt(), cursor.getId(), pageable);
+            case DOWNLOAD_COUNT -> fontJpaRepository.findAllByStatusAfterDownloadCount(
+                    status, cursor.getCount(), cursor.getId(), pageable);
+            case BOOKMARK_COUNT -> fontJpaRepository.findAllByStatusAfterBookmarkCount(
+                    status, cursor.getCount(), cursor.getId(), pageable);
+        };
+    }
+
+    @Override
+    public List<FontCard> findCardsByIdInAndStatusAfterCursor(Collection<Long> ids, FontStatus status, FontCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return switch (cursor.getSortType()) {
+            case CREATED_AT -> fontJpaRepository.findAllByIdInAndStatusAfterCreatedAt(
+                    ids, status, cursor.getCreatedAt(), cursor.getId(), pageable);
+            case DOWNLOAD_COUNT -> fontJpaRepository.findAllByIdInAndStatusAfterDownloadCount(
+                    ids, status, cursor.getCount(), cursor.getId(), pageable);
+            case BOOKMARK_COUNT -> fontJpaRepository.findAllByIdInAndStatusAfterBookmarkCount(
+                    ids, status, cursor.getCount(), cursor.getId(), pageable);
+        };
+    }
+
+    @Override
+    public List<FontCard> findCardsByMemberIdAndStatusAfterCursor(Long memberId, FontStatus status, FontCursor cursor, int limit) {
+        return fontJpaRepository.findAllByMemberIdAndStatusAfterCreatedAt(
+                memberId, status, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, limit));
+    }
 }
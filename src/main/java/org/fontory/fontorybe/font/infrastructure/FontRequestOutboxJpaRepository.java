@@ -0,0 +1,25 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.fontory.fontorybe.font.infrastructure.entity.FontRequestOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FontRequestOutboxJpaRepository extends JpaRepository<FontRequestOutboxEntity, Long> {
+    /**
+     * 보낼 시각(available_at)이 지난 미전송 행을 잠그며 가져온다.
+     * 다른 릴레이가 잠근 행은 기다리지 않고 건너뛰므로 여러 인스턴스가 서로 다른 행을 나눠 보낸다.
+     */
+    @Query(value = "SELECT * FROM font_request_outbox WHERE sent_at IS NULL AND available_at <= :now " +
+            "AND attempts < :maxAttempts ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<FontRequestOutboxEntity> claimUnsent(@Param("now") LocalDateTime now,
+                                              @Param("maxAttempts") int maxAttempts,
+                                              @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM font_request_outbox WHERE sent_at < :sentBefore LIMIT :limit", nativeQuery = true)
+    int deleteSentBefore(@Param("sentBefore") LocalDateTime sentBefore, @Param("limit") int limit);
+}
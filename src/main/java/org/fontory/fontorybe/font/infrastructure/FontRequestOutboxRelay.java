@@ -0,0 +1,154 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.operations.SqsOperations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.FontRequestAbandonedEvent;
+import org.fontory.fontorybe.font.infrastructure.entity.FontRequestOutboxEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스에 커밋된 폰트 제작 요청을 SQS로 보낸다.
+ * 행을 FOR UPDATE SKIP LOCKED로 잠그며 가져오므로 여러 인스턴스의 릴레이가 동시에 돌아도 같은 행을 보내지 않는다.
+ * 전송 후 sent_at 기록 전에 실패하면 다시 보내므로 최소 한 번 전달이며, 아웃박스 ID를 중복 제거 ID로 보내 FIFO 큐가 재전송을 걸러낸다.
+ * max-attempts번 실패한 행은 더 보내지 않고 남겨 두며, FontRequestAbandonedEvent로 알려 폰트를 FAILED로 바꾼다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "font.request-producer.mode", havingValue = "outbox")
+public class FontRequestOutboxRelay {
+    private static final int MAX_SEND_BATCH_SIZE = 10;
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final FontRequestOutboxJpaRepository fontRequestOutboxJpaRepository;
+    private final SqsOperations sqsOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final String queueName;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Timer relayLag;
+    private final Counter sent;
+    private final Counter failed;
+
+    public FontRequestOutboxRelay(FontRequestOutboxJpaRepository fontRequestOutboxJpaRepository,
+                                  SqsOperations sqsOperations,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${spring.cloud.aws.sqs.queue-name}") String queueName,
+                                  @Value("${font.request-producer.outbox.batch-size}") int batchSize,
+                                  @Value("${font.request-producer.outbox.max-attempts}") int maxAttempts,
+                                  @Value("${font.request-producer.outbox.retention-ms}") long retentionMs) {
+        this.fontRequestOutboxJpaRepository = fontRequestOutboxJpaRepository;
+        this.sqsOperations = sqsOperations;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queueName = queueName;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofMillis(retentionMs);
+        this.relayLag = Timer.builder("font.request.outbox.lag")
+                .description("Time from outbox write to SQS send of a font request")
+                .register(meterRegistry);
+        this.sent = relayCounter(meterRegistry, "sent");
+        this.failed = relayCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * 가져온 행을 모두 보냈으면 남은 행이 더 있을 수 있으므로 바로 다음 묶음을 가져온다.
+     */
+    @Scheduled(fixedDelayString = "${font.request-producer.outbox.relay-interval-ms}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * 보낸 지 retention-ms가 지난 행을 나눠 지운다.
+     */
+    @Scheduled(cron = "${font.request-producer.outbox.cleanup-cron}")
+    public void cleanup() {
+        LocalDateTime sentBefore = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    fontRequestOutboxJpaRepository.deleteSentBefore(sentBefore, CLEANUP_BATCH_SIZE));
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH_SIZE);
+        log.info("Deleted {} font request outbox rows sent before {}", total, sentBefore);
+    }
+
+    private int relayBatch() {
+        List<FontRequestOutboxEntity> rows = fontRequestOutboxJpaRepository.claimUnsent(LocalDateTime.now(), maxAttempts, batchSize);
+        int relayed = 0;
+        List<Long> abandonedFontIds = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += MAX_SEND_BATCH_SIZE) {
+            List<FontRequestOutboxEntity> chunk = rows.subList(from, Math.min(from + MAX_SEND_BATCH_SIZE, rows.size()));
+            try {
+                sqsOperations.sendMany(queueName, chunk.stream().map(this::toMessage).toList());
+            } catch (RuntimeException e) {
+                chunk.forEach(row -> recordFailure(row, abandonedFontIds));
+                failed.increment(chunk.size());
+                log.warn("Failed to relay {} font requests to sqs queue {}, will retry: {}", chunk.size(), queueName, e.getMessage());
+                // 큐 장애면 나머지도 실패하므로 다음 주기에 다시 시도한다.
+                break;
+            }
+            LocalDateTime sentAt = LocalDateTime.now();
+            chunk.forEach(row -> {
+                row.markSent(sentAt);
+                relayLag.record(Duration.between(row.getCreatedAt(), sentAt));
+            });
+            sent.increment(chunk.size());
+            relayed += chunk.size();
+        }
+        if (relayed > 0) {
+            log.info("Relayed {} font requests to sqs queue {}", relayed, queueName);
+        }
+        if (!abandonedFontIds.isEmpty()) {
+            eventPublisher.publishEvent(new FontRequestAbandonedEvent(abandonedFontIds));
+        }
+        return relayed;
+    }
+
+    private void recordFailure(FontRequestOutboxEntity row, List<Long> abandonedFontIds) {
+        row.recordFailure();
+        if (row.getAttempts() >= maxAttempts) {
+            log.error("Giving up font request for font ID: {} (outbox ID: {}) after {} attempts",
+                    row.getFontId(), row.getId(), row.getAttempts());
+            abandonedFontIds.add(row.getFontId());
+        }
+    }
+
+    private Message<String> toMessage(FontRequestOutboxEntity row) {
+        return MessageBuilder.withPayload(row.getPayload())
+                .setHeader(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER, row.getMessageGroupId())
+                .setHeader(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_DEDUPLICATION_ID_HEADER, String.valueOf(row.getId()))
+                .build();
+    }
+
+    private static Counter relayCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("font.request.outbox.relayed")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
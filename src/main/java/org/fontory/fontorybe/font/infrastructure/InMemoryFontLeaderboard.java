@@ -0,0 +1,102 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.port.FontLeaderboard;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인스턴스 로컬 랭킹 (단일 인스턴스, 로컬 개발, 테스트용)
+ */
+@Repository
+@ConditionalOnProperty(name = "font.leaderboard.store", havingValue = "memory")
+public class InMemoryFontLeaderboard implements FontLeaderboard {
+    private static final Comparator<RankedFont> RANKING = Comparator
+            .comparingLong(RankedFont::score).reversed()
+            .thenComparing(RankedFont::fontId, Comparator.reverseOrder());
+
+    private NavigableSet<RankedFont> global = new TreeSet<>(RANKING);
+    private Map<Long, NavigableSet<RankedFont>> byMember = new HashMap<>();
+    private Map<Long, RankedFont> byFontId = new HashMap<>();
+
+    @Override
+    public synchronized void save(Font font) {
+        remove(font);
+        if (font.getStatus() == FontStatus.DONE) {
+            add(new RankedFont(font.getId(), font.getMemberId(), font.getPopularity()));
+        }
+    }
+
+    @Override
+    public synchronized void incrementScore(Font font, long delta) {
+        RankedFont previous = byFontId.get(font.getId());
+        if (previous == null) {
+            return;
+        }
+        remove(font);
+        add(new RankedFont(previous.fontId(), previous.memberId(), previous.score() + delta));
+    }
+
+    @Override
+    public synchronized void remove(Font font) {
+        RankedFont previous = byFontId.remove(font.getId());
+        if (previous == null) {
+            return;
+        }
+        global.remove(previous);
+        NavigableSet<RankedFont> memberRanking = byMember.get(previous.memberId());
+        if (memberRanking != null) {
+            memberRanking.remove(previous);
+            if (memberRanking.isEmpty()) {
+                byMember.remove(previous.memberId());
+            }
+        }
+    }
+
+    @Override
+    public synchronized Optional<List<Long>> findTopFontIds(int limit) {
+        return top(global, limit);
+    }
+
+    @Override
+    public synchronized Optional<List<Long>> findTopFontIdsByMemberId(Long memberId, int limit) {
+        return top(byMember.get(memberId), limit);
+    }
+
+    @Override
+    public synchronized void replaceAll(List<Font> fonts) {
+        global = new TreeSet<>(RANKING);
+        byMember = new HashMap<>();
+        byFontId = new HashMap<>();
+        fonts.stream()
+                .filter(font -> font.getStatus() == FontStatus.DONE)
+                .forEach(font -> add(new RankedFont(font.getId(), font.getMemberId(), font.getPopularity())));
+    }
+
+    private void add(RankedFont rankedFont) {
+        byFontId.put(rankedFont.fontId(), rankedFont);
+        global.add(rankedFont);
+        byMember.computeIfAbsent(rankedFont.memberId(), key -> new TreeSet<>(RANKING)).add(rankedFont);
+    }
+
+    private Optional<List<Long>> top(NavigableSet<RankedFont> ranking, int limit) {
+        if (ranking == null) {
+            return Optional.empty();
+        }
+        return Optional.of(ranking.stream()
+                .limit(limit)
+                .map(RankedFont::fontId)
+                .toList());
+    }
+
+    private record RankedFont(Long fontId, Long memberId, long score) {
+    }
+}
@@ -0,0 +1,59 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.domain.exception.FontSQSProduceExcepetion;
+import org.fontory.fontorybe.font.infrastructure.entity.FontRequestOutboxEntity;
+import org.fontory.fontorybe.font.service.dto.FontRequestProduceDto;
+import org.fontory.fontorybe.font.service.port.FontRequestProducer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 폰트 제작 요청을 SQS로 바로 보내지 않고 폰트 생성 트랜잭션 안에서 아웃박스에 기록한다.
+ * 폰트가 롤백되면 요청도 함께 사라지고, POST /fonts의 트랜잭션 시간이 SQS 응답 시간에 묶이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "font.request-producer.mode", havingValue = "outbox")
+public class OutboxFontRequestProducer implements FontRequestProducer {
+
+    private final FontRequestOutboxJpaRepository fontRequestOutboxJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendFontRequest(FontRequestProduceDto fontRequestProduceDto) {
+        sendFontRequest(fontRequestProduceDto, Duration.ZERO);
+    }
+
+    /**
+     * available_at 이전에는 릴레이가 가져가지 않는다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendFontRequest(FontRequestProduceDto fontRequestProduceDto, Duration delay) {
+        fontRequestOutboxJpaRepository.save(FontRequestOutboxEntity.builder()
+                .fontId(fontRequestProduceDto.getFontId())
+                .messageGroupId(fontRequestProduceDto.getMessageGroupId())
+                .payload(serialize(fontRequestProduceDto))
+                .availableAt(LocalDateTime.now().plus(delay))
+                .build());
+        log.debug("Font request for font ID: {} written to outbox, delay: {}", fontRequestProduceDto.getFontId(), delay);
+    }
+
+    private String serialize(FontRequestProduceDto fontRequestProduceDto) {
+        try {
+            return objectMapper.writeValueAsString(fontRequestProduceDto);
+        } catch (JsonProcessingException e) {
+            throw new FontSQSProduceExcepetion("Failed to serialize font request for font ID " + fontRequestProduceDto.getFontId());
+        }
+    }
+}
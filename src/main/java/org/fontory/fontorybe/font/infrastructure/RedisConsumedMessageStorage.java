@@ -0,0 +1,65 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.service.port.ConsumedMessageStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메시지 ID마다 키를 두고 큐의 재전달 가능 기간보다 길게 유지한다.
+ * Redis 장애 시에는 중복을 걸러내지 못하지만, 상태 갱신은 같은 값을 다시 적용해도 결과가 같다.
+ */
+@Slf4j
+@Repository
+public class RedisConsumedMessageStorage implements ConsumedMessageStorage {
+    private static final String KEY_PREFIX = "font_progress_message:";
+    private static final String CONSUMED = "1";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public RedisConsumedMessageStorage(RedisTemplate<String, String> redisTemplate,
+                                       @Value("${font.progress.sqs.dedup-ttl-ms}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    @Override
+    public Set<String> findConsumed(Collection<String> messageIds) {
+        List<String> ids = List.copyOf(messageIds);
+        Set<String> result = new HashSet<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream()
+                    .map(messageId -> KEY_PREFIX + messageId)
+                    .toList());
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                if (values.get(i) != null) {
+                    result.add(ids.get(i));
+                }
+            }
+            return result;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read consumed font progress messages: {}", e.getMessage());
+            return result;
+        }
+    }
+
+    @Override
+    public void markConsumed(Collection<String> messageIds) {
+        try {
+            messageIds.forEach(messageId -> redisTemplate.opsForValue().set(KEY_PREFIX + messageId, CONSUMED, ttl));
+        } catch (DataAccessException e) {
+            log.warn("Failed to mark consumed font progress messages: {}", e.getMessage());
+        }
+    }
+}
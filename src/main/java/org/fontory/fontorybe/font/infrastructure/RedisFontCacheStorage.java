@@ -0,0 +1,225 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.dto.CachedFont;
+import org.fontory.fontorybe.font.service.port.FontCacheStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 폰트를 JSON 문자열로 저장하고, 없는 폰트는 ABSENT 표식으로 저장한다.
+ * 버전은 별도 키의 INCR 값이며(없으면 0), 저장은 Lua 스크립트로 버전 비교와 SET을 한 번에 수행한다.
+ * 무효화는 Pub/Sub 채널로 쉼표로 구분한 폰트 ID 목록을 보낸다.
+ * Redis 장애는 캐시 미스로 취급한다.
+ */
+@Slf4j
+@Repository
+public class RedisFontCacheStorage implements FontCacheStorage {
+    private static final String KEY_PREFIX = "font_cache:";
+    private static final String VERSION_KEY_PREFIX = "font_cache_version:";
+    private static final RedisScript<Long> SAVE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1",
+            Long.class);
+    /**
+     * KEYS: 캐시 키 n개 다음에 버전 키 n개
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "local n = #KEYS / 2 " +
+            "for i = 1, n do " +
+            "redis.call('INCR', KEYS[n + i]) redis.call('PEXPIRE', KEYS[n + i], ARGV[1]) redis.call('DEL', KEYS[i]) " +
+            "end return n",
+            Long.class);
+    private static final String INVALIDATION_CHANNEL = "font_cache:invalidation";
+    private static final String ABSENT = "ABSENT";
+    private static final String ID_DELIMITER = ",";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration absentTtl;
+
+    public RedisFontCacheStorage(RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 ObjectMapper objectMapper,
+                                 @Value("${font.cache.redis-ttl-ms}") long ttlMs,
+                                 @Value("${font.cache.absent-ttl-ms}") long absentTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.absentTtl = Duration.ofMillis(absentTtlMs);
+    }
+
+    @Override
+    public Optional<CachedFont> find(Long fontId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + fontId);
+            return Optional.ofNullable(value == null ? null : deserialize(value));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read font cache for font ID: {}: {}", fontId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Map<Long, CachedFont> findAll(Collection<Long> fontIds) {
+        List<Long> ids = List.copyOf(fontIds);
+        Map<Long, CachedFont> result = new HashMap<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream()
+                    .map(fontId -> KEY_PREFIX + fontId)
+                    .toList());
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                if (values.get(i) != null) {
+                    result.put(ids.get(i), deserialize(values.get(i)));
+                }
+            }
+            return result;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read font cache for font IDs: {}: {}", fontIds, e.getMessage());
+            return result;
+        }
+    }
+
+    @Override
+    public Map<Long, Long> findVersions(Collection<Long> fontIds) {
+        List<Long> ids = List.copyOf(fontIds);
+        Map<Long, Long> versions = new HashMap<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream()
+                    .map(fontId -> VERSION_KEY_PREFIX + fontId)
+                    .toList());
+            for (int i = 0; i < ids.size(); i++) {
+                String value = values == null ? null : values.get(i);
+                versions.put(ids.get(i), value == null ? 0L : Long.parseLong(value));
+            }
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Failed to read font cache versions for font IDs: {}: {}", fontIds, e.getMessage());
+            ids.forEach(fontId -> versions.put(fontId, -1L));
+        }
+        return versions;
+    }
+
+    @Override
+    public void save(Long fontId, CachedFont cachedFont, long version) {
+        if (version < 0) {
+            return;
+        }
+        try {
+            Optional<Font> font = cachedFont.getFont();
+            String value = font.isEmpty() ? ABSENT : objectMapper.writeValueAsString(CachedFontEntry.from(font.get()));
+            Duration expiry = font.isEmpty() ? absentTtl : ttl;
+            Long saved = redisTemplate.execute(SAVE_IF_VERSION_SCRIPT,
+                    List.of(KEY_PREFIX + fontId, VERSION_KEY_PREFIX + fontId),
+                    String.valueOf(version), value, String.valueOf(expiry.toMillis()));
+            if (!Long.valueOf(1L).equals(saved)) {
+                log.debug("Skipped saving font cache for font ID: {}, changed while loading", fontId);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to save font cache for font ID: {}: {}", fontId, e.getMessage());
+        }
+    }
+
+    /**
+     * 버전 키는 캐시보다 오래 남아야 적재 중이던 이전 버전의 저장을 막을 수 있다.
+     */
+    @Override
+    public void evictAll(Collection<Long> fontIds) {
+        try {
+            List<String> keys = new ArrayList<>();
+            fontIds.forEach(fontId -> keys.add(KEY_PREFIX + fontId));
+            fontIds.forEach(fontId -> keys.add(VERSION_KEY_PREFIX + fontId));
+            redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(ttl.multipliedBy(2).toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict font cache for font IDs: {}: {}", fontIds, e.getMessage());
+        }
+    }
+
+    @Override
+    public void publishInvalidation(Collection<Long> fontIds) {
+        try {
+            String message = fontIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(ID_DELIMITER));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (DataAccessException e) {
+            log.warn("Failed to publish font cache invalidation for font IDs: {}: {}", fontIds, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribeInvalidation(Consumer<Collection<Long>> listener) {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                List<Long> fontIds = Arrays.stream(body.split(ID_DELIMITER))
+                        .map(Long::valueOf)
+                        .toList();
+                listener.accept(fontIds);
+            } catch (NumberFormatException e) {
+                log.warn("Ignored malformed font cache invalidation message: {}", body);
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    private CachedFont deserialize(String value) throws JsonProcessingException {
+        if (ABSENT.equals(value)) {
+            return CachedFont.absent();
+        }
+        return CachedFont.of(Optional.of(objectMapper.readValue(value, CachedFontEntry.class).toModel()));
+    }
+
+    private record CachedFontEntry(Long id, String name, String engName, FontStatus status, String example,
+                                   Long downloadCount, Long bookmarkCount, String key, Long memberId,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        private static CachedFontEntry from(Font font) {
+            return new CachedFontEntry(font.getId(), font.getName(), font.getEngName(), font.getStatus(),
+                    font.getExample(), font.getDownloadCount(), font.getBookmarkCount(), font.getKey(),
+                    font.getMemberId(), font.getCreatedAt(), font.getUpdatedAt());
+        }
+
+        private Font toModel() {
+            return Font.builder()
+                    .id(id)
+                    .name(name)
+                    .engName(engName)
+                    .status(status)
+                    .example(example)
+                    .downloadCount(downloadCount)
+                    .bookmarkCount(bookmarkCount)
+                    .key(key)
+                    .memberId(memberId)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
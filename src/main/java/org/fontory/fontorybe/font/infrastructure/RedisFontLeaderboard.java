@@ -0,0 +1,159 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.port.FontLeaderboard;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis Sorted Set 기반 랭킹 (여러 인스턴스가 공유)
+ * Redis 장애 시 쓰기는 로그만 남기고(재구축 작업이 복구), 읽기는 빈 Optional을 반환해 호출 측이 DB 조회로 대체하도록 한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "font.leaderboard.store", havingValue = "redis", matchIfMissing = true)
+public class RedisFontLeaderboard implements FontLeaderboard {
+    private static final String GLOBAL_KEY = "font_leaderboard:global";
+    private static final String MEMBER_KEY_PREFIX = "font_leaderboard:member:";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final String REBUILD_LOCK_KEY = "font_leaderboard:rebuild_lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void save(Font font) {
+        if (font.getStatus() != FontStatus.DONE) {
+            remove(font);
+            return;
+        }
+
+        try {
+            String fontId = String.valueOf(font.getId());
+            redisTemplate.opsForZSet().add(GLOBAL_KEY, fontId, font.getPopularity());
+            redisTemplate.opsForZSet().add(memberKey(font.getMemberId()), fontId, font.getPopularity());
+        } catch (DataAccessException e) {
+            log.warn("Failed to update font leaderboard for font ID: {}: {}", font.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void incrementScore(Font font, long delta) {
+        try {
+            String fontId = String.valueOf(font.getId());
+            redisTemplate.opsForZSet().incrementScore(GLOBAL_KEY, fontId, delta);
+            redisTemplate.opsForZSet().incrementScore(memberKey(font.getMemberId()), fontId, delta);
+        } catch (DataAccessException e) {
+            log.warn("Failed to increment font leaderboard score for font ID: {}: {}", font.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void remove(Font font) {
+        try {
+            String fontId = String.valueOf(font.getId());
+            redisTemplate.opsForZSet().remove(GLOBAL_KEY, fontId);
+            redisTemplate.opsForZSet().remove(memberKey(font.getMemberId()), fontId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to remove font ID: {} from font leaderboard: {}", font.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<List<Long>> findTopFontIds(int limit) {
+        return findTop(GLOBAL_KEY, limit);
+    }
+
+    @Override
+    public Optional<List<Long>> findTopFontIdsByMemberId(Long memberId, int limit) {
+        return findTop(memberKey(memberId), limit);
+    }
+
+    /**
+     * 임시 키에 새 랭킹을 만든 뒤 RENAME으로 교체해 재구축 중에도 읽기가 빈 랭킹을 보지 않도록 한다.
+     * 임시 키는 실행마다 달라 다른 실행의 중간 결과를 지우거나 덮지 않고, 락을 잡지 못한 인스턴스는 재구축을 건너뛴다.
+     */
+    @Override
+    public void replaceAll(List<Font> fonts) {
+        Map<String, Set<TypedTuple<String>>> rankings = new HashMap<>();
+        rankings.put(GLOBAL_KEY, new HashSet<>());
+        for (Font font : fonts) {
+            if (font.getStatus() != FontStatus.DONE) {
+                continue;
+            }
+            TypedTuple<String> tuple = new DefaultTypedTuple<>(String.valueOf(font.getId()), (double) font.getPopularity());
+            rankings.get(GLOBAL_KEY).add(tuple);
+            rankings.computeIfAbsent(memberKey(font.getMemberId()), key -> new HashSet<>()).add(tuple);
+        }
+
+        String runId = UUID.randomUUID().toString();
+        List<String> rebuildKeys = new ArrayList<>();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, runId, REBUILD_LOCK_TTL))) {
+                log.info("Font leaderboard rebuild skipped, another instance is rebuilding");
+                return;
+            }
+            try {
+                rankings.forEach((key, tuples) -> {
+                    if (tuples.isEmpty()) {
+                        redisTemplate.delete(key);
+                        return;
+                    }
+                    String rebuildKey = key + REBUILD_SUFFIX + runId;
+                    rebuildKeys.add(rebuildKey);
+                    redisTemplate.opsForZSet().add(rebuildKey, tuples);
+                    redisTemplate.rename(rebuildKey, key);
+                    rebuildKeys.remove(rebuildKey);
+                });
+            } finally {
+                if (!rebuildKeys.isEmpty()) {
+                    redisTemplate.delete(rebuildKeys);
+                }
+                if (runId.equals(redisTemplate.opsForValue().get(REBUILD_LOCK_KEY))) {
+                    redisTemplate.delete(REBUILD_LOCK_KEY);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to rebuild font leaderboard: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키가 없으면 랭킹이 아직 없는 것으로 보고 빈 Optional을 돌려준다.
+     */
+    private Optional<List<Long>> findTop(String key, int limit) {
+        try {
+            Set<String> fontIds = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+            if (fontIds == null || (fontIds.isEmpty() && !Boolean.TRUE.equals(redisTemplate.hasKey(key)))) {
+                return Optional.empty();
+            }
+            return Optional.of(fontIds.stream()
+                    .map(Long::valueOf)
+                    .toList());
+        } catch (DataAccessException e) {
+            log.warn("Failed to read font leaderboard {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String memberKey(Long memberId) {
+        return MEMBER_KEY_PREFIX + memberId;
+    }
+}
@@ -0,0 +1,127 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.service.dto.FontProgressDetail;
+import org.fontory.fontorybe.font.service.port.FontProgressDetailStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 폰트별 해시(percentage, stage)로 저장하고, 제작이 멈춘 폰트의 정보는 TTL로 사라지게 한다.
+ * 비교 후 저장은 Lua 스크립트로 한 번에 수행해 동시 보고 사이에 TTL 없는 키나 섞인 값이 남지 않게 하고, 조회는 파이프라인으로 묶는다.
+ * Redis 장애 시에는 진행 정보 없이 DB의 상태만 보이고, 보고는 변경된 것으로 취급한다.
+ */
+@Slf4j
+@Repository
+public class RedisFontProgressDetailStorage implements FontProgressDetailStorage {
+    private static final String KEY_PREFIX = "font_progress_detail:";
+    private static final String PERCENTAGE = "percentage";
+    private static final String STAGE = "stage";
+    /**
+     * ARGV: TTL(ms) 다음에 저장할 필드/값 쌍. 현재 해시와 같으면 0, 교체했으면 1을 반환한다.
+     */
+    private static final RedisScript<Long> SAVE_IF_CHANGED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HLEN', KEYS[1]) * 2 == #ARGV - 1 then " +
+            "local same = true " +
+            "for i = 2, #ARGV, 2 do " +
+            "if redis.call('HGET', KEYS[1], ARGV[i]) ~= ARGV[i + 1] then same = false break end " +
+            "end " +
+            "if same then return 0 end " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "if #ARGV > 1 then " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "end return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public RedisFontProgressDetailStorage(RedisTemplate<String, String> redisTemplate,
+                                          @Value("${font.progress.detail-ttl-ms}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, FontProgressDetail> findAll(Collection<Long> fontIds) {
+        List<Long> ids = List.copyOf(fontIds);
+        Map<Long, FontProgressDetail> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        try {
+            List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long fontId : ids) {
+                    connection.hashCommands().hGetAll((KEY_PREFIX + fontId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                Map<String, String> fields = (Map<String, String>) values.get(i);
+                if (fields != null && !fields.isEmpty()) {
+                    result.put(ids.get(i), toDetail(fields));
+                }
+            }
+            return result;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read font progress detail for font IDs: {}: {}", fontIds, e.getMessage());
+            return result;
+        }
+    }
+
+    @Override
+    public boolean saveIfChanged(Long fontId, FontProgressDetail detail) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        toFields(detail).forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        try {
+            Long changed = redisTemplate.execute(SAVE_IF_CHANGED_SCRIPT, List.of(KEY_PREFIX + fontId), args.toArray());
+            return !Long.valueOf(0L).equals(changed);
+        } catch (DataAccessException e) {
+            log.warn("Failed to save font progress detail for font ID: {}: {}", fontId, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void delete(Long fontId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + fontId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete font progress detail for font ID: {}: {}", fontId, e.getMessage());
+        }
+    }
+
+    private Map<String, String> toFields(FontProgressDetail detail) {
+        Map<String, String> fields = new HashMap<>();
+        if (detail.percentage() != null) {
+            fields.put(PERCENTAGE, String.valueOf(detail.percentage()));
+        }
+        if (detail.stage() != null) {
+            fields.put(STAGE, detail.stage());
+        }
+        return fields;
+    }
+
+    private FontProgressDetail toDetail(Map<String, String> fields) {
+        String percentage = fields.get(PERCENTAGE);
+        return new FontProgressDetail(percentage == null ? null : Integer.valueOf(percentage), fields.get(STAGE));
+    }
+}
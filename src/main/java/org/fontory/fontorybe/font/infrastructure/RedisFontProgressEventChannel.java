@@ -0,0 +1,51 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.service.dto.FontProgressEvent;
+import org.fontory.fontorybe.font.service.port.FontProgressEventChannel;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림을 JSON으로 Pub/Sub 채널에 보낸다.
+ * Pub/Sub은 전달을 보장하지 않으므로 놓친 알림은 클라이언트 재연결(Last-Event-ID) 시 현재 현황으로 보완된다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisFontProgressEventChannel implements FontProgressEventChannel {
+    private static final String CHANNEL = "font_progress:updated";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(FontProgressEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to publish font progress event for member ID: {}: {}", event.memberId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<FontProgressEvent> listener) {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                listener.accept(objectMapper.readValue(body, FontProgressEvent.class));
+            } catch (JsonProcessingException e) {
+                log.warn("Ignored malformed font progress event: {}", body);
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+}
@@ -0,0 +1,60 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.service.port.FontProgressVersionStorage;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 버전은 증가 값이 아닌 임의 값이라 키가 만료되거나 유실되어도 이전 버전과 겹치지 않는다.
+ * Redis 장애 시에는 매번 새 버전을 반환해 조건부 요청이 항상 전체 응답을 받도록 한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisFontProgressVersionStorage implements FontProgressVersionStorage {
+    private static final String KEY_PREFIX = "font_progress_version:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public String getOrCreate(Long memberId) {
+        String key = KEY_PREFIX + memberId;
+        try {
+            String version = redisTemplate.opsForValue().get(key);
+            if (version != null) {
+                return version;
+            }
+
+            String newVersion = newVersion();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, newVersion, TTL))) {
+                return newVersion;
+            }
+            version = redisTemplate.opsForValue().get(key);
+            return version != null ? version : newVersion;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read font progress version for member ID: {}: {}", memberId, e.getMessage());
+            return newVersion();
+        }
+    }
+
+    @Override
+    public String renew(Long memberId) {
+        String version = newVersion();
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + memberId, version, TTL);
+        } catch (DataAccessException e) {
+            log.warn("Failed to renew font progress version for member ID: {}: {}", memberId, e.getMessage());
+        }
+        return version;
+    }
+
+    private String newVersion() {
+        return UUID.randomUUID().toString();
+    }
+}
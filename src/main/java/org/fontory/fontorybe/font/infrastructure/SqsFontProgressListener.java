@@ -0,0 +1,72 @@
+package org.fontory.fontorybe.font.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchItem;
+import org.fontory.fontorybe.font.service.FontProgressMessageHandler;
+import org.fontory.fontorybe.font.service.dto.FontProgressMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폰트 제작 서버가 보내는 상태 변경 메시지를 최대 10개씩 받아 한 번에 적용한다.
+ * 메서드가 정상 반환하면 받은 메시지를 일괄 확인(삭제)하고, 예외가 나면 확인하지 않아 가시성 시간 이후 다시 전달된다.
+ * 본문: {"fontId": 1, "status": "PROGRESS", "percentage": 40, "stage": "rendering"}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "font.progress.sqs.enabled", havingValue = "true")
+public class SqsFontProgressListener {
+
+    private final FontProgressMessageHandler fontProgressMessageHandler;
+    private final ObjectMapper objectMapper;
+
+    @SqsListener(
+            value = "${font.progress.sqs.queue-name}",
+            maxMessagesPerPoll = "10",
+            acknowledgementMode = "ON_SUCCESS")
+    public void consume(List<Message<String>> messages) {
+        log.debug("Received {} font progress messages", messages.size());
+        fontProgressMessageHandler.handle(messages.stream()
+                .map(this::toFontProgressMessage)
+                .toList());
+    }
+
+    private FontProgressMessage toFontProgressMessage(Message<String> message) {
+        String messageId = String.valueOf(message.getHeaders().getId());
+        return new FontProgressMessage(messageId, sentAt(message), parse(messageId, message.getPayload()));
+    }
+
+    private Instant sentAt(Message<String> message) {
+        Object sentTimestamp = message.getHeaders().get(SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP);
+        if (sentTimestamp == null) {
+            return null;
+        }
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(sentTimestamp.toString()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private FontProgressBatchItem parse(String messageId, String payload) {
+        try {
+            FontProgressBatchItem item = objectMapper.readValue(payload, FontProgressBatchItem.class);
+            if (item.getFontId() != null && item.getStatus() != null) {
+                return item;
+            }
+        } catch (JsonProcessingException e) {
+            log.debug("Failed to parse font progress message {}: {}", messageId, e.getMessage());
+        }
+        log.warn("Ignored malformed font progress message {}: {}", messageId, payload);
+        return null;
+    }
+}
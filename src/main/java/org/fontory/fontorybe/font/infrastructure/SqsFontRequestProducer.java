@@ -8,6 +8,7 @@ import org.fontory.fontorybe.font.domain.exception.FontSQSProduceExcepetion;
 import org.fontory.fontorybe.font.service.dto.FontRequestProduceDto;
 import org.fontory.fontorybe.font.service.port.FontRequestProducer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -16,6 +17,7 @@ import java.util.Map;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "font.request-producer.mode", havingValue = "sync", matchIfMissing = true)
 public class SqsFontRequestProducer implements FontRequestProducer {
 
     private final SqsTemplate sqsTemplate;
@@ -29,7 +31,7 @@ public class SqsFontRequestProducer implements FontRequestProducer {
             log.info("Sending font request to sqs queue {}", queueName);
 
             Map<String, Object> headers = new HashMap<>();
-            headers.put(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER, generateMessageGroupId(fontRequestProduceDto));
+            headers.put(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER, fontRequestProduceDto.getMessageGroupId());
 
             sqsTemplate.send(to -> to
                     .queue(queueName)
@@ -42,8 +44,4 @@ public class SqsFontRequestProducer implements FontRequestProducer {
             throw new FontSQSProduceExcepetion("Failed to produce font request message with sqs queue " + queueName);
         }
     }
-
-    private String generateMessageGroupId(FontRequestProduceDto dto) {
-        return dto.getRequestUUID();
-    }
 }
@@ -0,0 +1,38 @@
+package org.fontory.fontorybe.font.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 폰트 기록
+ * 폰트 DELETE와 같은 트랜잭션에 남겨, 다른 인스턴스의 검색/자동완성 색인이 주기 동기화에서 삭제를 반영하게 한다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "font_deletion",
+        indexes = @Index(name = "idx_font_deletion_deleted_at", columnList = "deleted_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FontDeletionEntity {
+
+    @Id
+    @Column(name = "font_id")
+    private Long fontId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public static FontDeletionEntity of(Long fontId, LocalDateTime deletedAt) {
+        return new FontDeletionEntity(fontId, deletedAt);
+    }
+}
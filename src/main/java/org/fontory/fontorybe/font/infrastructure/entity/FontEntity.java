@@ -4,9 +4,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -14,18 +13,32 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.fontory.fontorybe.common.domain.BaseEntity;
+import org.fontory.fontorybe.common.domain.TsidId;
 import org.fontory.fontorybe.font.domain.Font;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Getter
-@Table(name = "font")
+@Table(
+        name = "font",
+        indexes = {
+                @Index(name = "idx_font_member_status_created_at", columnList = "member_id, status, created_at"),
+                @Index(name = "idx_font_member_created_at", columnList = "member_id, created_at"),
+                @Index(name = "idx_font_status_created_at", columnList = "status, created_at"),
+                @Index(name = "idx_font_status_download_count", columnList = "status, download_count"),
+                @Index(name = "idx_font_status_bookmark_count", columnList = "status, bookmark_count"),
+                @Index(name = "idx_font_name", columnList = "name"),
+                @Index(name = "idx_font_updated_at", columnList = "updated_at")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @SuperBuilder
 public class FontEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "font_id")
     private Long id;
 
@@ -34,6 +47,7 @@ public class FontEntity extends BaseEntity {
     private String engName;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private FontStatus status;
 
     private String example;
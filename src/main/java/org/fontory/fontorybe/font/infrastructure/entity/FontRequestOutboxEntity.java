@@ -0,0 +1,62 @@
+package org.fontory.fontorybe.font.infrastructure.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.fontory.fontorybe.common.domain.BaseEntity;
+import org.fontory.fontorybe.common.domain.TsidId;
+
+/**
+ * 폰트 제작 요청 아웃박스
+ * 폰트 INSERT와 같은 트랜잭션에 기록하고, 릴레이(FontRequestOutboxRelay)가 커밋된 행만 SQS로 보낸 뒤 sent_at을 채운다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "font_request_outbox",
+        indexes = {
+                @Index(name = "idx_font_request_outbox_sent_at", columnList = "sent_at"),
+                @Index(name = "idx_font_request_outbox_font_id", columnList = "font_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@SuperBuilder
+public class FontRequestOutboxEntity extends BaseEntity {
+
+    @Id
+    @TsidId
+    @Column(name = "outbox_id")
+    private Long id;
+
+    private Long fontId;
+
+    private String messageGroupId;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    private int attempts;
+
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public void markSent(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+
+    public void recordFailure() {
+        this.attempts++;
+    }
+}
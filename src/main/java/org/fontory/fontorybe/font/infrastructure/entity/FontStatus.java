@@ -11,4 +11,11 @@ public enum FontStatus {
     FAILED("제작 실패");
 
     private final String key;
+
+    /**
+     * DONE/FAILED 이후에는 상태가 DB에 기록되고 제작 진행 정보는 더 이상 쓰지 않는다.
+     */
+    public boolean isTerminal() {
+        return this != PROGRESS;
+    }
 }
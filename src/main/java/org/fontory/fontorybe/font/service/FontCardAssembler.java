@@ -0,0 +1,98 @@
+package org.fontory.fontorybe.font.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.bookmark.service.BookmarkMembershipCache;
+import org.fontory.fontorybe.file.application.port.CloudStorageService;
+import org.fontory.fontorybe.font.controller.dto.FontPageResponse;
+import org.fontory.fontorybe.font.controller.dto.FontResponse;
+import org.fontory.fontorybe.font.service.dto.FontCard;
+import org.fontory.fontorybe.member.controller.port.WriterDirectory;
+import org.fontory.fontorybe.member.domain.exception.MemberNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폰트 목록 카드 조립
+ * 작성자 닉네임은 작성자 디렉터리(메모리)에서, 북마크 여부는 회원별 북마크 비트맵 캐시로 조회한다.
+ * 목록 조회는 카드 프로젝션(FontCard)에서 응답을 바로 만들어 행마다 엔티티와 도메인 객체를 거치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FontCardAssembler {
+    private final WriterDirectory writerDirectory;
+    private final BookmarkMembershipCache bookmarkMembershipCache;
+    private final CloudStorageService cloudStorageService;
+
+    public List<FontResponse> toFontResponses(List<FontCard> fonts, Long viewerId) {
+        Set<Long> bookmarkedFontIds = findBookmarkedFontIds(fonts, viewerId);
+        return assembleFontResponses(fonts, bookmarkedFontIds::contains);
+    }
+
+    public Page<FontResponse> toFontResponses(Page<FontCard> fonts, Long viewerId) {
+        return new PageImpl<>(toFontResponses(fonts.getContent(), viewerId), fonts.getPageable(), fonts.getTotalElements());
+    }
+
+    public List<FontPageResponse> toFontPageResponses(List<FontCard> fonts, Long viewerId) {
+        Map<Long, String> writerNames = findWriterNames(fonts);
+        Set<Long> bookmarkedFontIds = findBookmarkedFontIds(fonts, viewerId);
+
+        return fonts.stream()
+                .map(font -> font.toFontPageResponse(
+                        writerNameOf(writerNames, font),
+                        bookmarkedFontIds.contains(font.getId()),
+                        cloudStorageService.getWoff2Url(font.getKey())))
+                .toList();
+    }
+
+    public Page<FontPageResponse> toFontPageResponses(Page<FontCard> fonts, Long viewerId) {
+        return new PageImpl<>(toFontPageResponses(fonts.getContent(), viewerId), fonts.getPageable(), fonts.getTotalElements());
+    }
+
+    private List<FontResponse> assembleFontResponses(List<FontCard> fonts, Predicate<Long> isBookmarked) {
+        Map<Long, String> writerNames = findWriterNames(fonts);
+
+        return fonts.stream()
+                .map(font -> font.toFontResponse(
+                        isBookmarked.test(font.getId()),
+                        writerNameOf(writerNames, font),
+                        cloudStorageService.getWoff2Url(font.getKey())))
+                .toList();
+    }
+
+    private Map<Long, String> findWriterNames(List<FontCard> fonts) {
+        Set<Long> writerIds = fonts.stream()
+                .map(FontCard::getMemberId)
+                .collect(Collectors.toSet());
+
+        return writerDirectory.getNicknames(writerIds);
+    }
+
+    private Set<Long> findBookmarkedFontIds(List<FontCard> fonts, Long viewerId) {
+        if (viewerId == null || fonts.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> fontIds = fonts.stream()
+                .map(FontCard::getId)
+                .toList();
+
+        return bookmarkMembershipCache.findBookmarkedFontIds(viewerId, fontIds);
+    }
+
+    private String writerNameOf(Map<Long, String> writerNames, FontCard font) {
+        String writerName = writerNames.get(font.getMemberId());
+        if (writerName == null) {
+            log.error("Service error: Writer not found for font ID: {}, member ID: {}", font.getId(), font.getMemberId());
+            throw new MemberNotFoundException();
+        }
+        return writerName;
+    }
+}
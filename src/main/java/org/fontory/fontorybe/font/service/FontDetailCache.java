@@ -0,0 +1,152 @@
+package org.fontory.fontorybe.font.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.common.application.PrimaryReads;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.domain.exception.FontNotFoundException;
+import org.fontory.fontorybe.font.service.dto.CachedFont;
+import org.fontory.fontorybe.font.service.port.FontCacheStorage;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폰트 상세 2단 캐시 (조회 전용 경로에서만 사용)
+ * 로컬(Caffeine, 크기/TTL 제한) -> Redis -> DB 순으로 찾고, 없는 폰트도 짧게 캐시한다.
+ * 로컬 미스는 Caffeine이 키별로 한 번만 적재하므로 같은 폰트에 대한 동시 미스도 인스턴스당 DB 조회는 한 번이다.
+ * 적재는 항상 기본 DB에서 읽어, 복제 지연으로 이전 값이 Redis에 올라가 모든 인스턴스에 퍼지지 않게 한다.
+ * Redis에는 DB를 읽기 전의 버전이 그대로일 때만 저장하므로, 적재 도중 무효화된 폰트의 이전 값이 다시 올라가지 않는다.
+ * 캐시된 Font는 여러 요청이 공유하므로 변경하면 안 되며, 수정 경로는 FontRepository에서 직접 읽는다.
+ */
+@Slf4j
+@Component
+public class FontDetailCache {
+    private static final String CACHE_NAME = "font_detail";
+
+    private final FontRepository fontRepository;
+    private final FontCacheStorage fontCacheStorage;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, Optional<Font>> localFonts;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    public FontDetailCache(FontRepository fontRepository,
+                           FontCacheStorage fontCacheStorage,
+                           PrimaryReads primaryReads,
+                           MeterRegistry meterRegistry,
+                           @Value("${font.cache.local-max-size}") long localMaxSize,
+                           @Value("${font.cache.local-ttl-ms}") long localTtlMs) {
+        this.fontRepository = fontRepository;
+        this.fontCacheStorage = fontCacheStorage;
+        this.primaryReads = primaryReads;
+        this.localFonts = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localFonts, CACHE_NAME);
+        this.sharedHits = Counter.builder("font.cache.shared")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.sharedMisses = Counter.builder("font.cache.shared")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        fontCacheStorage.subscribeInvalidation(this::evictLocal);
+    }
+
+    public Font getOrThrowById(Long fontId) {
+        return localFonts.get(fontId, this::load).orElseThrow(() -> {
+            log.error("Service error: Font not found with ID: {}", fontId);
+            return new FontNotFoundException();
+        });
+    }
+
+    /**
+     * 없는 폰트를 제외하고 요청한 ID 순서대로 반환한다.
+     * 로컬 미스는 Redis 일괄 조회 후 나머지만 IN 쿼리 한 번으로 읽는다.
+     */
+    public List<Font> getAllByIds(Collection<Long> fontIds) {
+        Map<Long, Optional<Font>> fonts = localFonts.getAll(fontIds, this::loadAll);
+        return fontIds.stream()
+                .map(fonts::get)
+                .filter(font -> font != null && font.isPresent())
+                .map(Optional::get)
+                .toList();
+    }
+
+    /**
+     * 폰트 변경이 커밋된 이후 호출한다.
+     * Redis 사본을 지운 뒤 모든 인스턴스(자신 포함)에 로컬 캐시 무효화를 알린다.
+     */
+    public void invalidate(Long fontId) {
+        invalidateAll(List.of(fontId));
+    }
+
+    public void invalidateAll(Collection<Long> fontIds) {
+        if (fontIds.isEmpty()) {
+            return;
+        }
+        evictLocal(fontIds);
+        fontCacheStorage.evictAll(fontIds);
+        fontCacheStorage.publishInvalidation(fontIds);
+    }
+
+    private void evictLocal(Collection<Long> fontIds) {
+        localFonts.invalidateAll(fontIds);
+    }
+
+    private Optional<Font> load(Long fontId) {
+        Optional<CachedFont> shared = fontCacheStorage.find(fontId);
+        if (shared.isPresent()) {
+            sharedHits.increment();
+            return shared.get().getFont();
+        }
+
+        sharedMisses.increment();
+        long version = fontCacheStorage.findVersions(List.of(fontId)).get(fontId);
+        Optional<Font> font = primaryReads.read(() -> fontRepository.findById(fontId));
+        fontCacheStorage.save(fontId, CachedFont.of(font), version);
+        log.debug("Service detail: Loaded font ID: {} into detail cache, found: {}", fontId, font.isPresent());
+        return font;
+    }
+
+    private Map<Long, Optional<Font>> loadAll(Set<? extends Long> fontIds) {
+        Map<Long, Optional<Font>> loaded = new HashMap<>();
+        fontCacheStorage.findAll(List.copyOf(fontIds))
+                .forEach((fontId, cachedFont) -> loaded.put(fontId, cachedFont.getFont()));
+        sharedHits.increment(loaded.size());
+
+        List<Long> missingIds = fontIds.stream()
+                .filter(fontId -> !loaded.containsKey(fontId))
+                .collect(Collectors.toList());
+        if (missingIds.isEmpty()) {
+            return loaded;
+        }
+
+        sharedMisses.increment(missingIds.size());
+        Map<Long, Long> versions = fontCacheStorage.findVersions(missingIds);
+        Map<Long, Font> fonts = primaryReads.read(() -> fontRepository.findAllByIdIn(missingIds)).stream()
+                .collect(Collectors.toMap(Font::getId, Function.identity()));
+        for (Long fontId : missingIds) {
+            Optional<Font> font = Optional.ofNullable(fonts.get(fontId));
+            fontCacheStorage.save(fontId, CachedFont.of(font), versions.get(fontId));
+            loaded.put(fontId, font);
+        }
+        log.debug("Service detail: Loaded {} fonts into detail cache", missingIds.size());
+        return loaded;
+    }
+}
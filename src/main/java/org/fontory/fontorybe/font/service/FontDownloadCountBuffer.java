@@ -0,0 +1,63 @@
+package org.fontory.fontorybe.font.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다운로드 수 쓰기 지연 버퍼
+ * 다운로드 요청은 폰트별 LongAdder만 증가시키고, 주기적으로 모인 증가분을 한 번의 배치 UPDATE로 반영한다.
+ * 같은 행에 대한 동시 갱신이 직렬화되지 않고, 상대 증가(download_count + ?)라 갱신이 유실되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FontDownloadCountBuffer {
+    private final FontRepository fontRepository;
+    private final FontDetailCache fontDetailCache;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    public void increment(Long fontId) {
+        pendingCounts.computeIfAbsent(fontId, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 항목을 지우지 않고 sumThenReset으로 비우므로 반영 중에 들어온 증가분은 다음 주기로 넘어간다.
+     * 반영에 실패하면 증가분을 버퍼에 되돌린다.
+     */
+    @Scheduled(fixedDelayString = "${font.download-count.flush-interval-ms}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingCounts.forEach((fontId, count) -> {
+            long delta = count.sumThenReset();
+            if (delta > 0) {
+                deltas.put(fontId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            fontRepository.increaseDownloadCounts(deltas);
+            fontDetailCache.invalidateAll(deltas.keySet());
+            log.debug("Service detail: Flushed download counts for {} fonts", deltas.size());
+        } catch (RuntimeException e) {
+            deltas.forEach((fontId, delta) -> pendingCounts.computeIfAbsent(fontId, key -> new LongAdder()).add(delta));
+            log.warn("Failed to flush download counts for {} fonts, will retry: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
@@ -0,0 +1,153 @@
+package org.fontory.fontorybe.font.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.domain.exception.FontGenerationOverloadedException;
+import org.fontory.fontorybe.font.domain.exception.FontGenerationQuotaExceededException;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.dto.FontAdmission;
+import org.fontory.fontorybe.font.service.dto.FontGenerationLoad;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폰트 제작 요청(POST /fonts) 수락 제어
+ * - 회원의 제작 중인 폰트 수가 등급별 상한 이상이면 429로 거절한다.
+ * - 전체 제작 중인 폰트 수(작업 큐 깊이)가 reject-depth 이상이면 503으로 거절한다.
+ * - delay-depth 이상이면 받되, 이미 제작 중인 폰트가 있는 회원의 요청은 (제작 중 개수 × delay-step) 만큼 늦게 보내
+ *   다른 회원의 첫 요청이 먼저 처리되게 한다.
+ * 작업 큐의 메시지 그룹이 회원별이라 한 회원의 요청은 순서대로 하나씩, 여러 회원의 요청은 번갈아 처리된다.
+ * 회원별 개수는 요청마다 세지만 동시에 들어온 요청은 함께 통과할 수 있어 상한은 근사치다.
+ * 전체 깊이와 등급별 지표는 주기적으로 집계한 값을 쓴다.
+ */
+@Slf4j
+@Component
+public class FontGenerationScheduler {
+    public static final String STANDARD_TIER = "standard";
+    public static final String PRIORITY_TIER = "priority";
+    private static final List<String> TIERS = List.of(STANDARD_TIER, PRIORITY_TIER);
+
+    private final FontRepository fontRepository;
+    private final MeterRegistry meterRegistry;
+    private final Set<Long> priorityMemberIds;
+    private final Map<String, Integer> quotas;
+    private final long delayDepth;
+    private final long rejectDepth;
+    private final Duration delayStep;
+    private final long quotaRetryAfterSeconds;
+    private final long overloadRetryAfterSeconds;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Map<String, AtomicLong> queuedByTier = new HashMap<>();
+    private final Map<String, AtomicLong> inFlightByTier = new HashMap<>();
+
+    public FontGenerationScheduler(FontRepository fontRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${font.generation.priority-member-ids}") Set<Long> priorityMemberIds,
+                                   @Value("${font.generation.quota.standard}") int standardQuota,
+                                   @Value("${font.generation.quota.priority}") int priorityQuota,
+                                   @Value("${font.generation.admission.delay-depth}") long delayDepth,
+                                   @Value("${font.generation.admission.reject-depth}") long rejectDepth,
+                                   @Value("${font.generation.admission.delay-step-ms}") long delayStepMs,
+                                   @Value("${font.generation.admission.quota-retry-after-seconds}") long quotaRetryAfterSeconds,
+                                   @Value("${font.generation.admission.overload-retry-after-seconds}") long overloadRetryAfterSeconds) {
+        this.fontRepository = fontRepository;
+        this.meterRegistry = meterRegistry;
+        this.priorityMemberIds = priorityMemberIds;
+        this.quotas = Map.of(STANDARD_TIER, standardQuota, PRIORITY_TIER, priorityQuota);
+        this.delayDepth = delayDepth;
+        this.rejectDepth = rejectDepth;
+        this.delayStep = Duration.ofMillis(delayStepMs);
+        this.quotaRetryAfterSeconds = quotaRetryAfterSeconds;
+        this.overloadRetryAfterSeconds = overloadRetryAfterSeconds;
+        Gauge.builder("font.generation.queue.depth", queueDepth, AtomicLong::get)
+                .register(meterRegistry);
+        for (String tier : TIERS) {
+            queuedByTier.put(tier, jobGauge(tier, "queued"));
+            inFlightByTier.put(tier, jobGauge(tier, "in_flight"));
+        }
+    }
+
+    /**
+     * 거절하면 예외를 던지고, 받으면 작업 큐로 보내기 전 기다릴 시간을 돌려준다.
+     */
+    public FontAdmission admit(Long memberId) {
+        String tier = tierOf(memberId);
+        int quota = quotas.get(tier);
+        long inProgress = fontRepository.countByMemberIdAndStatus(memberId, FontStatus.PROGRESS);
+        if (inProgress >= quota) {
+            record(tier, "rejected_quota");
+            log.warn("Service error: Font generation quota {} reached for member ID: {} ({} in progress)", quota, memberId, inProgress);
+            throw new FontGenerationQuotaExceededException(quota, quotaRetryAfterSeconds);
+        }
+
+        long depth = queueDepth.get();
+        if (depth >= rejectDepth) {
+            record(tier, "rejected_overload");
+            log.warn("Service error: Font generation queue depth {} reached limit {}, rejected member ID: {}", depth, rejectDepth, memberId);
+            throw new FontGenerationOverloadedException(overloadRetryAfterSeconds);
+        }
+
+        if (depth >= delayDepth && inProgress > 0) {
+            Duration delay = delayStep.multipliedBy(inProgress);
+            record(tier, "delayed");
+            log.info("Service detail: Font generation for member ID: {} delayed by {} (queue depth {}, {} in progress)",
+                    memberId, delay, depth, inProgress);
+            return FontAdmission.delay(delay);
+        }
+
+        record(tier, "accepted");
+        return FontAdmission.accept();
+    }
+
+    @Scheduled(fixedDelayString = "${font.generation.load-refresh-ms}")
+    public void refreshLoad() {
+        List<FontGenerationLoad> loads;
+        try {
+            loads = fontRepository.findGenerationLoads();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh font generation load, keeping previous values: {}", e.getMessage());
+            return;
+        }
+
+        Map<String, Long> queued = new HashMap<>();
+        Map<String, Long> inFlight = new HashMap<>();
+        long depth = 0;
+        for (FontGenerationLoad load : loads) {
+            String tier = tierOf(load.memberId());
+            queued.merge(tier, load.queued(), Long::sum);
+            inFlight.merge(tier, load.inFlight(), Long::sum);
+            depth += load.inProgress();
+        }
+        for (String tier : TIERS) {
+            queuedByTier.get(tier).set(queued.getOrDefault(tier, 0L));
+            inFlightByTier.get(tier).set(inFlight.getOrDefault(tier, 0L));
+        }
+        queueDepth.set(depth);
+    }
+
+    private String tierOf(Long memberId) {
+        return priorityMemberIds.contains(memberId) ? PRIORITY_TIER : STANDARD_TIER;
+    }
+
+    private void record(String tier, String decision) {
+        meterRegistry.counter("font.generation.admission", "tier", tier, "decision", decision).increment();
+    }
+
+    private AtomicLong jobGauge(String tier, String state) {
+        AtomicLong value = new AtomicLong();
+        Gauge.builder("font.generation.jobs", value, AtomicLong::get)
+                .tag("tier", tier)
+                .tag("state", state)
+                .register(meterRegistry);
+        return value;
+    }
+}
@@ -0,0 +1,50 @@
+package org.fontory.fontorybe.font.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.port.FontLeaderboard;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 폰트 랭킹을 DB 기준으로 다시 만든다.
+ * 랭킹 갱신은 커밋 이후 수행되므로 갱신 실패, 유실된 다운로드 수 등으로 생긴 차이를 주기적으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FontLeaderboardRebuilder {
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final FontRepository fontRepository;
+    private final FontLeaderboard fontLeaderboard;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${font.leaderboard.rebuild-cron}")
+    public void rebuild() {
+        List<Font> fonts = new ArrayList<>();
+        long lastId = 0L;
+        List<Font> chunk;
+        do {
+            chunk = fontRepository.findAllByStatusAndIdGreaterThan(FontStatus.DONE, lastId, REBUILD_CHUNK_SIZE);
+            fonts.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        fontLeaderboard.replaceAll(fonts);
+        log.info("Service detail: Font leaderboard rebuilt with {} fonts", fonts.size());
+    }
+}
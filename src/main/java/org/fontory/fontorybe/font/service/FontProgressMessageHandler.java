@@ -0,0 +1,96 @@
+package org.fontory.fontorybe.font.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchItem;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchUpdateResponse;
+import org.fontory.fontorybe.font.controller.port.FontService;
+import org.fontory.fontorybe.font.service.dto.FontProgressMessage;
+import org.fontory.fontorybe.font.service.port.ConsumedMessageStorage;
+import org.springframework.stereotype.Component;
+
+/**
+ * 큐로 받은 폰트 상태 변경을 묶음 단위로 적용한다. (PATCH /fonts/progress와 같은 로직)
+ * 이미 처리한 메시지와 본문을 해석할 수 없는 메시지는 건너뛰고, 묶음 전체가 성공한 뒤에만 처리 완료로 기록한다.
+ * 예외가 전파되면 메시지가 확인(삭제)되지 않아 큐가 다시 전달한다.
+ */
+@Slf4j
+@Component
+public class FontProgressMessageHandler {
+    private final FontService fontService;
+    private final ConsumedMessageStorage consumedMessageStorage;
+    private final Timer batchLatency;
+    private final Timer consumerLag;
+    private final Counter applied;
+    private final Counter duplicated;
+    private final Counter malformed;
+
+    public FontProgressMessageHandler(FontService fontService,
+                                      ConsumedMessageStorage consumedMessageStorage,
+                                      MeterRegistry meterRegistry) {
+        this.fontService = fontService;
+        this.consumedMessageStorage = consumedMessageStorage;
+        this.batchLatency = Timer.builder("font.progress.consumer.batch")
+                .description("Time to apply one batch of font progress messages")
+                .register(meterRegistry);
+        this.consumerLag = Timer.builder("font.progress.consumer.lag")
+                .description("Time from enqueue to consumption of a font progress message")
+                .register(meterRegistry);
+        this.applied = messageCounter(meterRegistry, "applied");
+        this.duplicated = messageCounter(meterRegistry, "duplicate");
+        this.malformed = messageCounter(meterRegistry, "malformed");
+    }
+
+    public void handle(List<FontProgressMessage> messages) {
+        batchLatency.record(() -> apply(messages));
+    }
+
+    private void apply(List<FontProgressMessage> messages) {
+        Instant now = Instant.now();
+        messages.stream()
+                .map(FontProgressMessage::sentAt)
+                .filter(Objects::nonNull)
+                .forEach(sentAt -> consumerLag.record(Duration.between(sentAt, now)));
+
+        Set<String> consumed = consumedMessageStorage.findConsumed(messages.stream()
+                .map(FontProgressMessage::messageId)
+                .toList());
+        List<FontProgressMessage> pending = messages.stream()
+                .filter(message -> !consumed.contains(message.messageId()))
+                .toList();
+        duplicated.increment(messages.size() - pending.size());
+
+        List<FontProgressBatchItem> items = pending.stream()
+                .map(FontProgressMessage::item)
+                .filter(Objects::nonNull)
+                .toList();
+        malformed.increment(pending.size() - items.size());
+
+        if (!items.isEmpty()) {
+            List<FontProgressBatchUpdateResponse> results = fontService.updateProgresses(items);
+            log.debug("Service detail: Applied font progress messages: {}", results.stream()
+                    .map(result -> result.getFontId() + "=" + result.getResult())
+                    .toList());
+        }
+        applied.increment(items.size());
+
+        consumedMessageStorage.markConsumed(pending.stream()
+                .map(FontProgressMessage::messageId)
+                .toList());
+        log.info("Service completed: Consumed {} font progress messages ({} duplicate, {} malformed)",
+                messages.size(), messages.size() - pending.size(), pending.size() - items.size());
+    }
+
+    private static Counter messageCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("font.progress.consumer.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,167 @@
+package org.fontory.fontorybe.font.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.controller.dto.FontProgressResponse;
+import org.fontory.fontorybe.font.domain.exception.FontProgressStreamLimitExceededException;
+import org.fontory.fontorybe.font.service.dto.FontProgressEvent;
+import org.fontory.fontorybe.font.service.port.FontProgressEventChannel;
+import org.fontory.fontorybe.font.service.port.FontProgressVersionStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 회원별 폰트 제작 현황 SSE 스트림 (GET /fonts/progress/stream)
+ * 이벤트 ID는 제작 현황 버전(FontProgressVersionStorage)이라, 재연결 시 Last-Event-ID가 현재 버전과 같으면 DB를 읽지 않는다.
+ * 변경 알림에는 현황 목록(progress) 또는 바뀐 폰트 하나(progress-detail)가 함께 실려 오므로 연결을 가진 인스턴스도 DB를 다시 읽지 않는다.
+ * 인스턴스당 연결 수가 상한을 넘으면 거절하고, 클라이언트는 GET /fonts/progress 폴링으로 대체한다.
+ */
+@Slf4j
+@Component
+public class FontProgressStream {
+    private static final String PROGRESS_EVENT = "progress";
+    private static final String DETAIL_EVENT = "progress-detail";
+
+    private final FontProgressVersionStorage fontProgressVersionStorage;
+    private final FontProgressEventChannel fontProgressEventChannel;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final int maxConnections;
+    private final long timeoutMs;
+    private final long reconnectTimeMs;
+
+    public FontProgressStream(FontProgressVersionStorage fontProgressVersionStorage,
+                              FontProgressEventChannel fontProgressEventChannel,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${font.progress.stream.max-connections}") int maxConnections,
+                              @Value("${font.progress.stream.timeout-ms}") long timeoutMs,
+                              @Value("${font.progress.stream.reconnect-time-ms}") long reconnectTimeMs) {
+        this.fontProgressVersionStorage = fontProgressVersionStorage;
+        this.fontProgressEventChannel = fontProgressEventChannel;
+        this.objectMapper = objectMapper;
+        this.maxConnections = maxConnections;
+        this.timeoutMs = timeoutMs;
+        this.reconnectTimeMs = reconnectTimeMs;
+        Gauge.builder("font.progress.stream.connections", connections, AtomicInteger::get)
+                .register(meterRegistry);
+        fontProgressEventChannel.subscribe(this::dispatch);
+    }
+
+    /**
+     * Last-Event-ID가 현재 버전과 다르면(첫 연결 포함) 현재 현황을 먼저 보낸다.
+     */
+    public SseEmitter connect(Long memberId, String lastEventId, Supplier<List<FontProgressResponse>> progress) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            log.warn("Service error: Font progress stream limit {} reached, rejected member ID: {}", maxConnections, memberId);
+            throw new FontProgressStreamLimitExceededException();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitters.compute(memberId, (id, memberEmitters) -> {
+            Set<SseEmitter> result = memberEmitters != null ? memberEmitters : ConcurrentHashMap.newKeySet();
+            result.add(emitter);
+            return result;
+        });
+        emitter.onCompletion(() -> release(memberId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> release(memberId, emitter));
+
+        try {
+            String version = fontProgressVersionStorage.getOrCreate(memberId);
+            if (version.equals(lastEventId)) {
+                log.debug("Service detail: Font progress stream resumed at version {} for member ID: {}", version, memberId);
+                send(memberId, emitter, SseEmitter.event()
+                        .reconnectTime(reconnectTimeMs)
+                        .comment("resumed"));
+            } else {
+                send(memberId, emitter, event(version, PROGRESS_EVENT, serialize(progress.get()))
+                        .reconnectTime(reconnectTimeMs));
+            }
+        } catch (RuntimeException e) {
+            release(memberId, emitter);
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * 변경이 커밋된 이후 호출한다. 모든 인스턴스의 해당 회원 스트림으로 전달된다.
+     */
+    public void publish(Long memberId, String version, List<FontProgressResponse> fonts) {
+        fontProgressEventChannel.publish(new FontProgressEvent(memberId, version, PROGRESS_EVENT, serialize(fonts)));
+    }
+
+    /**
+     * 제작 중인 폰트 하나의 진행 정보만 바뀐 경우, 목록을 다시 읽지 않고 바뀐 폰트만 보낸다.
+     */
+    public void publishDetail(Long memberId, String version, FontProgressResponse font) {
+        fontProgressEventChannel.publish(new FontProgressEvent(memberId, version, DETAIL_EVENT, serialize(font)));
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${font.progress.stream.heartbeat-interval-ms}")
+    public void heartbeat() {
+        emitters.forEach((memberId, memberEmitters) ->
+                memberEmitters.forEach(emitter -> send(memberId, emitter, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void dispatch(FontProgressEvent event) {
+        Set<SseEmitter> memberEmitters = emitters.get(event.memberId());
+        if (memberEmitters == null) {
+            return;
+        }
+        memberEmitters.forEach(emitter -> send(event.memberId(), emitter, event(event.version(), event.name(), event.data())));
+    }
+
+    private SseEmitter.SseEventBuilder event(String version, String name, String data) {
+        return SseEmitter.event()
+                .id(version)
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON);
+    }
+
+    private String serialize(Object progress) {
+        try {
+            return objectMapper.writeValueAsString(progress);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize font progress", e);
+        }
+    }
+
+    private void send(Long memberId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Service detail: Font progress stream closed for member ID: {}: {}", memberId, e.getMessage());
+            release(memberId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void release(Long memberId, SseEmitter emitter) {
+        emitters.computeIfPresent(memberId, (id, memberEmitters) -> {
+            if (memberEmitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
+    }
+}
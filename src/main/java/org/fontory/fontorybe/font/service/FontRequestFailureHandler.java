@@ -0,0 +1,47 @@
+package org.fontory.fontorybe.font.service;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.FontRequestAbandonedEvent;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchItem;
+import org.fontory.fontorybe.font.controller.port.FontService;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 제작 요청을 보내지 못한 폰트를 FAILED로 바꿔, 제작 중으로 영원히 남지 않게 한다.
+ * 제작 서버의 실패 보고와 같은 조건부 갱신(updateProgresses)을 사용하므로 이미 완료/실패한 폰트는 바꾸지 않고, 바뀐 폰트만 알린다.
+ * 커밋 이후 콜백이나 다른 트랜잭션 안에서도 발행되므로 새 트랜잭션에서 반영한다.
+ */
+@Slf4j
+@Component
+public class FontRequestFailureHandler {
+    private final FontService fontService;
+    private final TransactionTemplate transactionTemplate;
+
+    public FontRequestFailureHandler(FontService fontService, PlatformTransactionManager transactionManager) {
+        this.fontService = fontService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void markFailed(FontRequestAbandonedEvent event) {
+        List<FontProgressBatchItem> items = event.getFontIds().stream()
+                .map(fontId -> FontProgressBatchItem.builder()
+                        .fontId(fontId)
+                        .status(FontStatus.FAILED)
+                        .build())
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> fontService.updateProgresses(items));
+            log.warn("Service detail: Marked fonts FAILED after their font requests were abandoned, font IDs: {}", event.getFontIds());
+        } catch (RuntimeException e) {
+            log.error("Service error: Failed to mark abandoned font requests FAILED, font IDs: {}", event.getFontIds(), e);
+        }
+    }
+}
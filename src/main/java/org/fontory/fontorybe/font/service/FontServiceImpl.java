@@ -1,64 +1,133 @@
 package org.fontory.fontorybe.font.service;
 
 import com.vane.badwordfiltering.BadWordFiltering;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.fontory.fontorybe.bookmark.service.port.BookmarkRepository;
+import org.fontory.fontorybe.bookmark.service.BookmarkMembershipCache;
+import org.fontory.fontorybe.common.application.ETags;
+import org.fontory.fontorybe.common.application.TransactionCallbacks;
 import org.fontory.fontorybe.file.application.port.CloudStorageService;
 import org.fontory.fontorybe.file.application.port.FileService;
 import org.fontory.fontorybe.file.domain.FileMetadata;
 import org.fontory.fontorybe.file.domain.FileUploadResult;
 import org.fontory.fontorybe.font.FontCreateCompleteNotificationEvent;
 import org.fontory.fontorybe.font.FontCreateRequestNotificationEvent;
+import org.fontory.fontorybe.font.controller.dto.CursorPageResponse;
+import org.fontory.fontorybe.font.controller.dto.FontAutocompleteResponse;
 import org.fontory.fontorybe.font.controller.dto.FontCreateDTO;
 import org.fontory.fontorybe.font.controller.dto.FontDeleteResponse;
 import org.fontory.fontorybe.font.controller.dto.FontDownloadResponse;
 import org.fontory.fontorybe.font.controller.dto.FontPageResponse;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchItem;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchUpdateResponse;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchUpdateResponse.Result;
 import org.fontory.fontorybe.font.controller.dto.FontProgressResponse;
 import org.fontory.fontorybe.font.controller.dto.FontProgressUpdateDTO;
 import org.fontory.fontorybe.font.controller.dto.FontResponse;
 import org.fontory.fontorybe.font.controller.dto.FontUpdateResponse;
+import org.fontory.fontorybe.font.controller.dto.SliceResponse;
 import org.fontory.fontorybe.font.controller.port.FontService;
 import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.domain.FontSortType;
 import org.fontory.fontorybe.font.domain.exception.FontContainsBadWordException;
 import org.fontory.fontorybe.font.domain.exception.FontDuplicateNameExistsException;
 import org.fontory.fontorybe.font.domain.exception.FontInvalidStatusException;
 import org.fontory.fontorybe.font.domain.exception.FontNotFoundException;
 import org.fontory.fontorybe.font.domain.exception.FontOwnerMismatchException;
 import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.dto.FontCard;
+import org.fontory.fontorybe.font.service.dto.FontAdmission;
+import org.fontory.fontorybe.font.service.dto.FontCursor;
+import org.fontory.fontorybe.font.service.dto.FontProgressDetail;
 import org.fontory.fontorybe.font.service.dto.FontRequestProduceDto;
+import org.fontory.fontorybe.font.service.port.FontLeaderboard;
+import org.fontory.fontorybe.font.service.port.FontProgressDetailStorage;
+import org.fontory.fontorybe.font.service.port.FontProgressVersionStorage;
 import org.fontory.fontorybe.font.service.port.FontRepository;
 import org.fontory.fontorybe.font.service.port.FontRequestProducer;
+import org.fontory.fontorybe.font.service.search.FontAutocompleteIndex;
+import org.fontory.fontorybe.font.service.search.FontSearchIndex;
 import org.fontory.fontorybe.member.controller.port.MemberLookupService;
+import org.fontory.fontorybe.member.controller.port.WriterDirectory;
 import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.domain.WriterProfile;
 import org.fontory.fontorybe.sms.application.port.PhoneNumberStorage;
 import org.fontory.fontorybe.sms.application.port.SmsService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FontServiceImpl implements FontService {
+    /**
+     * 후보가 이보다 많은 넓은 키워드는 개수 정렬을 IN 쿼리로 처리하지 않고 기존 LIKE 검색으로 처리한다.
+     */
+    private static final int MAX_COUNT_SORT_CANDIDATES = 10_000;
+    private static final int POPULAR_FONTS_LIMIT = 3;
+    private static final int MY_POPULAR_FONTS_LIMIT = 4;
+    /**
+     * 랭킹에는 삭제/상태 변경이 늦게 반영될 수 있으므로 필요한 개수보다 여유 있게 후보를 가져온다.
+     */
+    private static final int LEADERBOARD_OVERFETCH_FACTOR = 3;
+
     private final FileService fileService;
     private final FontRepository fontRepository;
-    private final BookmarkRepository bookmarkRepository;
+    private final FontDetailCache fontDetailCache;
+    private final BookmarkMembershipCache bookmarkMembershipCache;
     private final MemberLookupService memberLookupService;
+    private final WriterDirectory writerDirectory;
     private final FontRequestProducer fontRequestProducer;
+    private final FontGenerationScheduler fontGenerationScheduler;
     private final CloudStorageService cloudStorageService;
+    private final FontCardAssembler fontCardAssembler;
+    private final FontTotalCounter fontTotalCounter;
+    private final FontSearchIndex fontSearchIndex;
+    private final FontAutocompleteIndex fontAutocompleteIndex;
+    private final FontLeaderboard fontLeaderboard;
+    private final FontDownloadCountBuffer fontDownloadCountBuffer;
+    private final FontProgressVersionStorage fontProgressVersionStorage;
+    private final FontProgressStream fontProgressStream;
+    private final FontProgressDetailStorage fontProgressDetailStorage;
     private final BadWordFiltering badWordFiltering;
     private final ApplicationEventPublisher eventPublisher;
 
+    @Override
+    public FontAdmission admitCreation(Long memberId) {
+        log.info("Service executing: Checking font generation admission for member ID: {}", memberId);
+        FontAdmission admission = fontGenerationScheduler.admit(memberId);
+        log.info("Service completed: Font generation admitted for member ID: {}, delay: {}", memberId, admission.delay());
+        return admission;
+    }
+
     @Override
     @Transactional
     public Font create(Long memberId, FontCreateDTO fontCreateDTO, FileUploadResult fileDetails) {
+        return create(memberId, fontCreateDTO, fileDetails, FontAdmission.accept());
+    }
+
+    @Override
+    @Transactional
+    public Font create(Long memberId, FontCreateDTO fontCreateDTO, FileUploadResult fileDetails, FontAdmission admission) {
         log.info("Service executing: Creating font for member ID: {}, font name: {}", memberId, fontCreateDTO.getName());
         Member member = memberLookupService.getOrThrowById(memberId);
 
@@ -71,8 +140,13 @@ public class FontServiceImpl implements FontService {
         FileMetadata fileMetadata = fileService.getOrThrowById(fileDetails.getId());
 
         Font savedFont = fontRepository.save(Font.from(fontCreateDTO, member.getId(), fileMetadata.getKey()));
+        // 생성 전에 캐시된 '없는 폰트' 항목을 지운다.
+        TransactionCallbacks.afterCommit(() -> {
+            fontDetailCache.invalidate(savedFont.getId());
+            fontProgressVersionStorage.renew(memberId);
+        });
         String fontPaperUrl = cloudStorageService.getFontPaperUrl(savedFont.getKey());
-        fontRequestProducer.sendFontRequest(FontRequestProduceDto.from(savedFont, member, fontPaperUrl));
+        fontRequestProducer.sendFontRequest(FontRequestProduceDto.from(savedFont, member, fontPaperUrl), admission.delay());
 
         if (fontCreateDTO.getPhoneNumber() != null && !fontCreateDTO.getPhoneNumber().isBlank()) {
             String notificationPhoneNumber = fontCreateDTO.getPhoneNumber();
@@ -90,8 +164,16 @@ public class FontServiceImpl implements FontService {
         List<Font> fonts = fontRepository.findTop5ByMemberIdOrderByCreatedAtDesc(memberId);
         log.debug("Service detail: Found {} fonts for progress display", fonts.size());
 
+        List<Long> inProgressFontIds = fonts.stream()
+                .filter(font -> !font.getStatus().isTerminal())
+                .map(Font::getId)
+                .toList();
+        Map<Long, FontProgressDetail> details = inProgressFontIds.isEmpty()
+                ? Map.of()
+                : fontProgressDetailStorage.findAll(inProgressFontIds);
+
         List<FontProgressResponse> result = fonts.stream()
-                .map(FontProgressResponse::from)
+                .map(font -> FontProgressResponse.from(font, details.get(font.getId())))
                 .collect(Collectors.toList());
                 
         log.info("Service completed: Retrieved {} font progress items", result.size());
@@ -115,18 +197,12 @@ public class FontServiceImpl implements FontService {
         Sort sort = Sort.by(Sort.Order.desc("createdAt"));
         PageRequest pageRequest = PageRequest.of(page, size, sort);
 
-        Page<Font> fontPage = fontRepository.findAllByMemberIdAndStatus(memberId, pageRequest, FontStatus.DONE);
+        Page<FontCard> fontPage = fontRepository.findCardsByMemberIdAndStatus(memberId, pageRequest, FontStatus.DONE);
         log.debug("Service detail: Found {} fonts on page {} for member ID: {}", 
                 fontPage.getNumberOfElements(), page, memberId);
 
-        Page<FontResponse> result = fontPage.map(font -> {
-            boolean bookmarked = bookmarkRepository.existsByMemberIdAndFontId(memberId, font.getId());
-            Member writer = memberLookupService.getOrThrowById(font.getMemberId());
-            String woff2Url = cloudStorageService.getWoff2Url(font.getKey());
-            return FontResponse.from(font, bookmarked, writer.getNickname(), woff2Url);
-        });
+        Page<FontResponse> result = fontCardAssembler.toFontResponses(fontPage, memberId);
 
-        
         log.info("Service completed: Retrieved {} fonts out of {} total for member ID: {}", 
                 result.getNumberOfElements(), result.getTotalElements(), memberId);
         return result;
@@ -136,14 +212,11 @@ public class FontServiceImpl implements FontService {
     @Transactional(readOnly = true)
     public FontResponse getFont(Long fontId, Long memberId) {
         log.info("Service executing: Fetching font details for font ID: {}", fontId);
-        Font targetFont = getOrThrowById(fontId);
+        Font targetFont = fontDetailCache.getOrThrowById(fontId);
         checkFontStatusIsDone(targetFont);
-        Member writer = memberLookupService.getOrThrowById(targetFont.getMemberId());
+        WriterProfile writer = writerDirectory.getOrThrowById(targetFont.getMemberId());
 
-        boolean isBookmarked = false;
-        if (memberId != null) {
-            isBookmarked = bookmarkRepository.existsByMemberIdAndFontId(memberId, fontId);
-        }
+        boolean isBookmarked = bookmarkMembershipCache.isBookmarked(memberId, fontId);
         String woff2Url = cloudStorageService.getWoff2Url(targetFont.getKey());
         FontResponse fontResponse = FontResponse.from(targetFont, isBookmarked, writer.getNickname(), woff2Url);
 
@@ -164,6 +237,13 @@ public class FontServiceImpl implements FontService {
         checkFontOwnership(member.getId(), targetFont.getMemberId());
 
         fontRepository.deleteById(targetFont.getId());
+        TransactionCallbacks.afterCommit(() -> {
+            fontSearchIndex.remove(fontId);
+            fontAutocompleteIndex.remove(List.of(fontId));
+            fontLeaderboard.remove(targetFont);
+            fontDetailCache.invalidate(fontId);
+            fontProgressVersionStorage.renew(memberId);
+        });
         log.info("Service completed: Font ID: {} deleted successfully", fontId);
 
         return FontDeleteResponse.from(fontId);
@@ -174,68 +254,128 @@ public class FontServiceImpl implements FontService {
         log.info("Service executing: Fetching font page with memberId: {}, page: {}, size: {}, sortBy: {}, keyword: {}", 
                 memberId, page, size, sortBy, keyword);
                 
-        Sort sort = Sort.by(Sort.Order.desc("createdAt"));
-        if ("downloadCount".equalsIgnoreCase(sortBy)) {
-            sort = Sort.by(Sort.Order.desc("downloadCount"));
-        } else if ("bookmarkCount".equalsIgnoreCase(sortBy)) {
-            sort = Sort.by(Sort.Order.desc("bookmarkCount"));
-        }
-
+        FontSortType sortType = FontSortType.from(sortBy);
+        Sort sort = Sort.by(Sort.Order.desc(sortType.getProperty()));
         PageRequest pageRequest = PageRequest.of(page, size, sort);
 
-        Page<Font> fontPage;
+        Page<FontCard> fontPage;
         if (!StringUtils.hasText(keyword)) {
-            fontPage = fontRepository.findAllByStatus(pageRequest, FontStatus.DONE);
+            fontPage = fontRepository.findCardsByStatus(pageRequest, FontStatus.DONE);
         } else {
             log.debug("Service detail: Searching fonts with keyword: {}", keyword);
-            fontPage = fontRepository.findByNameContainingAndStatus(keyword, pageRequest, FontStatus.DONE);
+            fontPage = searchByKeyword(keyword, pageRequest, sortType);
         }
         
         log.debug("Service detail: Found {} fonts on page {}", fontPage.getNumberOfElements(), page);
 
-        Page<FontPageResponse> result;
-        if (memberId == null) {
-            result = fontPage.map(font -> {
-                Member member = memberLookupService.getOrThrowById(font.getMemberId());
-                String woff2Url = cloudStorageService.getWoff2Url(font.getKey());
-                return FontPageResponse.from(font, member.getNickname(), false, woff2Url);
-            });
-        } else {
-            result = fontPage.map(font -> {
-                Member member = memberLookupService.getOrThrowById(font.getMemberId());
-                boolean bookmarked = bookmarkRepository.existsByMemberIdAndFontId(memberId, font.getId());
-                String woff2Url = cloudStorageService.getWoff2Url(font.getKey());
-                return FontPageResponse.from(font, member.getNickname(), bookmarked, woff2Url);
-            });
-        }
-        
+        Page<FontPageResponse> result = fontCardAssembler.toFontPageResponses(fontPage, memberId);
+
         log.info("Service completed: Retrieved {} fonts out of {} total, {} pages", 
                 result.getNumberOfElements(), result.getTotalElements(), result.getTotalPages());
         return result;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<FontResponse> getFontSlice(Long memberId, int page, int size, boolean withTotal) {
+        log.info("Service executing: Fetching font slice for member ID: {}, page: {}, size: {}", memberId, page, size);
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
+
+        Slice<FontCard> fontSlice = fontRepository.findCardSliceByMemberIdAndStatus(memberId, pageRequest, FontStatus.DONE);
+        Long total = withTotal ? fontTotalCounter.getDoneFontCountByMember(memberId) : null;
+
+        SliceResponse<FontResponse> result = SliceResponse.of(
+                fontCardAssembler.toFontResponses(fontSlice.getContent(), memberId), fontSlice, total);
+
+        log.info("Service completed: Retrieved {} fonts for member ID: {}, hasNext: {}",
+                fontSlice.getNumberOfElements(), memberId, result.isHasNext());
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponse<FontPageResponse> getFontPageSlice(Long memberId, int page, int size, String sortBy, String keyword, boolean withTotal) {
+        log.info("Service executing: Fetching font slice with memberId: {}, page: {}, size: {}, sortBy: {}, keyword: {}",
+                memberId, page, size, sortBy, keyword);
+        FontSortType sortType = FontSortType.from(sortBy);
+        Sort sort = Sort.by(Sort.Order.desc(sortType.getProperty()));
+        PageRequest pageRequest = PageRequest.of(page, size, sort);
+
+        Slice<FontCard> fontSlice;
+        Long total = null;
+        if (!StringUtils.hasText(keyword)) {
+            fontSlice = fontRepository.findCardSliceByStatus(pageRequest, FontStatus.DONE);
+            if (withTotal) {
+                total = fontTotalCounter.getDoneFontCount();
+            }
+        } else {
+            log.debug("Service detail: Searching font slice with keyword: {}", keyword);
+            fontSlice = searchByKeyword(keyword, pageRequest, sortType);
+        }
+
+        SliceResponse<FontPageResponse> result = SliceResponse.of(
+                fontCardAssembler.toFontPageResponses(fontSlice.getContent(), memberId), fontSlice, total);
+
+        log.info("Service completed: Retrieved {} fonts, hasNext: {}", fontSlice.getNumberOfElements(), result.isHasNext());
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<FontResponse> getFontsByCursor(Long memberId, int size, String cursor) {
+        log.info("Service executing: Fetching fonts by cursor for member ID: {}, size: {}", memberId, size);
+        FontCursor fontCursor = FontCursor.decode(cursor, FontSortType.CREATED_AT);
+
+        List<FontCard> fonts = fontRepository.findCardsByMemberIdAndStatusAfterCursor(memberId, FontStatus.DONE, fontCursor, size + 1);
+        boolean hasNext = fonts.size() > size;
+        List<FontCard> content = hasNext ? fonts.subList(0, size) : fonts;
+
+        String nextCursor = hasNext ? FontCursor.after(FontSortType.CREATED_AT, content.get(size - 1)).encode() : null;
+        CursorPageResponse<FontResponse> result = CursorPageResponse.of(fontCardAssembler.toFontResponses(content, memberId), nextCursor);
+
+        log.info("Service completed: Retrieved {} fonts by cursor for member ID: {}, hasNext: {}", result.getSize(), memberId, hasNext);
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<FontPageResponse> getFontPageByCursor(Long memberId, int size, String sortBy, String keyword, String cursor) {
+        log.info("Service executing: Fetching font page by cursor with memberId: {}, size: {}, sortBy: {}, keyword: {}",
+                memberId, size, sortBy, keyword);
+        FontSortType sortType = FontSortType.from(sortBy);
+        FontCursor fontCursor = FontCursor.decode(cursor, sortType);
+        List<FontCard> fonts;
+        if (!StringUtils.hasText(keyword)) {
+            fonts = fontRepository.findCardsByStatusAfterCursor(FontStatus.DONE, fontCursor, size + 1);
+        } else {
+            log.debug("Service detail: Searching fonts by cursor with keyword: {}", keyword);
+            fonts = searchByKeywordAfterCursor(keyword, fontCursor, size + 1);
+        }
+        boolean hasNext = fonts.size() > size;
+        List<FontCard> content = hasNext ? fonts.subList(0, size) : fonts;
+
+        String nextCursor = hasNext ? FontCursor.after(sortType, content.get(size - 1)).encode() : null;
+        CursorPageResponse<FontPageResponse> result = CursorPageResponse.of(fontCardAssembler.toFontPageResponses(content, memberId), nextCursor);
+
+        log.info("Service completed: Retrieved {} fonts by cursor, hasNext: {}", result.getSize(), hasNext);
+        return result;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<FontResponse> getOtherFonts(Long fontId) {
         log.info("Service executing: Fetching other fonts from the same creator for font ID: {}", fontId);
-        Font font = getOrThrowById(fontId);
+        Font font = fontDetailCache.getOrThrowById(fontId);
 
         checkFontStatusIsDone(font);
 
-        Member member = memberLookupService.getOrThrowById(font.getMemberId());
+        WriterProfile writer = writerDirectory.getOrThrowById(font.getMemberId());
 
-        List<Font> fonts = fontRepository.findTop3ByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(member.getId(), fontId, FontStatus.DONE);
+        List<FontCard> fonts = fontRepository.findTop3CardsByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(writer.getMemberId(), fontId, FontStatus.DONE);
         log.debug("Service detail: Found {} other fonts from the same creator", fonts.size());
 
-        List<FontResponse> result = fonts.stream()
-                .map(f -> {
-                    boolean bookmarked = bookmarkRepository.existsByMemberIdAndFontId(member.getId(), f.getId());
-                    Member writer = memberLookupService.getOrThrowById(f.getMemberId());
-                    String woff2Url = cloudStorageService.getWoff2Url(font.getKey());
-                    return FontResponse.from(f, bookmarked, writer.getNickname(), woff2Url);
-                })
-                .collect(Collectors.toList());
-                
+        List<FontResponse> result = fontCardAssembler.toFontResponses(fonts, writer.getMemberId());
+
         log.info("Service completed: Retrieved {} other fonts from creator of font ID: {}", result.size(), fontId);
         return result;
     }
@@ -246,18 +386,15 @@ public class FontServiceImpl implements FontService {
         log.info("Service executing: Fetching popular fonts for member ID: {}", memberId);
         Member member = memberLookupService.getOrThrowById(memberId);
 
-        List<Font> fonts = fontRepository.findTop4ByMemberIdAndStatusOrderByDownloadAndBookmarkCountDesc(memberId, FontStatus.DONE);
+        List<Font> fonts = findPopularFonts(
+                fontLeaderboard.findTopFontIdsByMemberId(memberId, MY_POPULAR_FONTS_LIMIT * LEADERBOARD_OVERFETCH_FACTOR),
+                memberId,
+                MY_POPULAR_FONTS_LIMIT,
+                () -> fontRepository.findTop4ByMemberIdAndStatusOrderByDownloadAndBookmarkCountDesc(memberId, FontStatus.DONE));
         log.debug("Service detail: Found {} popular fonts for member ID: {}", fonts.size(), memberId);
 
-        List<FontResponse> result = fonts.stream()
-                .map(font -> {
-                    boolean bookmarked = bookmarkRepository.existsByMemberIdAndFontId(member.getId(), font.getId());
-                    Member writer = memberLookupService.getOrThrowById(font.getMemberId());
-                    String woff2Url = cloudStorageService.getWoff2Url(font.getKey());
-                    return FontResponse.from(font, bookmarked, writer.getNickname(), woff2Url);
-                })
-                .collect(Collectors.toList());
-                
+        List<FontResponse> result = fontCardAssembler.toFontResponses(toCards(fonts), member.getId());
+
         log.info("Service completed: Retrieved {} popular fonts for member ID: {}", result.size(), memberId);
         return result;
     }
@@ -266,41 +403,98 @@ public class FontServiceImpl implements FontService {
     @Transactional(readOnly = true)
     public List<FontResponse> getPopularFonts(Long memberId) {
         log.info("Service executing: Fetching global popular fonts, requesting member ID: {}", memberId);
-        List<Font> fonts = fontRepository.findTop3ByStatusOrderByDownloadAndBookmarkCountDesc(FontStatus.DONE);
+        List<Font> fonts = findGlobalPopularFonts();
         log.debug("Service detail: Found {} popular fonts globally", fonts.size());
 
-        List<FontResponse> result;
-        if (memberId == null) {
-            result = fonts.stream()
-                    .map(font -> {
-                        Member writer = memberLookupService.getOrThrowById(font.getMemberId());
-                        String woff2Url = cloudStorageService.getWoff2Url(font.getKey());
-                        return FontResponse.from(font, false, writer.getNickname(), woff2Url);
-                    })
-                    .collect(Collectors.toList());
-        } else {
-            Member member = memberLookupService.getOrThrowById(memberId);
-            result = fonts.stream()
-                    .map(font -> {
-                        boolean bookmarked = bookmarkRepository.existsByMemberIdAndFontId(member.getId(), font.getId());
-                        Member writer = memberLookupService.getOrThrowById(font.getMemberId());
-                        String woff2Url = cloudStorageService.getWoff2Url(font.getKey());
-                        return FontResponse.from(font, bookmarked, writer.getNickname(), woff2Url);
-                    })
-                    .collect(Collectors.toList());
+        if (memberId != null) {
+            memberLookupService.getOrThrowById(memberId);
         }
-        
+        List<FontResponse> result = fontCardAssembler.toFontResponses(toCards(fonts), memberId);
+
         log.info("Service completed: Retrieved {} globally popular fonts", result.size());
         return result;
     }
 
+    /**
+     * 조건부 요청용 ETag는 응답 본문을 만들지 않고 캐시(폰트 상세, 작성자 디렉터리, 북마크 비트맵)만으로 계산한다.
+     */
+    @Override
+    public String getFontETag(Long fontId, Long memberId) {
+        Font targetFont = fontDetailCache.getOrThrowById(fontId);
+        checkFontStatusIsDone(targetFont);
+        String writerName = writerDirectory.getOrThrowById(targetFont.getMemberId()).getNickname();
+
+        return ETags.of(versionOf(targetFont, writerName, bookmarkMembershipCache.isBookmarked(memberId, fontId)));
+    }
+
+    @Override
+    public String getPopularFontsETag(Long memberId) {
+        List<Font> fonts = findGlobalPopularFonts();
+        Map<Long, String> writerNames = writerDirectory.getNicknames(fonts.stream()
+                .map(Font::getMemberId)
+                .collect(Collectors.toSet()));
+        Set<Long> bookmarkedFontIds = bookmarkMembershipCache.findBookmarkedFontIds(memberId, fonts.stream()
+                .map(Font::getId)
+                .toList());
+
+        return ETags.of(fonts.stream()
+                .map(font -> versionOf(font, writerNames.get(font.getMemberId()), bookmarkedFontIds.contains(font.getId())))
+                .toArray());
+    }
+
+    @Override
+    public String getFontProgressETag(Long memberId) {
+        return ETags.of(memberId, fontProgressVersionStorage.getOrCreate(memberId));
+    }
+
+    @Override
+    public SseEmitter streamFontProgress(Long memberId, String lastEventId) {
+        log.info("Service executing: Opening font progress stream for member ID: {}, last event ID: {}", memberId, lastEventId);
+        return fontProgressStream.connect(memberId, lastEventId, () -> getFontProgress(memberId));
+    }
+
+    /**
+     * 제작 중 보고는 DB를 거치지 않고 Redis에만 반영한다.
+     * 이미 완료/실패한 폰트에 늦게 도착한 보고와 직전과 같은 보고는 무시한다.
+     */
+    @Override
+    public FontUpdateResponse reportProgress(Long fontId, FontProgressUpdateDTO fontProgressUpdateDTO) {
+        log.debug("Service executing: Reporting progress of font ID: {}", fontId);
+        Font font = fontDetailCache.getOrThrowById(fontId);
+
+        Result result = recordProgress(font, fontProgressUpdateDTO);
+
+        log.debug("Service completed: Font ID: {} progress report {}", fontId, result);
+        return FontUpdateResponse.from(font, cloudStorageService.getWoff2Url(font.getKey()));
+    }
+
+    /**
+     * 완료/실패 전환만 DB에 기록하며, 이미 같은 상태이면 쓰지 않는다.
+     * 배치와 같은 조건부 UPDATE를 사용해 제작 중인 폰트만 바꾼다. (DONE -> FAILED 뒤집힘, 중복 알림 방지)
+     */
     @Override
     @Transactional
     public FontUpdateResponse updateProgress(Long fontId, FontProgressUpdateDTO fontProgressUpdateDTO) {
+        if (!fontProgressUpdateDTO.getStatus().isTerminal()) {
+            return reportProgress(fontId, fontProgressUpdateDTO);
+        }
+
         log.info("Service executing: Updating font ID: {}", fontId);
         Font targetFont = getOrThrowById(fontId);
 
-        Font updatedFont = fontRepository.save(targetFont.updateProgress(fontProgressUpdateDTO));
+        if (targetFont.getStatus() == fontProgressUpdateDTO.getStatus()) {
+            log.info("Service completed: Font ID: {} is already {}, skipped update", fontId, targetFont.getStatus());
+            return FontUpdateResponse.from(targetFont, cloudStorageService.getWoff2Url(targetFont.getKey()));
+        }
+
+        // 읽은 뒤 다른 요청이 먼저 완료/실패로 바꿨으면 조건부 UPDATE가 걸러내므로, 덮어쓰거나 다시 알리지 않는다.
+        Font updatedFont = targetFont.updateProgress(fontProgressUpdateDTO);
+        if (!fontRepository.updateStatuses(List.of(updatedFont)).contains(fontId)) {
+            log.info("Service completed: Font ID: {} was already finished by another update, skipped update", fontId);
+            return FontUpdateResponse.from(targetFont, cloudStorageService.getWoff2Url(targetFont.getKey()));
+        }
+
+        TransactionCallbacks.afterCommit(() -> publishStatusChanges(List.of(updatedFont)));
         String woff2Url = cloudStorageService.getWoff2Url(updatedFont.getKey());
 
         if (fontProgressUpdateDTO.getStatus() == FontStatus.DONE) {
@@ -311,17 +505,81 @@ public class FontServiceImpl implements FontService {
         return FontUpdateResponse.from(updatedFont, woff2Url);
     }
 
+    /**
+     * 제작 서버가 밀린 상태 변경을 한 번에 보낼 때 사용한다.
+     * 대상 폰트를 한 번에 읽고, 완료/실패 전환은 하나의 배치 UPDATE로 반영한다.
+     * 제작 중 보고는 단건과 같이 Redis에만 반영하며, 항목별 결과를 요청 순서대로 반환한다.
+     */
     @Override
     @Transactional
+    public List<FontProgressBatchUpdateResponse> updateProgresses(List<FontProgressBatchItem> items) {
+        log.info("Service executing: Updating progress of {} fonts", items.size());
+        Map<Long, FontProgressBatchItem> latestItems = items.stream()
+                .collect(Collectors.toMap(FontProgressBatchItem::getFontId, Function.identity(),
+                        FontServiceImpl::preferTerminal, LinkedHashMap::new));
+        Map<Long, Font> fonts = fontRepository.findAllByIdIn(List.copyOf(latestItems.keySet())).stream()
+                .collect(Collectors.toMap(Font::getId, Function.identity()));
+
+        List<Font> changedFonts = new ArrayList<>();
+        Map<Long, FontProgressBatchUpdateResponse> results = new LinkedHashMap<>();
+        for (FontProgressBatchItem item : latestItems.values()) {
+            Font font = fonts.get(item.getFontId());
+            if (font == null) {
+                results.put(item.getFontId(), FontProgressBatchUpdateResponse.notFound(item.getFontId()));
+            } else if (!item.getStatus().isTerminal()) {
+                results.put(font.getId(), FontProgressBatchUpdateResponse.of(font, recordProgress(font, item.toUpdateDTO())));
+            } else if (font.getStatus() == item.getStatus()) {
+                results.put(font.getId(), FontProgressBatchUpdateResponse.of(font, Result.UNCHANGED));
+            } else {
+                changedFonts.add(font.updateProgress(item.toUpdateDTO()));
+                results.put(font.getId(), null);
+            }
+        }
+
+        // 읽은 뒤 다른 요청이 먼저 완료/실패로 바꾼 폰트는 UPDATE가 걸러내므로, 실제로 바뀐 폰트만 알리고 갱신한다.
+        Set<Long> updatedIds = changedFonts.isEmpty() ? Set.of() : fontRepository.updateStatuses(changedFonts);
+        List<Font> updatedFonts = new ArrayList<>();
+        for (Font font : changedFonts) {
+            if (updatedIds.contains(font.getId())) {
+                updatedFonts.add(font);
+                results.put(font.getId(), FontProgressBatchUpdateResponse.of(font, Result.UPDATED));
+            } else {
+                results.put(font.getId(), FontProgressBatchUpdateResponse.of(fonts.get(font.getId()), Result.UNCHANGED));
+            }
+        }
+
+        if (!updatedFonts.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> publishStatusChanges(updatedFonts));
+            updatedFonts.stream()
+                    .filter(font -> font.getStatus() == FontStatus.DONE)
+                    .forEach(font -> eventPublisher.publishEvent(new FontCreateCompleteNotificationEvent(font)));
+        }
+
+        log.info("Service completed: {} of {} font statuses updated", updatedFonts.size(), latestItems.size());
+        return List.copyOf(results.values());
+    }
+
+    /**
+     * 같은 폰트의 보고가 여러 개면 마지막 것을 쓰되, 완료/실패 뒤에 늦게 도착한 제작 중 보고는 버린다.
+     */
+    private static FontProgressBatchItem preferTerminal(FontProgressBatchItem previous, FontProgressBatchItem latest) {
+        return previous.getStatus().isTerminal() && !latest.getStatus().isTerminal() ? previous : latest;
+    }
+
+    /**
+     * 다운로드 수는 버퍼에만 누적하고 DB에는 주기적으로 일괄 반영한다. (조회 전용 트랜잭션)
+     */
+    @Override
+    @Transactional(readOnly = true)
     public FontDownloadResponse fontDownload(Long memberId, Long fontId) {
         log.info("Service executing: Download font ID: {}", fontId);
-        Font targetFont = getOrThrowById(fontId);
+        Font targetFont = fontDetailCache.getOrThrowById(fontId);
 
         checkFontStatusIsDone(targetFont);
 
-        targetFont.increaseDownloadCount();
         String ttfUrl = cloudStorageService.getTtfUrl(targetFont.getKey());
-        fontRepository.save(targetFont);
+        fontDownloadCountBuffer.increment(fontId);
+        fontLeaderboard.incrementScore(targetFont, 1);
 
         log.info("Service completed: Font ID: {} download successfully", fontId);
 
@@ -334,6 +592,120 @@ public class FontServiceImpl implements FontService {
         return fontRepository.existsByName(fontName);
     }
 
+    @Override
+    public List<FontAutocompleteResponse> getAutocompleteSuggestions(String keyword, int size) {
+        log.info("Service executing: Autocomplete font names for keyword: {}, size: {}", keyword, size);
+
+        List<FontAutocompleteResponse> suggestions = fontAutocompleteIndex.suggest(keyword, size).stream()
+                .map(FontAutocompleteResponse::from)
+                .toList();
+
+        log.info("Service completed: Returned {} autocomplete suggestions", suggestions.size());
+        return suggestions;
+    }
+
+    /**
+     * 랭킹 후보를 DB의 현재 상태(DONE 여부, 점수)로 다시 확인한다.
+     * 랭킹이 없거나(콜드 스타트, Redis 장애) 걸러진 후보 때문에 결과가 모자라면 기존 정렬 쿼리로 대체한다.
+     * 랭킹의 폰트가 모두 유효하면 limit보다 적어도(폰트가 적은 회원) 그대로 돌려준다.
+     */
+    private List<Font> findGlobalPopularFonts() {
+        return findPopularFonts(
+                fontLeaderboard.findTopFontIds(POPULAR_FONTS_LIMIT * LEADERBOARD_OVERFETCH_FACTOR),
+                null,
+                POPULAR_FONTS_LIMIT,
+                () -> fontRepository.findTop3ByStatusOrderByDownloadAndBookmarkCountDesc(FontStatus.DONE));
+    }
+
+    private List<Font> findPopularFonts(Optional<List<Long>> ranking, Long memberId, int limit, Supplier<List<Font>> fallback) {
+        if (ranking.isEmpty()) {
+            log.debug("Service detail: Leaderboard unavailable, falling back to DB ranking");
+            return fallback.get();
+        }
+
+        List<Long> rankedFontIds = ranking.get();
+        List<Font> validFonts = fontDetailCache.getAllByIds(rankedFontIds).stream()
+                .filter(font -> font.getStatus() == FontStatus.DONE)
+                .filter(font -> memberId == null || memberId.equals(font.getMemberId()))
+                .toList();
+
+        if (validFonts.size() < limit && validFonts.size() < rankedFontIds.size()) {
+            log.debug("Service detail: Leaderboard returned {} valid fonts out of {}, falling back to DB ranking",
+                    validFonts.size(), rankedFontIds.size());
+            return fallback.get();
+        }
+        return validFonts.stream()
+                .sorted(Comparator.comparingLong(Font::getPopularity).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static List<FontCard> toCards(List<Font> fonts) {
+        return fonts.stream()
+                .map(FontCard::from)
+                .toList();
+    }
+
+    /**
+     * 후보 선정은 검색 색인에서 수행한다.
+     * 최신순은 색인 결과(ID 내림차순)를 그대로 잘라 해당 페이지만 조회하고,
+     * 개수 정렬은 후보 ID 범위 안에서만 DB 정렬을 수행한다.
+     */
+    private Page<FontCard> searchByKeyword(String keyword, PageRequest pageRequest, FontSortType sortType) {
+        List<Long> candidateIds = fontSearchIndex.search(keyword);
+        log.debug("Service detail: Search index returned {} candidates for keyword: {}", candidateIds.size(), keyword);
+        if (candidateIds.isEmpty()) {
+            return Page.empty(pageRequest);
+        }
+
+        if (sortType == FontSortType.CREATED_AT) {
+            int from = (int) Math.min(pageRequest.getOffset(), candidateIds.size());
+            int to = Math.min(from + pageRequest.getPageSize(), candidateIds.size());
+            List<Long> pageIds = candidateIds.subList(from, to);
+
+            Map<Long, FontCard> fonts = fontRepository.findCardsByIdInAndStatus(pageIds, FontStatus.DONE).stream()
+                    .collect(Collectors.toMap(FontCard::getId, Function.identity()));
+            List<FontCard> content = pageIds.stream()
+                    .map(fonts::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new PageImpl<>(content, pageRequest, candidateIds.size());
+        }
+
+        if (candidateIds.size() > MAX_COUNT_SORT_CANDIDATES) {
+            return fontRepository.findCardsByNameContainingAndStatus(keyword, pageRequest, FontStatus.DONE);
+        }
+        return fontRepository.findCardsByIdInAndStatus(candidateIds, pageRequest, FontStatus.DONE);
+    }
+
+    /**
+     * 커서 페이지의 후보도 검색 색인에서 고른다.
+     * 후보를 MAX_COUNT_SORT_CANDIDATES 단위로 나눠 각 묶음에서 커서 이후 limit개를 가져온 뒤, 같은 정렬로 합쳐 앞에서 자른다.
+     */
+    private List<FontCard> searchByKeywordAfterCursor(String keyword, FontCursor cursor, int limit) {
+        List<Long> candidateIds = fontSearchIndex.search(keyword);
+        log.debug("Service detail: Search index returned {} candidates for keyword: {}", candidateIds.size(), keyword);
+
+        List<FontCard> fonts = new ArrayList<>();
+        for (int from = 0; from < candidateIds.size(); from += MAX_COUNT_SORT_CANDIDATES) {
+            List<Long> chunk = candidateIds.subList(from, Math.min(from + MAX_COUNT_SORT_CANDIDATES, candidateIds.size()));
+            fonts.addAll(fontRepository.findCardsByIdInAndStatusAfterCursor(chunk, FontStatus.DONE, cursor, limit));
+        }
+        return fonts.stream()
+                .sorted(cursorOrder(cursor.getSortType()))
+                .limit(limit)
+                .toList();
+    }
+
+    private static Comparator<FontCard> cursorOrder(FontSortType sortType) {
+        Comparator<FontCard> bySortKey = switch (sortType) {
+            case CREATED_AT -> Comparator.comparing(FontCard::getCreatedAt);
+            case DOWNLOAD_COUNT -> Comparator.comparing(FontCard::getDownloadCount);
+            case BOOKMARK_COUNT -> Comparator.comparing(FontCard::getBookmarkCount);
+        };
+        return bySortKey.thenComparing(FontCard::getId).reversed();
+    }
+
     private void checkFontOwnership(Long requestMemberId, Long targetMemberId) {
         log.debug("Service detail: Checking font ownership: requestMemberId={}, targetMemberId={}", 
                 requestMemberId, targetMemberId);
@@ -345,6 +717,53 @@ public class FontServiceImpl implements FontService {
         }
     }
 
+    private static String versionOf(Font font, String writerName, boolean isBookmarked) {
+        return font.getId() + ":" + font.getUpdatedAt() + ":" + font.getDownloadCount() + ":" + font.getBookmarkCount()
+                + ":" + writerName + ":" + isBookmarked;
+    }
+
+    /**
+     * 제작 중 보고를 Redis에 반영하고, 바뀐 경우에만 열린 스트림에 알린다.
+     */
+    private Result recordProgress(Font font, FontProgressUpdateDTO fontProgressUpdateDTO) {
+        if (font.getStatus().isTerminal()) {
+            log.info("Service detail: Ignored progress report for font ID: {} already {}", font.getId(), font.getStatus());
+            return Result.IGNORED;
+        }
+
+        FontProgressDetail detail = FontProgressDetail.from(fontProgressUpdateDTO);
+        if (!fontProgressDetailStorage.saveIfChanged(font.getId(), detail)) {
+            return Result.UNCHANGED;
+        }
+
+        String progressVersion = fontProgressVersionStorage.renew(font.getMemberId());
+        fontProgressStream.publishDetail(font.getMemberId(), progressVersion, FontProgressResponse.from(font, detail));
+        return Result.UPDATED;
+    }
+
+    /**
+     * 상태 갱신(단건/배치)이 커밋된 이후 호출한다.
+     * 목록을 회원마다 다시 읽지 않도록 스트림에는 바뀐 폰트만 보낸다.
+     */
+    private void publishStatusChanges(List<Font> updatedFonts) {
+        updatedFonts.forEach(font -> {
+            fontSearchIndex.index(font);
+            fontLeaderboard.save(font);
+            fontProgressDetailStorage.delete(font.getId());
+        });
+        fontAutocompleteIndex.update(updatedFonts);
+        fontDetailCache.invalidateAll(updatedFonts.stream()
+                .map(Font::getId)
+                .toList());
+        updatedFonts.stream()
+                .collect(Collectors.groupingBy(Font::getMemberId))
+                .forEach((memberId, memberFonts) -> {
+                    String progressVersion = fontProgressVersionStorage.renew(memberId);
+                    memberFonts.forEach(font -> fontProgressStream.publishDetail(
+                            memberId, progressVersion, FontProgressResponse.from(font)));
+                });
+    }
+
     private void checkFontStatusIsDone(Font targetFont) {
         log.debug("Service detail: Checking font status is DONE: targetFontId={}", targetFont.getId());
 
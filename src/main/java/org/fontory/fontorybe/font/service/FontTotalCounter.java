@@ -0,0 +1,44 @@
+package org.fontory.fontorybe.font.service;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.common.application.ApproximateCountCache;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Slice 응답에서 withTotal 요청 시 사용하는 폰트 개수 근사값
+ * 전체 DONE 개수는 주기적으로 갱신하고, 회원별 개수는 요청 시 적재 후 만료될 때까지 재사용한다.
+ */
+@Slf4j
+@Component
+public class FontTotalCounter {
+    private static final Long ALL_MEMBERS = -1L;
+
+    private final FontRepository fontRepository;
+    private final ApproximateCountCache<Long> doneFontCounts;
+
+    public FontTotalCounter(FontRepository fontRepository,
+                            @Value("${approximate-count.refresh-interval-ms}") long refreshIntervalMs) {
+        this.fontRepository = fontRepository;
+        this.doneFontCounts = new ApproximateCountCache<>(Duration.ofMillis(refreshIntervalMs));
+    }
+
+    public long getDoneFontCount() {
+        return doneFontCounts.get(ALL_MEMBERS, key -> fontRepository.countByStatus(FontStatus.DONE));
+    }
+
+    public long getDoneFontCountByMember(Long memberId) {
+        return doneFontCounts.get(memberId, key -> fontRepository.countByMemberIdAndStatus(key, FontStatus.DONE));
+    }
+
+    @Scheduled(fixedDelayString = "${approximate-count.refresh-interval-ms}")
+    public void refresh() {
+        doneFontCounts.evictExpired();
+        doneFontCounts.put(ALL_MEMBERS, fontRepository.countByStatus(FontStatus.DONE));
+        log.debug("Service detail: Refreshed approximate DONE font count");
+    }
+}
@@ -0,0 +1,29 @@
+package org.fontory.fontorybe.font.service.dto;
+
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import org.fontory.fontorybe.font.domain.Font;
+
+/**
+ * 공유 캐시에 저장되는 폰트 조회 결과
+ * 존재하지 않는 폰트도 absent로 저장해 없는 ID에 대한 반복 조회가 DB까지 내려가지 않도록 한다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CachedFont {
+    private static final CachedFont ABSENT = new CachedFont(null);
+
+    private final Font font;
+
+    public static CachedFont of(Optional<Font> font) {
+        return font.map(CachedFont::new).orElse(ABSENT);
+    }
+
+    public static CachedFont absent() {
+        return ABSENT;
+    }
+
+    public Optional<Font> getFont() {
+        return Optional.ofNullable(font);
+    }
+}
@@ -0,0 +1,21 @@
+package org.fontory.fontorybe.font.service.dto;
+
+import java.time.Duration;
+
+/**
+ * 폰트 제작 요청 수락 결과. delay가 0보다 크면 요청을 받되 그만큼 늦게 작업 큐로 보낸다.
+ */
+public record FontAdmission(Duration delay) {
+
+    public static FontAdmission accept() {
+        return new FontAdmission(Duration.ZERO);
+    }
+
+    public static FontAdmission delay(Duration delay) {
+        return new FontAdmission(delay);
+    }
+
+    public boolean isDelayed() {
+        return delay.isPositive();
+    }
+}
@@ -0,0 +1,63 @@
+package org.fontory.fontorybe.font.service.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.fontory.fontorybe.font.controller.dto.FontPageResponse;
+import org.fontory.fontorybe.font.controller.dto.FontResponse;
+import org.fontory.fontorybe.font.domain.Font;
+
+/**
+ * 폰트 목록 조회 결과 (카드에 필요한 컬럼만 생성자 표현식으로 바로 담는다)
+ * createdAt은 키셋 커서를 만들 때만 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class FontCard {
+    private Long id;
+    private String name;
+    private String example;
+    private Long downloadCount;
+    private Long bookmarkCount;
+    private String key;
+    private Long memberId;
+    private LocalDateTime createdAt;
+
+    public static FontCard from(Font font) {
+        return new FontCard(
+                font.getId(),
+                font.getName(),
+                font.getExample(),
+                font.getDownloadCount(),
+                font.getBookmarkCount(),
+                font.getKey(),
+                font.getMemberId(),
+                font.getCreatedAt());
+    }
+
+    public FontResponse toFontResponse(boolean isBookmarked, String writerName, String woff2Url) {
+        return FontResponse.builder()
+                .id(id)
+                .name(name)
+                .example(example)
+                .downloadCount(downloadCount)
+                .bookmarkCount(bookmarkCount)
+                .isBookmarked(isBookmarked)
+                .writerName(writerName)
+                .woff(woff2Url)
+                .build();
+    }
+
+    public FontPageResponse toFontPageResponse(String writerName, boolean isBookmarked, String woff2Url) {
+        return FontPageResponse.builder()
+                .id(id)
+                .name(name)
+                .example(example)
+                .writerName(writerName)
+                .downloadCount(downloadCount)
+                .bookmarkCount(bookmarkCount)
+                .isBookmarked(isBookmarked)
+                .woff(woff2Url)
+                .build();
+    }
+}
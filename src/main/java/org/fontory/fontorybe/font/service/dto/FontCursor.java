@@ -0,0 +1,86 @@
+package org.fontory.fontorybe.font.service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.fontory.fontorybe.font.domain.FontSortType;
+import org.fontory.fontorybe.font.domain.exception.FontInvalidCursorException;
+import org.springframework.util.StringUtils;
+
+/**
+ * 키셋 페이지네이션 커서
+ * 정렬 키와 font_id(tie-breaker)를 담으며 클라이언트에는 Base64URL 문자열로만 노출된다.
+ */
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FontCursor {
+    private static final String DELIMITER = "|";
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final FontSortType sortType;
+    private final LocalDateTime createdAt;
+    private final Long count;
+    private final Long id;
+
+    public static FontCursor first(FontSortType sortType) {
+        return FontCursor.builder()
+                .sortType(sortType)
+                .createdAt(MAX_CREATED_AT)
+                .count(Long.MAX_VALUE)
+                .id(Long.MAX_VALUE)
+                .build();
+    }
+
+    public static FontCursor after(FontSortType sortType, FontCard font) {
+        return FontCursor.builder()
+                .sortType(sortType)
+                .createdAt(font.getCreatedAt())
+                .count(sortType == FontSortType.BOOKMARK_COUNT ? font.getBookmarkCount() : font.getDownloadCount())
+                .id(font.getId())
+                .build();
+    }
+
+    /**
+     * 빈 커서는 첫 페이지를 의미한다.
+     * 다른 정렬 기준으로 발급된 커서는 거부한다.
+     */
+    public static FontCursor decode(String encoded, FontSortType sortType) {
+        if (!StringUtils.hasText(encoded)) {
+            return first(sortType);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 3 || FontSortType.valueOf(parts[0]) != sortType) {
+                throw new FontInvalidCursorException();
+            }
+
+            FontCursorBuilder builder = FontCursor.builder()
+                    .sortType(sortType)
+                    .createdAt(MAX_CREATED_AT)
+                    .count(Long.MAX_VALUE)
+                    .id(Long.parseLong(parts[2]));
+            if (sortType == FontSortType.CREATED_AT) {
+                builder.createdAt(LocalDateTime.parse(parts[1]));
+            } else {
+                builder.count(Long.parseLong(parts[1]));
+            }
+            return builder.build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new FontInvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String sortKey = sortType == FontSortType.CREATED_AT ? createdAt.toString() : String.valueOf(count);
+        String raw = sortType.name() + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,11 @@
+package org.fontory.fontorybe.font.service.dto;
+
+/**
+ * 회원별 제작 중인 폰트 수. queued는 그중 아직 작업 큐로 보내지 않은(아웃박스에 남은) 요청 수
+ */
+public record FontGenerationLoad(Long memberId, long inProgress, long queued) {
+
+    public long inFlight() {
+        return inProgress - queued;
+    }
+}
@@ -0,0 +1,14 @@
+package org.fontory.fontorybe.font.service.dto;
+
+import org.fontory.fontorybe.font.controller.dto.FontProgressUpdateDTO;
+
+/**
+ * 제작 중인 폰트의 세부 진행 정보 (Redis에만 저장한다)
+ * 값이 같으면 같은 보고로 보고 저장/알림을 생략한다.
+ */
+public record FontProgressDetail(Integer percentage, String stage) {
+
+    public static FontProgressDetail from(FontProgressUpdateDTO fontProgressUpdateDTO) {
+        return new FontProgressDetail(fontProgressUpdateDTO.getPercentage(), fontProgressUpdateDTO.getStage());
+    }
+}
@@ -0,0 +1,8 @@
+package org.fontory.fontorybe.font.service.dto;
+
+/**
+ * 인스턴스 간에 전달하는 제작 현황 변경 알림
+ * version은 SSE 이벤트 ID(Last-Event-ID)로, name과 data(JSON)는 SSE 이벤트 이름과 본문으로 그대로 내보낸다.
+ */
+public record FontProgressEvent(Long memberId, String version, String name, String data) {
+}
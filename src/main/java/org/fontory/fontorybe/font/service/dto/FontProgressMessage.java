@@ -0,0 +1,12 @@
+package org.fontory.fontorybe.font.service.dto;
+
+import java.time.Instant;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchItem;
+
+/**
+ * 큐로 받은 폰트 상태 변경 메시지
+ * sentAt은 큐에 들어간 시각으로 소비 지연 측정에만 쓰며, 알 수 없으면 null이다.
+ * item이 null이면 본문을 해석할 수 없는 메시지다.
+ */
+public record FontProgressMessage(String messageId, Instant sentAt, FontProgressBatchItem item) {
+}
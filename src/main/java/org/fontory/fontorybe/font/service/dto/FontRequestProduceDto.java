@@ -1,5 +1,6 @@
 package org.fontory.fontorybe.font.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -32,4 +33,12 @@ public class FontRequestProduceDto {
                 .requestUUID(MDC.get("requestId"))
                 .build();
     }
+
+    /**
+     * FIFO 큐의 메시지 그룹. 회원별로 묶어 한 회원의 요청은 순서대로 하나씩 처리되고, 여러 회원의 요청은 번갈아 처리된다.
+     */
+    @JsonIgnore
+    public String getMessageGroupId() {
+        return "member-" + memberId;
+    }
 }
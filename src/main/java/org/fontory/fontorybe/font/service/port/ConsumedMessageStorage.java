@@ -0,0 +1,13 @@
+package org.fontory.fontorybe.font.service.port;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 처리를 마친 큐 메시지 ID 기록 (중복 전달된 메시지를 다시 적용하지 않기 위해 사용)
+ * 처리에 성공한 뒤에만 기록하므로, 처리 중 실패해 다시 전달된 메시지는 중복으로 보지 않는다.
+ */
+public interface ConsumedMessageStorage {
+    Set<String> findConsumed(Collection<String> messageIds);
+    void markConsumed(Collection<String> messageIds);
+}
@@ -0,0 +1,27 @@
+package org.fontory.fontorybe.font.service.port;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.fontory.fontorybe.font.service.dto.CachedFont;
+
+/**
+ * 폰트 상세 캐시의 공유 저장소 (인스턴스 간 공유 계층)
+ * 무효화 메시지는 모든 인스턴스에 전달되어 각 인스턴스의 로컬 캐시를 비운다.
+ * 폰트별 버전을 함께 관리한다. evictAll은 버전을 올리고, save는 DB를 읽기 전에 얻은 버전이 그대로일 때만 저장해
+ * 적재 도중 커밋된 변경을 이전 값으로 덮어쓰지 않는다.
+ */
+public interface FontCacheStorage {
+    Optional<CachedFont> find(Long fontId);
+    Map<Long, CachedFont> findAll(Collection<Long> fontIds);
+
+    /**
+     * 버전을 읽지 못한 폰트는 음수를 돌려주며, 이 값으로는 저장되지 않는다.
+     */
+    Map<Long, Long> findVersions(Collection<Long> fontIds);
+    void save(Long fontId, CachedFont cachedFont, long version);
+    void evictAll(Collection<Long> fontIds);
+    void publishInvalidation(Collection<Long> fontIds);
+    void subscribeInvalidation(Consumer<Collection<Long>> listener);
+}
@@ -0,0 +1,24 @@
+package org.fontory.fontorybe.font.service.port;
+
+import java.util.List;
+import java.util.Optional;
+import org.fontory.fontorybe.font.domain.Font;
+
+/**
+ * 인기 폰트 랭킹 (점수: 다운로드 수 + 북마크 수)
+ * 전체 랭킹과 회원별 랭킹을 함께 관리한다.
+ */
+public interface FontLeaderboard {
+    /**
+     * DONE 폰트는 현재 점수로 등록/갱신하고, 그 외 상태는 랭킹에서 제외한다.
+     */
+    void save(Font font);
+    void incrementScore(Font font, long delta);
+    void remove(Font font);
+    /**
+     * 랭킹이 없으면(재구축 전, 저장소 장애) 빈 Optional을 돌려준다. 있으면 개수가 limit보다 적어도 그대로가 전부다.
+     */
+    Optional<List<Long>> findTopFontIds(int limit);
+    Optional<List<Long>> findTopFontIdsByMemberId(Long memberId, int limit);
+    void replaceAll(List<Font> fonts);
+}
@@ -0,0 +1,20 @@
+package org.fontory.fontorybe.font.service.port;
+
+import java.util.Collection;
+import java.util.Map;
+import org.fontory.fontorybe.font.service.dto.FontProgressDetail;
+
+/**
+ * 제작 중인 폰트의 세부 진행 정보 저장소
+ * 제작 서버가 자주 보고해도 DB에 쓰지 않도록 만료 시간이 있는 공유 저장소에만 둔다.
+ */
+public interface FontProgressDetailStorage {
+    Map<Long, FontProgressDetail> findAll(Collection<Long> fontIds);
+
+    /**
+     * 저장된 값과 같으면 저장하지 않고 false를 반환한다.
+     */
+    boolean saveIfChanged(Long fontId, FontProgressDetail detail);
+
+    void delete(Long fontId);
+}
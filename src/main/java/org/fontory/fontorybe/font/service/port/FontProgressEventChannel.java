@@ -0,0 +1,13 @@
+package org.fontory.fontorybe.font.service.port;
+
+import java.util.function.Consumer;
+import org.fontory.fontorybe.font.service.dto.FontProgressEvent;
+
+/**
+ * 제작 현황 변경 알림 채널
+ * 발행한 알림은 모든 인스턴스(자신 포함)의 구독자에게 전달된다.
+ */
+public interface FontProgressEventChannel {
+    void publish(FontProgressEvent event);
+    void subscribe(Consumer<FontProgressEvent> listener);
+}
@@ -0,0 +1,11 @@
+package org.fontory.fontorybe.font.service.port;
+
+/**
+ * 회원별 폰트 제작 현황 버전 (GET /fonts/progress 조건부 요청용)
+ * 제작 현황에 보이는 폰트가 생성/상태 변경/삭제될 때마다 새 버전으로 바뀐다.
+ * 같은 버전은 제작 현황 스트림의 이벤트 ID로도 쓰인다.
+ */
+public interface FontProgressVersionStorage {
+    String getOrCreate(Long memberId);
+    String renew(Long memberId);
+}
@@ -1,23 +1,50 @@
 package org.fontory.fontorybe.font.service.port;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.fontory.fontorybe.font.domain.Font;
 import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.dto.FontCard;
+import org.fontory.fontorybe.font.service.dto.FontCursor;
+import org.fontory.fontorybe.font.service.dto.FontGenerationLoad;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 public interface FontRepository {
     Font save(Font font);
     List<Font> findTop5ByMemberIdOrderByCreatedAtDesc(Long memberId);
     Optional<Font> findById(Long id);
-    Page<Font> findAllByMemberIdAndStatus(Long memberId, PageRequest pageRequest, FontStatus status);
+    Page<FontCard> findCardsByMemberIdAndStatus(Long memberId, PageRequest pageRequest, FontStatus status);
     void deleteById(Long id);
-    Page<Font> findAllByStatus(PageRequest pageRequest, FontStatus status);
-    Page<Font> findByNameContainingAndStatus(String keyword, PageRequest pageRequest, FontStatus status);
-    List<Font> findTop3ByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(Long memberId, Long fontId, FontStatus status);
+    List<Long> findIdsDeletedSince(LocalDateTime deletedAt);
+    int deleteDeletionsBefore(LocalDateTime deletedBefore);
+    Page<FontCard> findCardsByStatus(PageRequest pageRequest, FontStatus status);
+    Page<FontCard> findCardsByNameContainingAndStatus(String keyword, PageRequest pageRequest, FontStatus status);
+    Slice<FontCard> findCardSliceByStatus(PageRequest pageRequest, FontStatus status);
+    Slice<FontCard> findCardSliceByNameContainingAndStatus(String keyword, PageRequest pageRequest, FontStatus status);
+    Slice<FontCard> findCardSliceByMemberIdAndStatus(Long memberId, PageRequest pageRequest, FontStatus status);
+    Page<FontCard> findCardsByIdInAndStatus(Collection<Long> ids, PageRequest pageRequest, FontStatus status);
+    List<FontCard> findCardsByIdInAndStatus(Collection<Long> ids, FontStatus status);
+    List<Font> findAllByStatusAndIdGreaterThan(FontStatus status, Long lastId, int limit);
+    List<Font> findAllByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+    long countByStatus(FontStatus status);
+    long countByMemberIdAndStatus(Long memberId, FontStatus status);
+    List<FontCard> findTop3CardsByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(Long memberId, Long fontId, FontStatus status);
     List<Font> findAllByIdIn(List<Long> ids);
     List<Font> findTop4ByMemberIdAndStatusOrderByDownloadAndBookmarkCountDesc(Long memberId, FontStatus status);
     List<Font> findTop3ByStatusOrderByDownloadAndBookmarkCountDesc(FontStatus status);
     boolean existsByName(String fontName);
+    void increaseDownloadCounts(Map<Long, Long> deltas);
+    Set<Long> updateStatuses(Collection<Font> fonts);
+    void addBookmarkCount(Long fontId, long delta);
+    List<Long> findIdsGreaterThan(Long lastId, int limit);
+    List<FontGenerationLoad> findGenerationLoads();
+    List<FontCard> findCardsByStatusAfterCursor(FontStatus status, FontCursor cursor, int limit);
+    List<FontCard> findCardsByIdInAndStatusAfterCursor(Collection<Long> ids, FontStatus status, FontCursor cursor, int limit);
+    List<FontCard> findCardsByMemberIdAndStatusAfterCursor(Long memberId, FontStatus status, FontCursor cursor, int limit);
 }
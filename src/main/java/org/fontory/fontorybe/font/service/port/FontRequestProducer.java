@@ -1,7 +1,15 @@
 package org.fontory.fontorybe.font.service.port;
 
+import java.time.Duration;
 import org.fontory.fontorybe.font.service.dto.FontRequestProduceDto;
 
 public interface FontRequestProducer {
     void sendFontRequest(FontRequestProduceDto fontRequestProduceDto);
+
+    /**
+     * delay 이후에 작업 큐로 보낸다. FIFO 큐는 메시지별 지연을 지원하지 않으므로 아웃박스가 아닌 구현은 바로 보낸다.
+     */
+    default void sendFontRequest(FontRequestProduceDto fontRequestProduceDto, Duration delay) {
+        sendFontRequest(fontRequestProduceDto);
+    }
 }
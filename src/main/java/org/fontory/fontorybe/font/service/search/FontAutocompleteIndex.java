@@ -0,0 +1,175 @@
+package org.fontory.fontorybe.font.service.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폰트 이름 자동완성 색인
+ * 정규화한 이름, 영문 이름, 한글 이름의 초성("ㄱㄴ" -> "가나")을 키로 하는 접두사 트라이를 새로 만들어 교체한다.
+ * 재구축 이후 변경/삭제된 폰트는 트라이를 다시 만들지 않고 작은 오버레이에 담아 조회 시 합치며, 다음 재구축에서 트라이로 흡수된다.
+ * 순위는 다운로드 수 + 북마크 수이며 조회 시 DB에 접근하지 않는다.
+ */
+@Slf4j
+@Component
+public class FontAutocompleteIndex {
+    public static final int MAX_SUGGESTIONS = 10;
+
+    /**
+     * 트라이 노드마다 MAX_SUGGESTIONS보다 여유 있게 보관해, 오버레이가 가린 문서가 있어도 결과가 모자라지 않게 한다.
+     */
+    private static final int TOP_K = MAX_SUGGESTIONS * 2;
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::score).reversed()
+            .thenComparing(Entry::id, Comparator.reverseOrder());
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public synchronized void rebuild(Iterable<Font> fonts) {
+        List<Entry> candidates = new ArrayList<>();
+        for (Font font : fonts) {
+            if (font.getStatus() == FontStatus.DONE) {
+                candidates.add(Entry.from(font));
+            }
+        }
+        candidates.sort(RANKING);
+
+        long[] ids = new long[candidates.size()];
+        String[] names = new String[candidates.size()];
+        long[] scores = new long[candidates.size()];
+        PrefixTrie.Builder builder = new PrefixTrie.Builder(TOP_K);
+        for (int document = 0; document < candidates.size(); document++) {
+            Entry entry = candidates.get(document);
+            ids[document] = entry.id();
+            names[document] = entry.name();
+            scores[document] = entry.score();
+            for (String key : entry.keys()) {
+                builder.add(key, document);
+            }
+        }
+
+        PrefixTrie trie = builder.build();
+        snapshot = new Snapshot(trie, ids, names, scores, Map.of(), Set.of());
+        log.info("Service detail: Autocomplete index rebuilt with {} fonts, {} nodes", ids.length, trie.nodeCount());
+    }
+
+    /**
+     * 변경된 폰트를 오버레이에 반영한다. DONE 상태가 아닌 폰트는 색인에서 가려진다.
+     */
+    public synchronized void update(Collection<Font> updatedFonts) {
+        if (updatedFonts.isEmpty()) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+        Map<Long, Entry> changed = new HashMap<>(current.changed());
+        Set<Long> hidden = new HashSet<>(current.hidden());
+        for (Font font : updatedFonts) {
+            hidden.add(font.getId());
+            if (font.getStatus() == FontStatus.DONE) {
+                changed.put(font.getId(), Entry.from(font));
+            } else {
+                changed.remove(font.getId());
+            }
+        }
+        snapshot = current.withOverlay(changed, hidden);
+    }
+
+    public synchronized void remove(Collection<Long> fontIds) {
+        if (fontIds.isEmpty()) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+        Map<Long, Entry> changed = new HashMap<>(current.changed());
+        Set<Long> hidden = new HashSet<>(current.hidden());
+        for (Long fontId : fontIds) {
+            hidden.add(fontId);
+            changed.remove(fontId);
+        }
+        snapshot = current.withOverlay(changed, hidden);
+    }
+
+    /**
+     * 마지막 재구축 이후 쌓인 오버레이 항목 수
+     */
+    public int overlaySize() {
+        return snapshot.hidden().size();
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = FontNameTokenizer.normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        int size = Math.min(limit, MAX_SUGGESTIONS);
+        List<Entry> matches = new ArrayList<>();
+        for (int document : current.trie().topDocuments(normalized, TOP_K)) {
+            long id = current.ids()[document];
+            if (!current.hidden().contains(id)) {
+                matches.add(new Entry(id, current.names()[document], current.scores()[document], List.of()));
+            }
+        }
+        for (Entry entry : current.changed().values()) {
+            if (entry.matches(normalized)) {
+                matches.add(entry);
+            }
+        }
+
+        return matches.stream()
+                .sorted(RANKING)
+                .limit(size)
+                .map(entry -> new Suggestion(entry.id(), entry.name()))
+                .toList();
+    }
+
+    private static long scoreOf(Font font) {
+        long downloadCount = font.getDownloadCount() != null ? font.getDownloadCount() : 0L;
+        long bookmarkCount = font.getBookmarkCount() != null ? font.getBookmarkCount() : 0L;
+        return downloadCount + bookmarkCount;
+    }
+
+    public record Suggestion(Long id, String name) {
+    }
+
+    private record Entry(long id, String name, long score, List<String> keys) {
+        private static Entry from(Font font) {
+            String name = FontNameTokenizer.normalize(font.getName());
+            List<String> keys = new ArrayList<>(3);
+            keys.add(name);
+            keys.add(FontNameTokenizer.normalize(font.getEngName()));
+            if (FontNameTokenizer.containsHangulSyllable(name)) {
+                keys.add(FontNameTokenizer.toChoseong(name));
+            }
+            return new Entry(font.getId(), font.getName(), scoreOf(font), keys);
+        }
+
+        private boolean matches(String prefix) {
+            return keys.stream().anyMatch(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * changed: 재구축 이후 DONE 상태로 바뀐 폰트, hidden: 트라이에서 가릴 폰트 ID (변경되거나 삭제된 폰트)
+     */
+    private record Snapshot(PrefixTrie trie, long[] ids, String[] names, long[] scores,
+                            Map<Long, Entry> changed, Set<Long> hidden) {
+        private static final Snapshot EMPTY = new Snapshot(new PrefixTrie.Builder(TOP_K).build(),
+                new long[0], new String[0], new long[0], Map.of(), Set.of());
+
+        private Snapshot withOverlay(Map<Long, Entry> changed, Set<Long> hidden) {
+            return new Snapshot(trie, ids, names, scores, changed, hidden);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.fontory.fontorybe.font.service.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 폰트 이름 검색용 토크나이저
+ * 입력을 NFC로 정규화해 자모 단위로 입력된 한글을 음절로 합치고, 공백과 기호를 제거한 뒤 소문자로 맞춘다.
+ * 한글 음절은 글자 하나의 정보량이 크므로 1-gram도 색인하고, 그 외 문자는 2-gram/3-gram만 색인한다.
+ */
+public final class FontNameTokenizer {
+    public static final int MAX_GRAM = 3;
+
+    private static final int HANGUL_SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private FontNameTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(composed.length());
+        composed.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    public static boolean isHangulSyllable(int codePoint) {
+        return codePoint >= 0xAC00 && codePoint <= 0xD7A3;
+    }
+
+    /**
+     * 한글 음절을 초성(호환 자모)으로 바꾼다. 그 외 문자는 그대로 둔다.
+     * 예) "나눔고딕" -> "ㄴㄴㄱㄷ"
+     */
+    public static String toChoseong(String normalized) {
+        StringBuilder choseong = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .map(codePoint -> isHangulSyllable(codePoint)
+                        ? CHOSEONG[(codePoint - HANGUL_SYLLABLE_BASE) / SYLLABLES_PER_CHOSEONG]
+                        : codePoint)
+                .forEach(choseong::appendCodePoint);
+        return choseong.toString();
+    }
+
+    public static boolean containsHangulSyllable(String normalized) {
+        return normalized.codePoints().anyMatch(FontNameTokenizer::isHangulSyllable);
+    }
+
+    /**
+     * 색인 시 사용하는 n-gram 집합 (정규화된 문자열 기준)
+     */
+    public static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            if (isHangulSyllable(codePoints[i])) {
+                grams.add(new String(codePoints, i, 1));
+            }
+            for (int n = 2; n <= MAX_GRAM && i + n <= codePoints.length; n++) {
+                grams.add(new String(codePoints, i, n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색 시 사용하는 n-gram 집합
+     * 색인된 가장 긴 단위로 잘라야 후보 수가 가장 적으므로 길이에 따라 1, 2, 3-gram 중 하나만 사용한다.
+     * 색인되지 않는 질의(한글이 아닌 1글자)는 빈 집합을 반환한다.
+     */
+    public static Set<String> queryGrams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        if (codePoints.length == 1) {
+            if (isHangulSyllable(codePoints[0])) {
+                grams.add(normalized);
+            }
+            return grams;
+        }
+
+        int n = Math.min(codePoints.length, MAX_GRAM);
+        for (int i = 0; i + n <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, n));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,190 @@
+package org.fontory.fontorybe.font.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * DONE 상태 폰트의 name, engName에 대한 인메모리 n-gram 역색인
+ * 키워드 검색의 후보 선정을 DB의 LIKE '%keyword%' 대신 이 색인에서 수행한다.
+ */
+@Slf4j
+@Component
+public class FontSearchIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, PostingList> postings = new HashMap<>();
+    private Map<Long, IndexedFont> documents = new HashMap<>();
+
+    /**
+     * DONE 상태가 아닌 폰트는 색인에서 제거된다.
+     */
+    public void index(Font font) {
+        if (font.getStatus() != FontStatus.DONE) {
+            remove(font.getId());
+            return;
+        }
+
+        IndexedFont document = IndexedFont.from(font);
+        lock.writeLock().lock();
+        try {
+            removeDocument(font.getId());
+            addDocument(postings, documents, font.getId(), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long fontId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(fontId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 새로 만든 뒤 한 번에 교체한다.
+     */
+    public void rebuild(Iterable<Font> fonts) {
+        Map<String, PostingList> newPostings = new HashMap<>();
+        Map<Long, IndexedFont> newDocuments = new HashMap<>();
+        for (Font font : fonts) {
+            if (font.getStatus() == FontStatus.DONE) {
+                addDocument(newPostings, newDocuments, font.getId(), IndexedFont.from(font));
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index rebuilt: {} fonts, {} grams", newDocuments.size(), newPostings.size());
+    }
+
+    /**
+     * 키워드를 포함하는 폰트 ID를 최신순(ID 내림차순)으로 반환한다.
+     */
+    public List<Long> search(String keyword) {
+        String query = FontNameTokenizer.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> grams = FontNameTokenizer.queryGrams(query);
+        lock.readLock().lock();
+        try {
+            if (grams.isEmpty()) {
+                return scanDocuments(query);
+            }
+            return intersect(grams, query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> intersect(Set<String> grams, String query) {
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null || list.isEmpty()) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList smallest = lists.get(0);
+        boolean needsVerification = query.codePointCount(0, query.length()) > FontNameTokenizer.MAX_GRAM;
+        List<Long> result = new ArrayList<>();
+        for (int i = smallest.size() - 1; i >= 0; i--) {
+            long id = smallest.get(i);
+            if (containsInAll(lists, id) && (!needsVerification || documents.get(id).contains(query))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private boolean containsInAll(List<PostingList> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Long> scanDocuments(String query) {
+        return documents.entrySet().stream()
+                .filter(entry -> entry.getValue().contains(query))
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+    }
+
+    private void removeDocument(Long fontId) {
+        IndexedFont existing = documents.remove(fontId);
+        if (existing == null) {
+            return;
+        }
+
+        for (String gram : existing.grams()) {
+            PostingList list = postings.get(gram);
+            if (list != null) {
+                list.remove(fontId);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static void addDocument(Map<String, PostingList> postings, Map<Long, IndexedFont> documents,
+                                    Long fontId, IndexedFont document) {
+        documents.put(fontId, document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(fontId);
+        }
+    }
+
+    private record IndexedFont(String name, String engName) {
+        static IndexedFont from(Font font) {
+            return new IndexedFont(
+                    FontNameTokenizer.normalize(font.getName()),
+                    FontNameTokenizer.normalize(font.getEngName()));
+        }
+
+        boolean contains(String query) {
+            return name.contains(query) || engName.contains(query);
+        }
+
+        Set<String> grams() {
+            Set<String> grams = FontNameTokenizer.indexGrams(name);
+            grams.addAll(FontNameTokenizer.indexGrams(engName));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.fontory.fontorybe.font.service.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색, 자동완성 색인을 DB와 맞춘다.
+ * 기동 시 전체 재구축, 주기적으로 updated_at과 삭제 기록(font_deletion) 기준 증분 동기화(다른 인스턴스의 변경/삭제 반영),
+ * 점수(다운로드 수 + 북마크 수) 변화 반영과 자동완성 오버레이 흡수를 위해 정해진 주기로 전체 재구축을 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FontSearchIndexSynchronizer {
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+    /**
+     * 자동완성 오버레이가 이보다 커지면 정해진 주기를 기다리지 않고 재구축한다.
+     */
+    private static final int MAX_AUTOCOMPLETE_OVERLAY = 1000;
+    /**
+     * 삭제 기록은 인스턴스가 동기화를 놓치더라도 다음 전체 재구축까지 충분히 남겨 둔다.
+     */
+    private static final long DELETION_RETENTION_DAYS = 1;
+
+    private final FontRepository fontRepository;
+    private final FontSearchIndex fontSearchIndex;
+    private final FontAutocompleteIndex fontAutocompleteIndex;
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${font.search.rebuild-cron}")
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Font> fonts = findAllDoneFonts();
+
+        fontSearchIndex.rebuild(fonts);
+        fontAutocompleteIndex.rebuild(fonts);
+        lastSyncedAt = startedAt;
+
+        int purged = fontRepository.deleteDeletionsBefore(startedAt.minusDays(DELETION_RETENTION_DAYS));
+        if (purged > 0) {
+            log.debug("Service detail: Purged {} font deletion records", purged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${font.search.sync-interval-ms}")
+    public void syncRecentlyUpdated() {
+        if (lastSyncedAt == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS);
+        List<Font> updatedFonts = fontRepository.findAllByUpdatedAtGreaterThanEqual(since);
+        List<Long> deletedFontIds = fontRepository.findIdsDeletedSince(since);
+        updatedFonts.forEach(fontSearchIndex::index);
+        deletedFontIds.forEach(fontSearchIndex::remove);
+        fontAutocompleteIndex.update(updatedFonts);
+        fontAutocompleteIndex.remove(deletedFontIds);
+        lastSyncedAt = startedAt;
+
+        if (!updatedFonts.isEmpty() || !deletedFontIds.isEmpty()) {
+            log.debug("Service detail: Search index synced {} updated, {} deleted fonts", updatedFonts.size(), deletedFontIds.size());
+        }
+        if (fontAutocompleteIndex.overlaySize() > MAX_AUTOCOMPLETE_OVERLAY) {
+            rebuild();
+        }
+    }
+
+    private List<Font> findAllDoneFonts() {
+        List<Font> fonts = new ArrayList<>();
+        long lastId = 0L;
+        List<Font> chunk;
+        do {
+            chunk = fontRepository.findAllByStatusAndIdGreaterThan(FontStatus.DONE, lastId, REBUILD_CHUNK_SIZE);
+            fonts.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        return fonts;
+    }
+}
@@ -0,0 +1,135 @@
+package org.fontory.fontorybe.font.service.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 불변 접두사 트라이
+ * 노드마다 상위 K개 문서 번호를 미리 계산해 두어 조회 비용이 접두사 길이에만 비례한다.
+ * 빌드가 끝나면 노드를 평탄한 배열로 옮겨 객체 수를 줄인다.
+ */
+final class PrefixTrie {
+    private final int[] childStart;
+    private final char[] childLabels;
+    private final int[] childNodes;
+    private final int[] topStart;
+    private final int[] topDocuments;
+
+    private PrefixTrie(int[] childStart, char[] childLabels, int[] childNodes, int[] topStart, int[] topDocuments) {
+        this.childStart = childStart;
+        this.childLabels = childLabels;
+        this.childNodes = childNodes;
+        this.topStart = topStart;
+        this.topDocuments = topDocuments;
+    }
+
+    /**
+     * 접두사에 해당하는 문서 번호를 순위 순으로 최대 limit개 반환한다.
+     */
+    int[] topDocuments(String prefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+        if (node < 0) {
+            return new int[0];
+        }
+
+        int from = topStart[node];
+        int to = Math.min(topStart[node + 1], from + limit);
+        return Arrays.copyOfRange(topDocuments, from, to);
+    }
+
+    int nodeCount() {
+        return childStart.length - 1;
+    }
+
+    private int child(int node, char label) {
+        int index = Arrays.binarySearch(childLabels, childStart[node], childStart[node + 1], label);
+        return index >= 0 ? childNodes[index] : -1;
+    }
+
+    /**
+     * 문서는 순위가 높은 순서대로 추가해야 한다.
+     * 같은 문서의 키들은 연속으로 추가되므로 노드별 중복 제거는 마지막 문서와의 비교만으로 충분하다.
+     */
+    static final class Builder {
+        private final int topK;
+        private final BuildNode root = new BuildNode();
+        private int nodeCount = 1;
+        private int topDocumentCount = 0;
+
+        Builder(int topK) {
+            this.topK = topK;
+        }
+
+        Builder add(String key, int document) {
+            BuildNode node = root;
+            node.offer(document);
+            for (int i = 0; i < key.length(); i++) {
+                BuildNode child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    child = new BuildNode();
+                    node.children.put(key.charAt(i), child);
+                    nodeCount++;
+                }
+                node = child;
+                node.offer(document);
+            }
+            return this;
+        }
+
+        PrefixTrie build() {
+            int[] childStart = new int[nodeCount + 1];
+            char[] childLabels = new char[nodeCount - 1];
+            int[] childNodes = new int[nodeCount - 1];
+            int[] topStart = new int[nodeCount + 1];
+            int[] topDocuments = new int[topDocumentCount];
+
+            // BFS 순서로 번호를 매기면 자식 번호가 항상 부모 이후에 연속으로 배정된다.
+            Deque<BuildNode> queue = new ArrayDeque<>();
+            queue.add(root);
+            int nodeIndex = 0;
+            int nextNodeIndex = 1;
+            int edgeIndex = 0;
+            int topIndex = 0;
+            while (!queue.isEmpty()) {
+                BuildNode node = queue.poll();
+                childStart[nodeIndex] = edgeIndex;
+                for (var entry : node.children.entrySet()) {
+                    childLabels[edgeIndex] = entry.getKey();
+                    childNodes[edgeIndex] = nextNodeIndex++;
+                    edgeIndex++;
+                    queue.add(entry.getValue());
+                }
+
+                topStart[nodeIndex] = topIndex;
+                for (int document : node.topDocuments) {
+                    topDocuments[topIndex++] = document;
+                }
+                nodeIndex++;
+            }
+            childStart[nodeCount] = edgeIndex;
+            topStart[nodeCount] = topIndex;
+
+            return new PrefixTrie(childStart, childLabels, childNodes, topStart, topDocuments);
+        }
+
+        private final class BuildNode {
+            private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+            private final List<Integer> topDocuments = new ArrayList<>(1);
+
+            private void offer(int document) {
+                if (topDocuments.size() >= topK || (!topDocuments.isEmpty() && topDocuments.get(topDocuments.size() - 1) == document)) {
+                    return;
+                }
+                topDocuments.add(document);
+                topDocumentCount++;
+            }
+        }
+    }
+}
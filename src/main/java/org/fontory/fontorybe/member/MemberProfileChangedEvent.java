@@ -0,0 +1,11 @@
+package org.fontory.fontorybe.member;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.fontory.fontorybe.member.domain.Member;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberProfileChangedEvent {
+    private final Member member;
+}
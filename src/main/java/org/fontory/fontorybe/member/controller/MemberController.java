@@ -4,8 +4,8 @@ import org.fontory.fontorybe.authentication.adapter.inbound.annotation.Login;
 import org.fontory.fontorybe.authentication.domain.UserPrincipal;
 import org.fontory.fontorybe.file.application.port.CloudStorageService;
 import org.fontory.fontorybe.member.controller.dto.ProfileResponse;
-import org.fontory.fontorybe.member.controller.port.MemberLookupService;
-import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.controller.port.WriterDirectory;
+import org.fontory.fontorybe.member.domain.WriterProfile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,7 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MemberController {
     private final CloudStorageService cloudStorageService;
-    private final MemberLookupService memberLookupService;
+    private final WriterDirectory writerDirectory;
 
     @GetMapping("/{id}")
     public ResponseEntity<ProfileResponse> getInfoMember(
@@ -35,9 +35,9 @@ public class MemberController {
         Long requestMemberId = me.getId();
         log.info("Request received: Get member info ID: {} by member ID: {}", id, requestMemberId);
 
-        Member targetMember = memberLookupService.getOrThrowById(id);
+        WriterProfile targetProfile = writerDirectory.getOrThrowById(id);
 
-        ProfileResponse profileResponse = ProfileResponse.from(targetMember);
+        ProfileResponse profileResponse = ProfileResponse.from(targetProfile);
         log.info("Response sent: ProfileResponse : {}", profileResponse);
 
         return ResponseEntity
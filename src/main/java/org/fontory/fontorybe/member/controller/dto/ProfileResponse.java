@@ -3,7 +3,7 @@ package org.fontory.fontorybe.member.controller.dto;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
-import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.domain.WriterProfile;
 
 @Getter
 @Builder
@@ -12,10 +12,10 @@ public class ProfileResponse {
     private Long memberId;
     private String nickname;
 
-    public static ProfileResponse from(Member member) {
+    public static ProfileResponse from(WriterProfile writerProfile) {
         return ProfileResponse.builder()
-                .memberId(member.getId())
-                .nickname(member.getNickname())
+                .memberId(writerProfile.getMemberId())
+                .nickname(writerProfile.getNickname())
                 .build();
     }
 }
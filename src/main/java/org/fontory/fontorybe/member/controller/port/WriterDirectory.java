@@ -0,0 +1,14 @@
+package org.fontory.fontorybe.member.controller.port;
+
+import java.util.Collection;
+import java.util.Map;
+import org.fontory.fontorybe.member.domain.WriterProfile;
+
+/**
+ * 회원 ID -> 공개 작성자 정보(닉네임) 조회
+ * 폰트 카드처럼 닉네임만 필요한 곳에서 Member 전체를 조회하지 않기 위해 사용한다.
+ */
+public interface WriterDirectory {
+    WriterProfile getOrThrowById(Long memberId);
+    Map<Long, String> getNicknames(Collection<Long> memberIds);
+}
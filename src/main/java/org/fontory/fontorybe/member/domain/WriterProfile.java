@@ -0,0 +1,18 @@
+package org.fontory.fontorybe.member.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 다른 회원에게 공개되는 작성자 정보 (폰트 카드, 회원 정보 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class WriterProfile {
+    private final Long memberId;
+    private final String nickname;
+
+    public static WriterProfile from(Member member) {
+        return new WriterProfile(member.getId(), member.getNickname());
+    }
+}
@@ -1,8 +1,24 @@
 package org.fontory.fontorybe.member.infrastructure;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.fontory.fontorybe.member.domain.WriterProfile;
 import org.fontory.fontorybe.member.infrastructure.entity.MemberEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberJpaRepository extends JpaRepository<MemberEntity, Long> {
     boolean existsByNickname(String nickname);
+    List<MemberEntity> findAllByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new org.fontory.fontorybe.member.domain.WriterProfile(m.id, m.nickname) " +
+            "FROM MemberEntity m WHERE m.id > :lastId ORDER BY m.id ASC")
+    List<WriterProfile> findWriterProfilesByIdGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT new org.fontory.fontorybe.member.domain.WriterProfile(m.id, m.nickname) " +
+            "FROM MemberEntity m WHERE m.updatedAt >= :updatedAt")
+    List<WriterProfile> findWriterProfilesByUpdatedAtGreaterThanEqual(@Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,12 +1,17 @@
 package org.fontory.fontorybe.member.infrastructure;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.domain.WriterProfile;
 import org.fontory.fontorybe.member.infrastructure.entity.MemberEntity;
 import org.fontory.fontorybe.member.service.port.MemberRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 
@@ -21,6 +26,13 @@ public class MemberRepositoryImpl implements MemberRepository {
         return memberJpaRepository.findById(id).map(MemberEntity::toModel);
     }
 
+    @Override
+    public List<Member> findAllByIdIn(Collection<Long> ids) {
+        return memberJpaRepository.findAllByIdIn(ids).stream()
+                .map(MemberEntity::toModel)
+                .toList();
+    }
+
     @Override
     public Member save(Member member) {
         MemberEntity savedMember = memberJpaRepository.save(MemberEntity.from(member));
@@ -38,4 +50,14 @@ public class MemberRepositoryImpl implements MemberRepository {
     public boolean existsByNickname(String nickname) {
         return memberJpaRepository.existsByNickname(nickname);
     }
+
+    @Override
+    public List<WriterProfile> findWriterProfilesByIdGreaterThan(Long lastId, int limit) {
+        return memberJpaRepository.findWriterProfilesByIdGreaterThan(lastId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<WriterProfile> findWriterProfilesByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt) {
+        return memberJpaRepository.findWriterProfilesByUpdatedAtGreaterThanEqual(updatedAt);
+    }
 }
@@ -0,0 +1,42 @@
+package org.fontory.fontorybe.member.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.fontory.fontorybe.member.controller.port.WriterDirectory;
+import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.domain.WriterProfile;
+import org.fontory.fontorybe.member.domain.exception.MemberNotFoundException;
+import org.fontory.fontorybe.member.service.port.MemberRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 매 조회마다 DB를 읽는다. (SQL로 회원 데이터를 직접 초기화하는 테스트용)
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "member.writer-directory.store", havingValue = "database")
+public class DatabaseWriterDirectory implements WriterDirectory {
+    private final MemberRepository memberRepository;
+
+    @Override
+    public WriterProfile getOrThrowById(Long memberId) {
+        if (memberId == null) {
+            throw new MemberNotFoundException();
+        }
+        return memberRepository.findById(memberId)
+                .map(WriterProfile::from)
+                .orElseThrow(MemberNotFoundException::new);
+    }
+
+    @Override
+    public Map<Long, String> getNicknames(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return memberRepository.findAllByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Member::getNickname));
+    }
+}
@@ -0,0 +1,127 @@
+package org.fontory.fontorybe.member.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.member.MemberProfileChangedEvent;
+import org.fontory.fontorybe.member.controller.port.WriterDirectory;
+import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.domain.WriterProfile;
+import org.fontory.fontorybe.member.domain.exception.MemberNotFoundException;
+import org.fontory.fontorybe.member.service.port.MemberRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원 ID -> 닉네임을 인스턴스 메모리에 유지한다.
+ * 기동 시 전체 적재, 같은 인스턴스의 변경은 커밋 이벤트로 즉시 반영하고,
+ * 다른 인스턴스의 변경은 updated_at 기준 증분 동기화로 반영한다.
+ * 적재 이후 가입한 회원처럼 없는 항목만 DB에서 읽어 채운다. (회원은 물리 삭제되지 않는다)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "member.writer-directory.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryWriterDirectory implements WriterDirectory {
+    private static final int WARM_UP_CHUNK_SIZE = 1000;
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final MemberRepository memberRepository;
+    private final LongObjectMap<String> nicknames = new LongObjectMap<>();
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    public InMemoryWriterDirectory(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastId = 0L;
+        List<WriterProfile> chunk;
+        do {
+            chunk = memberRepository.findWriterProfilesByIdGreaterThan(lastId, WARM_UP_CHUNK_SIZE);
+            chunk.forEach(this::put);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getMemberId();
+            }
+        } while (chunk.size() == WARM_UP_CHUNK_SIZE);
+
+        lastSyncedAt = startedAt;
+        log.info("Service detail: Writer directory warmed up with {} members", nicknames.size());
+    }
+
+    @Scheduled(fixedDelayString = "${member.writer-directory.sync-interval-ms}")
+    public void syncRecentlyUpdated() {
+        if (lastSyncedAt == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<WriterProfile> updatedProfiles = memberRepository.findWriterProfilesByUpdatedAtGreaterThanEqual(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+        updatedProfiles.forEach(this::put);
+        lastSyncedAt = startedAt;
+
+        if (!updatedProfiles.isEmpty()) {
+            log.debug("Service detail: Writer directory synced {} recently updated members", updatedProfiles.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberProfileChanged(MemberProfileChangedEvent event) {
+        put(WriterProfile.from(event.getMember()));
+    }
+
+    @Override
+    public WriterProfile getOrThrowById(Long memberId) {
+        if (memberId == null) {
+            throw new MemberNotFoundException();
+        }
+
+        String nickname = nicknames.get(memberId);
+        if (nickname != null) {
+            return new WriterProfile(memberId, nickname);
+        }
+
+        WriterProfile profile = memberRepository.findById(memberId)
+                .map(WriterProfile::from)
+                .orElseThrow(MemberNotFoundException::new);
+        put(profile);
+        return profile;
+    }
+
+    @Override
+    public Map<Long, String> getNicknames(Collection<Long> memberIds) {
+        Map<Long, String> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            String nickname = nicknames.get(memberId);
+            if (nickname != null) {
+                result.put(memberId, nickname);
+            } else {
+                missingIds.add(memberId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            for (Member member : memberRepository.findAllByIdIn(missingIds)) {
+                put(WriterProfile.from(member));
+                result.put(member.getId(), member.getNickname());
+            }
+        }
+        return result;
+    }
+
+    private void put(WriterProfile profile) {
+        nicknames.put(profile.getMemberId(), profile.getNickname());
+    }
+}
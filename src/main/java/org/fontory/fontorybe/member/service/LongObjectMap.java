@@ -0,0 +1,116 @@
+package org.fontory.fontorybe.member.service;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long 키 오픈 어드레싱 해시 맵 (선형 탐사)
+ * Long 박싱과 엔트리 객체 없이 키/값 배열만 유지한다. 키 0은 빈 슬롯 표시로 사용하므로 저장할 수 없다.
+ * 읽기는 낙관적 읽기로 락 없이 수행하고, 쓰기와 겹친 경우에만 읽기 락으로 다시 읽는다.
+ */
+final class LongObjectMap<V> {
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private int size;
+
+    V get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        V value = find(table, key);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return find(table, key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void put(long key, V value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key must not be " + EMPTY);
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            // 적재율을 1/2 이하로 유지해 탐사가 항상 빈 슬롯에서 끝나도록 한다.
+            if ((size + 1) * 2 > table.keys.length) {
+                table = resize(table, table.keys.length * 2);
+            }
+            if (insert(table, key, value)) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V find(Table current, long key) {
+        long[] keys = current.keys;
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long candidate = keys[i];
+            if (candidate == key) {
+                return (V) current.values[i];
+            }
+            if (candidate == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    private static boolean insert(Table current, long key, Object value) {
+        long[] keys = current.keys;
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                current.values[i] = value;
+                return false;
+            }
+            if (keys[i] == EMPTY) {
+                // 낙관적 읽기가 키를 먼저 보더라도 validate에서 걸러지므로 값 -> 키 순서로 기록한다.
+                current.values[i] = value;
+                keys[i] = key;
+                return true;
+            }
+        }
+    }
+
+    private static Table resize(Table current, int capacity) {
+        Table resized = new Table(capacity);
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.keys[i] != EMPTY) {
+                insert(resized, current.keys[i], current.values[i]);
+            }
+        }
+        return resized;
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+}
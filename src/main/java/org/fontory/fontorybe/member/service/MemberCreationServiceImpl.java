@@ -2,6 +2,7 @@ package org.fontory.fontorybe.member.service;
 
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
+import org.fontory.fontorybe.member.MemberProfileChangedEvent;
 import org.fontory.fontorybe.member.controller.port.MemberCreationService;
 import org.fontory.fontorybe.member.domain.Member;
 import org.fontory.fontorybe.member.domain.MemberDefaults;
@@ -9,6 +10,7 @@ import org.fontory.fontorybe.member.domain.exception.MemberAlreadyExistException
 import org.fontory.fontorybe.member.service.port.MemberRepository;
 import org.fontory.fontorybe.provide.controller.port.ProvideService;
 import org.fontory.fontorybe.provide.domain.Provide;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class MemberCreationServiceImpl implements MemberCreationService {
     private final MemberRepository memberRepository;
     private final ProvideService provideService;
     private final MemberDefaults memberDefaults;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -29,6 +32,7 @@ public class MemberCreationServiceImpl implements MemberCreationService {
         String newNickname = UUID.randomUUID().toString();
         Member defaultMember = memberRepository.save(Member.fromDefaults(memberDefaults, newNickname, p));
         provideService.setMember(p, defaultMember);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(defaultMember));
 
         return defaultMember;
     }
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.fontory.fontorybe.file.application.port.FileService;
 import org.fontory.fontorybe.file.domain.FileMetadata;
 import org.fontory.fontorybe.file.domain.FileUploadResult;
+import org.fontory.fontorybe.member.MemberProfileChangedEvent;
 import org.fontory.fontorybe.member.controller.dto.InitMemberInfoRequest;
 import org.fontory.fontorybe.member.controller.port.MemberCreationService;
 import org.fontory.fontorybe.member.controller.port.MemberLookupService;
@@ -17,6 +18,7 @@ import org.fontory.fontorybe.member.domain.exception.MemberDuplicateNameExistsEx
 import org.fontory.fontorybe.member.infrastructure.entity.MemberStatus;
 import org.fontory.fontorybe.member.service.port.MemberRepository;
 import org.fontory.fontorybe.provide.domain.Provide;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ public class MemberOnboardServiceImpl implements MemberOnboardService {
     private final MemberCreationService memberCreationService;
     private final FileService fileService;
     private final BadWordFiltering badWordFiltering;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -53,7 +56,9 @@ public class MemberOnboardServiceImpl implements MemberOnboardService {
 
         checkContainsBadWord(initNewMemberInfoRequest.getNickname());
 
-        return memberRepository.save(targetMember.initNewMemberInfo(initNewMemberInfoRequest));
+        Member initializedMember = memberRepository.save(targetMember.initNewMemberInfo(initNewMemberInfoRequest));
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(initializedMember));
+        return initializedMember;
     }
 
     private void checkContainsBadWord(String nickname) {
@@ -4,6 +4,7 @@ import com.vane.badwordfiltering.BadWordFiltering;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import org.fontory.fontorybe.authentication.application.port.JwtTokenProvider;
+import org.fontory.fontorybe.member.MemberProfileChangedEvent;
 import org.fontory.fontorybe.member.controller.port.MemberLookupService;
 import org.fontory.fontorybe.member.controller.port.MemberUpdateService;
 import org.fontory.fontorybe.member.domain.Member;
@@ -13,6 +14,7 @@ import org.fontory.fontorybe.member.domain.exception.MemberContainsBadWordExcept
 import org.fontory.fontorybe.member.domain.exception.MemberDuplicateNameExistsException;
 import org.fontory.fontorybe.member.service.port.MemberRepository;
 import org.fontory.fontorybe.provide.controller.port.ProvideService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class MemberUpdateServiceImpl implements MemberUpdateService {
     private final MemberRepository memberRepository;
     private final ProvideService provideService;
     private final BadWordFiltering badWordFiltering;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -39,7 +42,9 @@ public class MemberUpdateServiceImpl implements MemberUpdateService {
 
         checkContainsBadWord(memberUpdateRequest.getNickname());
 
-        return memberRepository.save(targetMember.update(memberUpdateRequest));
+        Member updatedMember = memberRepository.save(targetMember.update(memberUpdateRequest));
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(updatedMember));
+        return updatedMember;
     }
 
     @Override
@@ -52,7 +57,9 @@ public class MemberUpdateServiceImpl implements MemberUpdateService {
         }
         targetMember.disable();
 
-        return memberRepository.save(targetMember);
+        Member disabledMember = memberRepository.save(targetMember);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(disabledMember));
+        return disabledMember;
     }
 
     private void checkContainsBadWord(String nickname) {
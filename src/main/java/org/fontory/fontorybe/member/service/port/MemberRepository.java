@@ -1,10 +1,17 @@
 package org.fontory.fontorybe.member.service.port;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.domain.WriterProfile;
 
 public interface MemberRepository {
     Optional<Member> findById(Long id);
+    List<Member> findAllByIdIn(Collection<Long> ids);
     Member save(Member member);
     boolean existsByNickname(String nickname);
+    List<WriterProfile> findWriterProfilesByIdGreaterThan(Long lastId, int limit);
+    List<WriterProfile> findWriterProfilesByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
 }
@@ -0,0 +1,73 @@
+-- 마이그레이션 도입 이전(ddl-auto로 생성되던) 스키마
+-- 기존 DB는 spring.flyway.baseline-on-migrate로 이 버전에 기준선을 잡으므로 새로 만든 DB에서만 실행된다.
+
+CREATE TABLE IF NOT EXISTS `member` (
+    `member_id`   BIGINT       NOT NULL AUTO_INCREMENT,
+    `nickname`    VARCHAR(255),
+    `gender`      VARCHAR(255),
+    `birth`       DATE,
+    `provide_id`  BIGINT,
+    `status`      VARCHAR(255),
+    `deleted_at`  DATETIME(6),
+    `created_at`  DATETIME(6),
+    `updated_at`  DATETIME(6),
+    PRIMARY KEY (`member_id`)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS `provide` (
+    `provide_id`  BIGINT       NOT NULL AUTO_INCREMENT,
+    `provider`    VARCHAR(255),
+    `provided_id` VARCHAR(255),
+    `email`       VARCHAR(255),
+    `member_id`   BIGINT,
+    `created_at`  DATETIME(6),
+    `updated_at`  DATETIME(6),
+    PRIMARY KEY (`provide_id`)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS `font` (
+    `font_id`        BIGINT       NOT NULL AUTO_INCREMENT,
+    `name`           VARCHAR(255),
+    `eng_name`       VARCHAR(255),
+    `status`         VARCHAR(255),
+    `example`        VARCHAR(255),
+    `download_count` BIGINT,
+    `bookmark_count` BIGINT,
+    `file_key`       VARCHAR(255),
+    `member_id`      BIGINT,
+    `created_at`     DATETIME(6),
+    `updated_at`     DATETIME(6),
+    PRIMARY KEY (`font_id`)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS `bookmark` (
+    `bookmark_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `member_id`   BIGINT,
+    `font_id`     BIGINT,
+    `created_at`  DATETIME(6),
+    `updated_at`  DATETIME(6),
+    PRIMARY KEY (`bookmark_id`)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS `file` (
+    `file_id`     BIGINT       NOT NULL AUTO_INCREMENT,
+    `file_name`   VARCHAR(255),
+    `file_type`   VARCHAR(255),
+    `extension`   VARCHAR(255),
+    `file_key`    VARCHAR(255),
+    `uploader_id` BIGINT,
+    `size`        BIGINT,
+    `uploaded_at` DATETIME(6),
+    `created_at`  DATETIME(6),
+    `updated_at`  DATETIME(6),
+    PRIMARY KEY (`file_id`)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS `dlq` (
+    `id`        BIGINT       NOT NULL AUTO_INCREMENT,
+    `member_id` BIGINT,
+    `temp_key`  VARCHAR(255),
+    `fix_key`   VARCHAR(255),
+    `time`      DATETIME(6),
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB;
@@ -0,0 +1,23 @@
+-- 리포지토리 조회가 전체 스캔/filesort 없이 인덱스 순서대로 읽도록 하는 복합 인덱스
+-- 엔티티의 @Table(indexes)와 이름/컬럼을 맞춘다. (테스트는 ddl-auto로 같은 인덱스를 만든다)
+
+-- 회원별 폰트 목록/커서(최신순), 다른 폰트, 회원별 완료 폰트 수
+CREATE INDEX IF NOT EXISTS `idx_font_member_status_created_at` ON `font` (`member_id`, `status`, `created_at`);
+-- 최근 제작 폰트 (상태 무관)
+CREATE INDEX IF NOT EXISTS `idx_font_member_created_at` ON `font` (`member_id`, `created_at`);
+-- 전체 폰트 목록/커서 정렬별, 완료 폰트 수
+CREATE INDEX IF NOT EXISTS `idx_font_status_created_at` ON `font` (`status`, `created_at`);
+CREATE INDEX IF NOT EXISTS `idx_font_status_download_count` ON `font` (`status`, `download_count`);
+CREATE INDEX IF NOT EXISTS `idx_font_status_bookmark_count` ON `font` (`status`, `bookmark_count`);
+-- 폰트 이름 중복 검사
+CREATE INDEX IF NOT EXISTS `idx_font_name` ON `font` (`name`);
+-- 검색 색인 증분 동기화
+CREATE INDEX IF NOT EXISTS `idx_font_updated_at` ON `font` (`updated_at`);
+
+-- 닉네임 중복 검사
+CREATE INDEX IF NOT EXISTS `idx_member_nickname` ON `member` (`nickname`);
+-- 작성자 디렉터리 증분 동기화
+CREATE INDEX IF NOT EXISTS `idx_member_updated_at` ON `member` (`updated_at`);
+
+-- OAuth 로그인 시 가입 정보 조회
+CREATE INDEX IF NOT EXISTS `idx_provide_provided_id_provider` ON `provide` (`provided_id`, `provider`);
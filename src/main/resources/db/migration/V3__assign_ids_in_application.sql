@@ -0,0 +1,8 @@
+-- ID는 애플리케이션(TSID)이 할당한다.
+-- 기존 AUTO_INCREMENT 값은 그대로 두며, TSID는 시각 비트 때문에 기존 값보다 항상 크므로 ID 정렬 순서가 유지된다.
+-- AUTO_INCREMENT를 없애 ID 없이 들어오는 INSERT가 TSID와 겹치는 값을 받지 않고 실패하도록 한다.
+ALTER TABLE `font` MODIFY `font_id` BIGINT NOT NULL;
+ALTER TABLE `member` MODIFY `member_id` BIGINT NOT NULL;
+ALTER TABLE `provide` MODIFY `provide_id` BIGINT NOT NULL;
+ALTER TABLE `bookmark` MODIFY `bookmark_id` BIGINT NOT NULL;
+ALTER TABLE `file` MODIFY `file_id` BIGINT NOT NULL;
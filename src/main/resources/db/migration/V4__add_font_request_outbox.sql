@@ -0,0 +1,13 @@
+-- 폰트 제작 요청 아웃박스 (폰트 INSERT와 같은 트랜잭션에 기록하고 릴레이가 SQS로 보낸다)
+CREATE TABLE IF NOT EXISTS `font_request_outbox` (
+    `outbox_id`        BIGINT       NOT NULL,
+    `font_id`          BIGINT,
+    `message_group_id` VARCHAR(255),
+    `payload`          TEXT,
+    `attempts`         INT          NOT NULL DEFAULT 0,
+    `sent_at`          DATETIME(6),
+    `created_at`       DATETIME(6),
+    `updated_at`       DATETIME(6),
+    PRIMARY KEY (`outbox_id`),
+    INDEX `idx_font_request_outbox_sent_at` (`sent_at`)
+) ENGINE = InnoDB;
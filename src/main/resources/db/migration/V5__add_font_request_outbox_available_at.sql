@@ -0,0 +1,5 @@
+-- 혼잡할 때 수락한 제작 요청은 available_at 이후에 릴레이가 보낸다.
+ALTER TABLE `font_request_outbox` ADD COLUMN `available_at` DATETIME(6) AFTER `attempts`;
+UPDATE `font_request_outbox` SET `available_at` = `created_at` WHERE `available_at` IS NULL;
+-- 회원별 대기 중인 요청 집계(FontRepository.findGenerationLoads)에서 폰트와 조인한다.
+CREATE INDEX `idx_font_request_outbox_font_id` ON `font_request_outbox` (`font_id`);
@@ -0,0 +1,16 @@
+-- 북마크 유니크 키와 인덱스 (기준선을 잡은 기존 DB에도 적용되도록 V1이 아닌 이 버전에서 만든다)
+-- 북마크 추가는 INSERT IGNORE 결과로 북마크 수를 늘리므로 (member_id, font_id) 유니크 키가 있어야 중복과 수 어긋남을 막는다.
+
+-- 유니크 키 이전에 쌓인 중복 북마크는 가장 먼저 만든 것만 남긴다.
+-- 어긋난 font.bookmark_count는 BookmarkCountReconciler가 다시 센다.
+DELETE b1 FROM `bookmark` b1
+    JOIN `bookmark` b2
+      ON b1.`member_id` = b2.`member_id`
+     AND b1.`font_id` = b2.`font_id`
+     AND b1.`bookmark_id` > b2.`bookmark_id`;
+
+CREATE UNIQUE INDEX IF NOT EXISTS `uk_bookmark_member_font` ON `bookmark` (`member_id`, `font_id`);
+-- 폰트별 북마크 수 재계산
+CREATE INDEX IF NOT EXISTS `idx_bookmark_font_id` ON `bookmark` (`font_id`);
+-- 회원별 북마크 목록(최신순)
+CREATE INDEX IF NOT EXISTS `idx_bookmark_member_created_at` ON `bookmark` (`member_id`, `created_at`);
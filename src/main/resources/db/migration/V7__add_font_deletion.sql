@@ -0,0 +1,7 @@
+-- 삭제된 폰트 기록 (폰트 DELETE와 같은 트랜잭션에 남기고, 검색/자동완성 색인 동기화가 읽는다)
+CREATE TABLE IF NOT EXISTS `font_deletion` (
+    `font_id`    BIGINT      NOT NULL,
+    `deleted_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`font_id`),
+    INDEX `idx_font_deletion_deleted_at` (`deleted_at`)
+) ENGINE = InnoDB;
@@ -0,0 +1,96 @@
+package org.fontory.fontorybe.infrastructure;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 실행된 PreparedStatement의 SQL과 바인딩 값을 기록하는 데이터소스
+ * Hibernate와 JdbcTemplate이 실제로 보내는 문장을 그대로 얻기 위해 사용한다.
+ * 기록은 capture()를 호출한 스레드에서 실행된 문장만 대상으로 한다. (스케줄러 등 다른 스레드의 조회는 섞이지 않는다)
+ */
+class CapturingDataSource extends DelegatingDataSource {
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+    CapturingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    static List<CapturedStatement> capture(Runnable action) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connectionProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connectionProxy(super.getConnection(username, password));
+    }
+
+    private static Connection connectionProxy(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return statementProxy(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement statementProxy(PreparedStatement statement, String sql) {
+        TreeMap<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch") || (name.startsWith("execute") && !name.endsWith("Batch"))) {
+                record(sql, parameters);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static void record(String sql, TreeMap<Integer, Object> parameters) {
+        List<CapturedStatement> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(new CapturedStatement(sql, new ArrayList<>(parameters.values())));
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(CapturingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    record CapturedStatement(String sql, List<Object> parameters) {
+    }
+}
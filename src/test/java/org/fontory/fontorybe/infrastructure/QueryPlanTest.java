@@ -0,0 +1,224 @@
+package org.fontory.fontorybe.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.fontory.fontorybe.bookmark.infrastructure.BookmarkJpaRepository;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.FontDeletionJpaRepository;
+import org.fontory.fontorybe.font.infrastructure.FontJpaRepository;
+import org.fontory.fontorybe.font.infrastructure.FontRequestOutboxJpaRepository;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.fontory.fontorybe.infrastructure.CapturingDataSource.CapturedStatement;
+import org.fontory.fontorybe.member.infrastructure.MemberJpaRepository;
+import org.fontory.fontorybe.provide.infrastructure.ProvideJpaRepository;
+import org.fontory.fontorybe.provide.infrastructure.entity.Provider;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리포지토리 조회의 실행 계획 회귀 테스트
+ * 스키마는 운영과 같이 Flyway 마이그레이션(V1~)으로 만들고 엔티티와 일치하는지 검증(ddl-auto=validate)한다.
+ * 각 리포지토리 메서드를 시드 데이터 위에서 실제로 호출해 Hibernate/JdbcTemplate이 보낸 SQL과 바인딩 값을 기록하고,
+ * 그 문장을 EXPLAIN 해서 전체 스캔(type=ALL)이나 filesort가 나오면 실패한다.
+ * 조회를 추가하거나 바꾸면 여기에 호출을 함께 추가한다.
+ *
+ * 다음 조회는 설계상 인덱스로 해결하지 않으므로 제외한다.
+ * - 이름 LIKE '%키워드%' 검색: 검색 색인(FontSearchIndex)이 후보를 고르고 DB LIKE는 후보가 너무 많을 때만 쓴다.
+ * - (download_count + bookmark_count) 인기순: 랭킹(FontLeaderboard)이 비었을 때만 쓰는 대체 경로
+ * - 후보 ID IN 목록의 정렬/커서 조회: 검색 후보 범위 안에서만 정렬한다.
+ * - 북마크 수 재계산: font_id 구간을 PK로 읽고 구간 안에서만 집계한다.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(value = "/sql/createQueryPlanTestData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_CLASS)
+@Sql(value = "/sql/deleteQueryPlanTestData.sql", executionPhase = ExecutionPhase.AFTER_TEST_CLASS)
+class QueryPlanTest {
+
+    private static final LocalDateTime CURSOR_CREATED_AT = LocalDateTime.of(2025, 1, 5, 0, 0);
+    private static final LocalDateTime RECENT = LocalDateTime.of(2025, 1, 7, 22, 0);
+    private static final LocalDateTime OLD = LocalDateTime.of(2025, 1, 1, 6, 0);
+    private static final List<Long> IDS = List.of(1L, 2L, 3L, 4L, 5L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private FontJpaRepository fontJpaRepository;
+    @Autowired
+    private FontRepository fontRepository;
+    @Autowired
+    private FontDeletionJpaRepository fontDeletionJpaRepository;
+    @Autowired
+    private FontRequestOutboxJpaRepository fontRequestOutboxJpaRepository;
+    @Autowired
+    private BookmarkJpaRepository bookmarkJpaRepository;
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+    @Autowired
+    private ProvideJpaRepository provideJpaRepository;
+
+    /**
+     * 매 실행마다 빈 스키마에 마이그레이션을 처음부터 적용한다. (다른 테스트가 ddl-auto로 만든 테이블을 지운다)
+     */
+    @TestConfiguration
+    static class MigratedSchemaConfig {
+        @Bean
+        FlywayMigrationStrategy cleanMigrate() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                            ? new CapturingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    private static Arguments query(String name, Runnable invocation) {
+        return arguments(name, invocation);
+    }
+
+    private static PageRequest page(int page, int size, String property) {
+        return PageRequest.of(page, size, Sort.by(Sort.Order.desc(property)));
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        Font doneFont = Font.builder().id(7L).status(FontStatus.DONE).build();
+        return Stream.of(
+                // FontJpaRepository
+                query("findTop5ByMemberIdOrderByCreatedAtDesc", () -> fontJpaRepository.findTop5ByMemberIdOrderByCreatedAtDesc(7L)),
+                query("findAllByIdIn", () -> fontJpaRepository.findAllByIdIn(IDS)),
+                query("existsByName", () -> fontJpaRepository.existsByName("폰트7")),
+                query("countByStatus", () -> fontJpaRepository.countByStatus(FontStatus.DONE)),
+                query("countByMemberIdAndStatus", () -> fontJpaRepository.countByMemberIdAndStatus(7L, FontStatus.DONE)),
+                query("findByStatusAndIdGreaterThanOrderByIdAsc",
+                        () -> fontJpaRepository.findByStatusAndIdGreaterThanOrderByIdAsc(FontStatus.DONE, 5000L, PageRequest.of(0, 1000))),
+                query("findAllByUpdatedAtGreaterThanEqual", () -> fontJpaRepository.findAllByUpdatedAtGreaterThanEqual(RECENT)),
+                query("findCardsByMemberIdAndStatus",
+                        () -> fontJpaRepository.findCardsByMemberIdAndStatus(7L, FontStatus.DONE, page(0, 10, "createdAt"))),
+                query("findCardsByStatus (createdAt)",
+                        () -> fontJpaRepository.findCardsByStatus(FontStatus.DONE, page(2, 10, "createdAt"))),
+                query("findCardsByStatus (downloadCount)",
+                        () -> fontJpaRepository.findCardsByStatus(FontStatus.DONE, page(2, 10, "downloadCount"))),
+                query("findCardsByStatus (bookmarkCount)",
+                        () -> fontJpaRepository.findCardsByStatus(FontStatus.DONE, page(2, 10, "bookmarkCount"))),
+                query("findCardsByIdInAndStatus", () -> fontJpaRepository.findCardsByIdInAndStatus(IDS, FontStatus.DONE)),
+                query("findCardSliceByStatus", () -> fontJpaRepository.findCardSliceByStatus(FontStatus.DONE, page(2, 10, "createdAt"))),
+                query("findCardSliceByMemberIdAndStatus",
+                        () -> fontJpaRepository.findCardSliceByMemberIdAndStatus(7L, FontStatus.DONE, page(0, 10, "createdAt"))),
+                query("findCardsByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc",
+                        () -> fontJpaRepository.findCardsByMemberIdAndIdNotAndStatusOrderByCreatedAtDesc(
+                                7L, 7L, FontStatus.DONE, PageRequest.of(0, 3))),
+                query("findAllByStatusAfterCreatedAt",
+                        () -> fontJpaRepository.findAllByStatusAfterCreatedAt(FontStatus.DONE, CURSOR_CREATED_AT, 5000L, PageRequest.of(0, 11))),
+                query("findAllByStatusAfterDownloadCount",
+                        () -> fontJpaRepository.findAllByStatusAfterDownloadCount(FontStatus.DONE, 500L, 5000L, PageRequest.of(0, 11))),
+                query("findAllByStatusAfterBookmarkCount",
+                        () -> fontJpaRepository.findAllByStatusAfterBookmarkCount(FontStatus.DONE, 50L, 5000L, PageRequest.of(0, 11))),
+                query("findAllByMemberIdAndStatusAfterCreatedAt",
+                        () -> fontJpaRepository.findAllByMemberIdAndStatusAfterCreatedAt(
+                                7L, FontStatus.DONE, CURSOR_CREATED_AT, 5000L, PageRequest.of(0, 11))),
+                query("addBookmarkCount", () -> fontJpaRepository.addBookmarkCount(7L, 1L)),
+                query("findIdsGreaterThan", () -> fontJpaRepository.findIdsGreaterThan(5000L, PageRequest.of(0, 1000))),
+
+                // FontRepository (JdbcTemplate)
+                query("increaseDownloadCounts", () -> fontRepository.increaseDownloadCounts(Map.of(7L, 1L))),
+                query("updateStatuses", () -> fontRepository.updateStatuses(List.of(doneFont))),
+                query("findGenerationLoads", () -> fontRepository.findGenerationLoads()),
+
+                // FontDeletionJpaRepository
+                query("findFontIdsByDeletedAtGreaterThanEqual", () -> fontDeletionJpaRepository.findFontIdsByDeletedAtGreaterThanEqual(RECENT)),
+                query("deleteByDeletedAtBefore", () -> fontDeletionJpaRepository.deleteByDeletedAtBefore(OLD)),
+
+                // BookmarkJpaRepository
+                query("existsByMemberIdAndFontId", () -> bookmarkJpaRepository.existsByMemberIdAndFontId(7L, 7L)),
+                query("findByMemberIdAndFontId", () -> bookmarkJpaRepository.findByMemberIdAndFontId(7L, 7L)),
+                query("countByMemberId", () -> bookmarkJpaRepository.countByMemberId(7L)),
+                query("deleteByMemberIdAndFontId", () -> bookmarkJpaRepository.deleteByMemberIdAndFontId(7L, 7L)),
+                query("findFontIdsByMemberId", () -> bookmarkJpaRepository.findFontIdsByMemberId(7L)),
+                query("findBookmarkedFontCards",
+                        () -> bookmarkJpaRepository.findBookmarkedFontCards(7L, FontStatus.DONE, null, PageRequest.of(0, 10))),
+                query("findBookmarkedFontCardSlice",
+                        () -> bookmarkJpaRepository.findBookmarkedFontCardSlice(7L, FontStatus.DONE, null, PageRequest.of(0, 10))),
+
+                // MemberJpaRepository
+                query("existsByNickname", () -> memberJpaRepository.existsByNickname("nickname7")),
+                query("findAllByIdIn (member)", () -> memberJpaRepository.findAllByIdIn(IDS)),
+                query("findWriterProfilesByIdGreaterThan",
+                        () -> memberJpaRepository.findWriterProfilesByIdGreaterThan(1000L, PageRequest.of(0, 1000))),
+                query("findWriterProfilesByUpdatedAtGreaterThanEqual",
+                        () -> memberJpaRepository.findWriterProfilesByUpdatedAtGreaterThanEqual(LocalDateTime.of(2025, 1, 2, 9, 0))),
+
+                // FontRequestOutboxJpaRepository
+                query("claimUnsent", () -> fontRequestOutboxJpaRepository.claimUnsent(LocalDateTime.of(2025, 1, 8, 0, 0), 10, 100)),
+                query("deleteSentBefore", () -> fontRequestOutboxJpaRepository.deleteSentBefore(OLD, 1000)),
+
+                // ProvideJpaRepository
+                query("findByProvidedIdAndProvider", () -> provideJpaRepository.findByProvidedIdAndProvider("provided_id7", Provider.GOOGLE))
+        );
+    }
+
+    /**
+     * 호출은 롤백되는 트랜잭션 안에서 실행하므로 수정 쿼리도 시드 데이터를 바꾸지 않는다.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryUsesIndexWithoutFilesort(String query, Runnable invocation) {
+        List<CapturedStatement> statements = CapturingDataSource.capture(() -> transactionTemplate.executeWithoutResult(status -> {
+            invocation.run();
+            status.setRollbackOnly();
+        }));
+
+        assertThat(statements).as("%s sent no statement", query).isNotEmpty();
+        statements.forEach(statement -> assertUsesIndexWithoutFilesort(query, statement));
+    }
+
+    private void assertUsesIndexWithoutFilesort(String query, CapturedStatement statement) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameters().toArray());
+
+        assertThat(plan).isNotEmpty();
+        assertThat(plan).allSatisfy(row -> {
+            assertThat(row.get("type"))
+                    .as("%s full scan on %s: %s\n%s", query, row.get("table"), row, statement.sql())
+                    .isNotEqualTo("ALL");
+            assertThat(String.valueOf(row.get("Extra")))
+                    .as("%s filesort on %s: %s\n%s", query, row.get("table"), row, statement.sql())
+                    .doesNotContain("Using filesort");
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package org.fontory.fontorybe.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.fontory.fontorybe.font.infrastructure.RedisFontProgressDetailStorage;
+import org.fontory.fontorybe.font.service.dto.FontProgressDetail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@SpringBootTest
+class RedisFontProgressDetailStorageTest {
+    private final Long fontId = 900_001L;
+    private final Long otherFontId = 900_002L;
+
+    @Autowired
+    private RedisFontProgressDetailStorage storage;
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void clear() {
+        storage.delete(fontId);
+        storage.delete(otherFontId);
+    }
+
+    @Test
+    @DisplayName("saveIfChanged - compares and replaces the hash with its TTL in one step")
+    void saveIfChanged() {
+        assertThat(storage.saveIfChanged(fontId, new FontProgressDetail(10, "INFERENCE"))).isTrue();
+        assertThat(storage.saveIfChanged(fontId, new FontProgressDetail(10, "INFERENCE"))).isFalse();
+        assertThat(storage.saveIfChanged(fontId, new FontProgressDetail(20, null))).isTrue();
+
+        assertThat(storage.findAll(List.of(fontId))).containsEntry(fontId, new FontProgressDetail(20, null));
+        assertThat(redisTemplate.getExpire("font_progress_detail:" + fontId)).isPositive();
+    }
+
+    @Test
+    @DisplayName("saveIfChanged - an empty detail removes the hash")
+    void emptyDetailRemovesHash() {
+        storage.saveIfChanged(fontId, new FontProgressDetail(10, "INFERENCE"));
+
+        assertThat(storage.saveIfChanged(fontId, new FontProgressDetail(null, null))).isTrue();
+        assertThat(storage.saveIfChanged(fontId, new FontProgressDetail(null, null))).isFalse();
+        assertThat(storage.findAll(List.of(fontId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAll - reads several fonts in one pipeline and skips fonts without detail")
+    void findAllPipelined() {
+        storage.saveIfChanged(fontId, new FontProgressDetail(10, "INFERENCE"));
+        storage.saveIfChanged(otherFontId, new FontProgressDetail(null, "UPLOAD"));
+
+        Map<Long, FontProgressDetail> details = storage.findAll(List.of(fontId, otherFontId, 900_003L));
+
+        assertThat(details).containsOnly(
+                Map.entry(fontId, new FontProgressDetail(10, "INFERENCE")),
+                Map.entry(otherFontId, new FontProgressDetail(null, "UPLOAD")));
+    }
+}
@@ -0,0 +1,84 @@
+package org.fontory.fontorybe.integration.bookmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.bookmark.infrastructure.BookmarkJpaRepository;
+import org.fontory.fontorybe.bookmark.infrastructure.entity.BookmarkEntity;
+import org.fontory.fontorybe.common.application.TsidGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 북마크 10,000건 INSERT 처리량 비교 (./gradlew benchmark 로 실행)
+ * 이전: IDENTITY처럼 행마다 INSERT 왕복, 이후: TSID + Hibernate JDBC 배치(batch_size=100)
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+class BookmarkInsertBenchmarkTest {
+    private static final int BOOKMARKS = 10_000;
+
+    @Autowired
+    private BookmarkJpaRepository bookmarkJpaRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TsidGenerator tsidGenerator;
+
+    @BeforeEach
+    @AfterEach
+    void clear() {
+        jdbcTemplate.execute("TRUNCATE TABLE bookmark");
+    }
+
+    @Test
+    @DisplayName("benchmark - 10k bookmark inserts, row by row vs JDBC batch")
+    void bookmarkInsertThroughput() {
+        long rowByRowNanos = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < BOOKMARKS; i++) {
+                jdbcTemplate.update("INSERT INTO bookmark (bookmark_id, member_id, font_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, NOW(6), NOW(6))", tsidGenerator.nextId(), 1L, (long) i);
+            }
+        }));
+        assertThat(bookmarkJpaRepository.count()).isEqualTo(BOOKMARKS);
+        clear();
+
+        List<BookmarkEntity> bookmarks = new ArrayList<>(BOOKMARKS);
+        for (int i = 0; i < BOOKMARKS; i++) {
+            bookmarks.add(BookmarkEntity.builder()
+                    .memberId(1L)
+                    .fontId((long) i)
+                    .build());
+        }
+        long batchedNanos = measure(() -> transactionTemplate.executeWithoutResult(
+                status -> bookmarkJpaRepository.saveAll(bookmarks)));
+        assertThat(bookmarkJpaRepository.count()).isEqualTo(BOOKMARKS);
+
+        log.info("Benchmark: {} bookmark inserts, row by row: {} ms ({} rows/s), JDBC batch: {} ms ({} rows/s)",
+                BOOKMARKS,
+                rowByRowNanos / 1_000_000, rowsPerSecond(rowByRowNanos),
+                batchedNanos / 1_000_000, rowsPerSecond(batchedNanos));
+    }
+
+    private static long measure(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return System.nanoTime() - start;
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return BOOKMARKS * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
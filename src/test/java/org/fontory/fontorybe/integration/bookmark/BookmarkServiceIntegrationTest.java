@@ -0,0 +1,192 @@
+package org.fontory.fontorybe.integration.bookmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.fontory.fontorybe.bookmark.controller.port.BookmarkService;
+import org.fontory.fontorybe.bookmark.domain.Bookmark;
+import org.fontory.fontorybe.bookmark.domain.exception.BookmarkAlreadyException;
+import org.fontory.fontorybe.bookmark.domain.exception.BookmarkNotFoundException;
+import org.fontory.fontorybe.bookmark.service.BookmarkCountReconciler;
+import org.fontory.fontorybe.font.controller.dto.FontResponse;
+import org.fontory.fontorybe.font.controller.dto.SliceResponse;
+import org.fontory.fontorybe.font.controller.port.FontService;
+import org.fontory.fontorybe.font.domain.exception.FontNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest
+@Sql(value = "/sql/createFontTestData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/sql/deleteFontTestData.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+class BookmarkServiceIntegrationTest {
+    @Autowired
+    private BookmarkService bookmarkService;
+    @Autowired
+    private FontService fontService;
+    @Autowired
+    private BookmarkCountReconciler bookmarkCountReconciler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Long existMemberId = 999L;
+    private final Long otherMemberId = 1L;
+    private final Long existFontId = 999L;
+    private final Long nonExistFontId = -1L;
+
+    @Test
+    @DisplayName("bookmark - create increases bookmark count once per member")
+    void createSuccess() {
+        // when
+        Bookmark bookmark = bookmarkService.create(existMemberId, existFontId);
+        bookmarkService.create(otherMemberId, existFontId);
+
+        // then
+        assertThat(bookmark.getId()).isNotNull();
+        assertThat(bookmark.getCreatedAt()).isNotNull();
+        assertThat(fontService.getOrThrowById(existFontId).getBookmarkCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("bookmark - create stamps created_at with the application clock like audited rows")
+    void createUsesApplicationClock() {
+        // given
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // when
+        Bookmark bookmark = bookmarkService.create(existMemberId, existFontId);
+        LocalDateTime after = LocalDateTime.now();
+
+        // then
+        assertThat(bookmark.getCreatedAt()).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("bookmark - duplicate create fails without changing bookmark count")
+    void createDuplicateFail() {
+        // given
+        bookmarkService.create(existMemberId, existFontId);
+
+        // when & then
+        assertThatThrownBy(() -> bookmarkService.create(existMemberId, existFontId))
+                .isExactlyInstanceOf(BookmarkAlreadyException.class);
+        assertThat(fontService.getOrThrowById(existFontId).getBookmarkCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("bookmark - create on non-existent font fails")
+    void createNonExistFontFail() {
+        assertThatThrownBy(() -> bookmarkService.create(existMemberId, nonExistFontId))
+                .isExactlyInstanceOf(FontNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("bookmark - delete decreases bookmark count, second delete fails")
+    void deleteSuccess() {
+        // given
+        bookmarkService.create(existMemberId, existFontId);
+
+        // when
+        bookmarkService.delete(existMemberId, existFontId);
+
+        // then
+        assertThat(fontService.getOrThrowById(existFontId).getBookmarkCount()).isEqualTo(0L);
+        assertThatThrownBy(() -> bookmarkService.delete(existMemberId, existFontId))
+                .isExactlyInstanceOf(BookmarkNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("bookmark - recount repairs drifted bookmark count")
+    void recountRepairsDrift() {
+        // given
+        bookmarkService.create(existMemberId, existFontId);
+        jdbcTemplate.update("UPDATE font SET bookmark_count = 5 WHERE font_id = ?", existFontId);
+
+        // when
+        bookmarkCountReconciler.recount();
+
+        // then
+        assertThat(fontService.getOrThrowById(existFontId).getBookmarkCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("bookmark - recount walks TSID-sized font ids in keyset chunks")
+    void recountRepairsDriftWithTsidIds() {
+        // given
+        long tsidFontId = 612_345_678_901_234L;
+        jdbcTemplate.update("INSERT INTO font (font_id, name, status, example, download_count, bookmark_count, file_key, member_id, created_at, updated_at) " +
+                "VALUES (?, 'TSID폰트', 'DONE', 'TSID 폰트 예제입니다.', 0, 0, 'tsid-key', 999, NOW(), NOW())", tsidFontId);
+        bookmarkService.create(existMemberId, tsidFontId);
+        jdbcTemplate.update("UPDATE font SET bookmark_count = 7 WHERE font_id = ?", tsidFontId);
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> bookmarkCountReconciler.recount());
+
+        // then
+        assertThat(fontService.getOrThrowById(tsidFontId).getBookmarkCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("bookmark - bookmark flag on font card follows create and delete")
+    void bookmarkFlagFollowsCreateAndDelete() {
+        // given
+        assertThat(fontService.getFont(existFontId, existMemberId).isBookmarked()).isFalse();
+
+        // when & then
+        bookmarkService.create(existMemberId, existFontId);
+        assertThat(fontService.getFont(existFontId, existMemberId).isBookmarked()).isTrue();
+        assertThat(fontService.getFont(existFontId, otherMemberId).isBookmarked()).isFalse();
+
+        bookmarkService.delete(existMemberId, existFontId);
+        assertThat(fontService.getFont(existFontId, existMemberId).isBookmarked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("bookmark - getBookmarkedFonts filters by keyword in the query, so pages and totals match")
+    void getBookmarkedFontsWithKeyword() {
+        // given
+        jdbcTemplate.update("INSERT INTO font (font_id, name, status, example, download_count, bookmark_count, file_key, member_id, created_at, updated_at) " +
+                "VALUES (1000, '다른폰트', 'DONE', '다른 폰트 예제입니다.', 0, 0, 'key2', 999, NOW(), NOW())");
+        bookmarkService.create(existMemberId, existFontId);
+        bookmarkService.create(existMemberId, 1000L);
+
+        // when
+        Page<FontResponse> all = bookmarkService.getBookmarkedFonts(existMemberId, 0, 10, null);
+        Page<FontResponse> matched = bookmarkService.getBookmarkedFonts(existMemberId, 0, 10, "테스트");
+
+        // then
+        assertThat(all.getTotalElements()).isEqualTo(2L);
+        assertThat(all.getContent()).extracting(FontResponse::getId).containsExactly(1000L, existFontId);
+        assertThat(matched.getTotalElements()).isEqualTo(1L);
+        assertThat(matched.getContent()).singleElement().satisfies(font -> {
+            assertThat(font.getId()).isEqualTo(existFontId);
+            assertThat(font.getWriterName()).isEqualTo("existMemberNickName");
+            assertThat(font.isBookmarked()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("bookmark - getBookmarkedFontSlice returns the approximate total only without a keyword")
+    void getBookmarkedFontSliceTotal() {
+        // given
+        bookmarkService.create(existMemberId, existFontId);
+
+        // when
+        SliceResponse<FontResponse> all = bookmarkService.getBookmarkedFontSlice(existMemberId, 0, 10, null, true);
+        SliceResponse<FontResponse> matched = bookmarkService.getBookmarkedFontSlice(existMemberId, 0, 10, "없는폰트", true);
+
+        // then
+        assertThat(all.getApproximateTotalElements()).isNotNull();
+        assertThat(matched.getContent()).isEmpty();
+        assertThat(matched.getApproximateTotalElements()).isNull();
+    }
+}
@@ -13,11 +13,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import jakarta.servlet.http.Cookie;
 import org.fontory.fontorybe.authentication.application.port.JwtTokenProvider;
@@ -28,6 +30,8 @@ import org.fontory.fontorybe.file.application.port.FileService;
 import org.fontory.fontorybe.file.domain.FileMetadata;
 import org.fontory.fontorybe.file.domain.FileUploadResult;
 import org.fontory.fontorybe.font.controller.dto.FontCreateDTO;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchItem;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchUpdateDTO;
 import org.fontory.fontorybe.font.controller.dto.FontProgressUpdateDTO;
 import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
 import org.fontory.fontorybe.font.service.port.FontRequestProducer;
@@ -38,6 +42,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -228,6 +233,28 @@ class FontControllerIntegrationTest {
                 .andExpect(jsonPath("$.number").value(0));
     }
 
+    @Test
+    @DisplayName("GET /fonts/members, GET /fonts - size outside 1..100 returns 400")
+    void getFontsWithInvalidSize() throws Exception {
+        // when & then
+        mockMvc.perform(get("/fonts/members")
+                        .cookie(new Cookie("accessToken", validAccessToken))
+                        .param("size", "0")
+                        .param("cursor", ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value("size는 1 이상이어야 합니다."));
+
+        mockMvc.perform(get("/fonts")
+                        .param("size", "-1")
+                        .param("cursor", ""))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/fonts")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage").value("size는 100 이하여야 합니다."));
+    }
+
     @Test
     @DisplayName("GET /fonts/members - without Authorization header returns 401")
     void getMyFontsWithoutAuthHeader() throws Exception {
@@ -254,6 +281,51 @@ class FontControllerIntegrationTest {
                 .andExpect(jsonPath("$.bookmarkCount", is(existFontBookmarkCount.intValue())));
     }
 
+    @Test
+    @DisplayName("GET /fonts/{fontId} - returns 304 when If-None-Match matches the current ETag")
+    void getFontDetailNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/fonts/{fontId}", existFontId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/fonts/{fontId}", existFontId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /fonts/progress - returns 304 until the member's progress changes")
+    void getFontProgressNotModifiedUntilChanged() throws Exception {
+        String eTag = mockMvc.perform(get("/fonts/progress")
+                        .cookie(new Cookie("accessToken", validAccessToken)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/fonts/progress")
+                        .cookie(new Cookie("accessToken", validAccessToken))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // 같은 상태(DONE)로의 갱신은 생략되므로 실제로 상태가 바뀌는 갱신을 보낸다.
+        FontProgressUpdateDTO updateDTO = FontProgressUpdateDTO.builder()
+                .status(FontStatus.FAILED)
+                .build();
+        mockMvc.perform(patch("/fonts/progress/{fontId}", existFontId)
+                        .header("Authorization", validFontCreateServerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/fonts/progress")
+                        .cookie(new Cookie("accessToken", validAccessToken))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").isNotEmpty());
+    }
+
     @Test
     @DisplayName("DELETE /fonts/members/{fontId} - success when authorized and own font")
     void deleteFontSuccess() throws Exception {
@@ -356,6 +428,40 @@ class FontControllerIntegrationTest {
                 .andExpect(jsonPath("$.status", is("DONE")));
     }
 
+    @Test
+    @DisplayName("PATCH /fonts/progress - returns a result per font")
+    void updateFontProgressesSuccess() throws Exception {
+        FontProgressBatchUpdateDTO updateDTO = FontProgressBatchUpdateDTO.builder()
+                .updates(List.of(
+                        FontProgressBatchItem.builder().fontId(999L).status(FontStatus.FAILED).build(),
+                        FontProgressBatchItem.builder().fontId(-1L).status(FontStatus.DONE).build()))
+                .build();
+
+        mockMvc.perform(patch("/fonts/progress")
+                        .header("Authorization", validFontCreateServerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].fontId", is(999)))
+                .andExpect(jsonPath("$[0].result", is("UPDATED")))
+                .andExpect(jsonPath("$[0].status", is("FAILED")))
+                .andExpect(jsonPath("$[1].fontId", is(-1)))
+                .andExpect(jsonPath("$[1].result", is("NOT_FOUND")));
+    }
+
+    @Test
+    @DisplayName("PATCH /fonts/progress - fails without the font create server token")
+    void updateFontProgressesUnauthorized() throws Exception {
+        FontProgressBatchUpdateDTO updateDTO = FontProgressBatchUpdateDTO.builder()
+                .updates(List.of(FontProgressBatchItem.builder().fontId(999L).status(FontStatus.FAILED).build()))
+                .build();
+
+        mockMvc.perform(patch("/fonts/progress")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @DisplayName("GET /fonts/{fontId}/download - success")
     void downloadFontSuccess() throws Exception {
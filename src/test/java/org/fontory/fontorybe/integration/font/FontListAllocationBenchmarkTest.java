@@ -0,0 +1,132 @@
+package org.fontory.fontorybe.integration.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.fontory.fontorybe.font.infrastructure.FontJpaRepository;
+import org.fontory.fontorybe.font.infrastructure.entity.FontEntity;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.dto.FontCard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 폰트 목록 한 페이지를 읽을 때의 할당량과 GC 비교 (./gradlew benchmark 로 실행)
+ * 이전: FontEntity 전체 컬럼 조회 -> Font(toModel) -> 카드, 이후: 카드 컬럼만 생성자 프로젝션(FontCard)으로 조회
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+class FontListAllocationBenchmarkTest {
+    private static final int FONTS = 5_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_PAGES = 200;
+    private static final int MEASURED_PAGES = 1_000;
+
+    @Autowired
+    private FontJpaRepository fontJpaRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seed() {
+        clear();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(FONTS);
+        for (long id = 1; id <= FONTS; id++) {
+            rows.add(new Object[]{id, "폰트" + id, "FONT" + id, "예제 문장입니다 " + id, id % 100, id % 10, "key" + id, id % 50, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO font (font_id, name, eng_name, status, example, download_count, bookmark_count, " +
+                "file_key, member_id, created_at, updated_at) VALUES (?, ?, ?, 'DONE', ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @AfterEach
+    void clear() {
+        jdbcTemplate.execute("TRUNCATE TABLE font");
+    }
+
+    @Test
+    @DisplayName("benchmark - allocated bytes per font list page, entity copy vs card projection")
+    void fontListAllocationPerPage() {
+        Result entityCopy = measure(page -> em.createQuery(
+                        "SELECT f FROM FontEntity f WHERE f.status = :status ORDER BY f.createdAt DESC", FontEntity.class)
+                .setParameter("status", FontStatus.DONE)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(FontEntity::toModel)
+                .map(FontCard::from)
+                .toList());
+        Result projection = measure(page -> fontJpaRepository.findCardsByStatus(FontStatus.DONE,
+                        PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Order.desc("createdAt"))))
+                .getContent());
+
+        log.info("Benchmark: {} rows per page, entity copy: {} bytes/page, {} GCs, {} ms GC; " +
+                        "card projection: {} bytes/page, {} GCs, {} ms GC",
+                PAGE_SIZE,
+                entityCopy.bytesPerPage(), entityCopy.gcCount(), entityCopy.gcMillis(),
+                projection.bytesPerPage(), projection.gcCount(), projection.gcMillis());
+    }
+
+    /**
+     * 페이지마다 새 트랜잭션(영속성 컨텍스트)에서 읽어 요청 하나와 같은 조건으로 잰다.
+     * 할당량은 현재 스레드 기준이라 다른 스레드(GC, 커넥션 풀)의 할당은 섞이지 않는다.
+     */
+    private Result measure(IntFunction<List<FontCard>> readPage) {
+        int pages = FONTS / PAGE_SIZE;
+        for (int i = 0; i < WARMUP_PAGES; i++) {
+            int page = i % pages;
+            transactionTemplate.executeWithoutResult(status -> readPage.apply(page));
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_PAGES; i++) {
+            int page = i % pages;
+            List<FontCard> cards = transactionTemplate.execute(status -> readPage.apply(page));
+            assertThat(cards).hasSize(PAGE_SIZE);
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(allocated / MEASURED_PAGES, gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    private record Result(long bytesPerPage, long gcCount, long gcMillis) {
+    }
+}
@@ -0,0 +1,188 @@
+package org.fontory.fontorybe.integration.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.operations.SqsOperations;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import org.fontory.fontorybe.font.FontRequestAbandonedEvent;
+import org.fontory.fontorybe.font.infrastructure.FontRequestOutboxJpaRepository;
+import org.fontory.fontorybe.font.infrastructure.FontRequestOutboxRelay;
+import org.fontory.fontorybe.font.infrastructure.entity.FontRequestOutboxEntity;
+import org.fontory.fontorybe.font.service.dto.FontRequestProduceDto;
+import org.fontory.fontorybe.font.service.port.FontRequestProducer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@RecordApplicationEvents
+class FontRequestOutboxIntegrationTest {
+    @Autowired
+    private FontRequestProducer fontRequestProducer;
+    @Autowired
+    private FontRequestOutboxRelay fontRequestOutboxRelay;
+    @Autowired
+    private FontRequestOutboxJpaRepository fontRequestOutboxJpaRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEvents applicationEvents;
+    @MockitoBean
+    private SqsOperations sqsOperations;
+    @Value("${font.request-producer.outbox.max-attempts}")
+    private int maxAttempts;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void clear() {
+        fontRequestOutboxJpaRepository.deleteAllInBatch();
+    }
+
+    private static FontRequestProduceDto request(long fontId) {
+        return FontRequestProduceDto.builder()
+                .fontId(fontId)
+                .memberId(999L)
+                .fileKey("key")
+                .fontName("테스트폰트")
+                .requestUUID("request-" + fontId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("outbox - committed requests are relayed to SQS and marked sent")
+    @SuppressWarnings("unchecked")
+    void relaysCommittedRequests() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long fontId = 1; fontId <= 12; fontId++) {
+                fontRequestProducer.sendFontRequest(request(fontId));
+            }
+        });
+        verify(sqsOperations, never()).sendMany(anyString(), anyCollection());
+
+        fontRequestOutboxRelay.relay();
+
+        ArgumentCaptor<Collection<Message<String>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(sqsOperations, times(2)).sendMany(anyString(), captor.capture());
+        assertThat(captor.getAllValues()).extracting(Collection::size).containsExactly(10, 2);
+        assertThat(captor.getAllValues().get(0).iterator().next().getPayload()).contains("\"fontId\":1");
+        assertThat(captor.getAllValues().get(0))
+                .extracting(message -> message.getHeaders().get(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_DEDUPLICATION_ID_HEADER))
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        assertThat(fontRequestOutboxJpaRepository.findAll())
+                .hasSize(12)
+                .allSatisfy(row -> assertThat(row.getSentAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("outbox - a rolled back request is never relayed")
+    void rolledBackRequestIsNotRelayed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            fontRequestProducer.sendFontRequest(request(1L));
+            status.setRollbackOnly();
+        });
+
+        fontRequestOutboxRelay.relay();
+
+        verify(sqsOperations, never()).sendMany(anyString(), anyCollection());
+        assertThat(fontRequestOutboxJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("outbox - a delayed request is not relayed before its available time")
+    void delayedRequestWaits() {
+        transactionTemplate.executeWithoutResult(status ->
+                fontRequestProducer.sendFontRequest(request(1L), Duration.ofMinutes(1)));
+
+        fontRequestOutboxRelay.relay();
+
+        verify(sqsOperations, never()).sendMany(anyString(), anyCollection());
+        assertThat(fontRequestOutboxJpaRepository.findAll().get(0).getSentAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("outbox - a failed send is kept for the next relay with its attempt counted")
+    void failedSendIsRetried() {
+        transactionTemplate.executeWithoutResult(status -> fontRequestProducer.sendFontRequest(request(1L)));
+        doThrow(new IllegalStateException("sqs down"))
+                .when(sqsOperations).sendMany(anyString(), anyCollection());
+
+        fontRequestOutboxRelay.relay();
+
+        FontRequestOutboxEntity row = fontRequestOutboxJpaRepository.findAll().get(0);
+        assertThat(row.getSentAt()).isNull();
+        assertThat(row.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("outbox - a request given up after max attempts is reported so the font is marked FAILED")
+    void givenUpRequestIsAbandoned() {
+        transactionTemplate.executeWithoutResult(status -> fontRequestProducer.sendFontRequest(request(1L)));
+        doThrow(new IllegalStateException("sqs down"))
+                .when(sqsOperations).sendMany(anyString(), anyCollection());
+
+        for (int attempt = 1; attempt < maxAttempts; attempt++) {
+            fontRequestOutboxRelay.relay();
+        }
+        assertThat(applicationEvents.stream(FontRequestAbandonedEvent.class)).isEmpty();
+
+        fontRequestOutboxRelay.relay();
+        fontRequestOutboxRelay.relay();
+
+        assertThat(applicationEvents.stream(FontRequestAbandonedEvent.class))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getFontIds()).containsExactly(1L));
+        verify(sqsOperations, times(maxAttempts)).sendMany(anyString(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("outbox - rows claimed by one relay are skipped by another")
+    void claimedRowsAreSkipped() {
+        transactionTemplate.executeWithoutResult(status -> fontRequestProducer.sendFontRequest(request(1L)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(fontRequestOutboxJpaRepository.claimUnsent(LocalDateTime.now(), 10, 100)).hasSize(1);
+
+            Integer claimedElsewhere = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(other ->
+                    fontRequestOutboxJpaRepository.claimUnsent(LocalDateTime.now(), 10, 100).size())).join();
+            assertThat(claimedElsewhere).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("outbox - writing a request outside a transaction fails")
+    void requiresTransaction() {
+        assertThatThrownBy(() -> fontRequestProducer.sendFontRequest(request(1L)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        verify(sqsOperations, never()).sendMany(anyString(), anyCollection());
+    }
+}
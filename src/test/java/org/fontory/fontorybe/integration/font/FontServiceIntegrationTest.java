@@ -10,19 +10,26 @@ import static org.mockito.Mockito.doNothing;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.fontory.fontorybe.file.application.port.FileRepository;
 import org.fontory.fontorybe.file.application.port.FileService;
 import org.fontory.fontorybe.file.domain.FileMetadata;
 import org.fontory.fontorybe.file.domain.FileUploadResult;
+import org.fontory.fontorybe.font.FontRequestAbandonedEvent;
 import org.fontory.fontorybe.font.controller.dto.*;
 import org.fontory.fontorybe.font.controller.port.FontService;
 import org.fontory.fontorybe.font.domain.Font;
 import org.fontory.fontorybe.font.domain.exception.FontNotFoundException;
 import org.fontory.fontorybe.font.domain.exception.FontOwnerMismatchException;
 import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.FontDownloadCountBuffer;
+import org.fontory.fontorybe.font.service.FontRequestFailureHandler;
+import org.fontory.fontorybe.font.service.port.FontRepository;
 import org.fontory.fontorybe.font.service.port.FontRequestProducer;
+import org.fontory.fontorybe.font.service.search.FontAutocompleteIndex;
+import org.fontory.fontorybe.font.service.search.FontSearchIndexSynchronizer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,6 +54,16 @@ class FontServiceIntegrationTest {
     private FontRequestProducer fontRequestProducer;
     @MockitoBean
     private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private FontDownloadCountBuffer fontDownloadCountBuffer;
+    @Autowired
+    private FontRepository fontRepository;
+    @Autowired
+    private FontAutocompleteIndex fontAutocompleteIndex;
+    @Autowired
+    private FontSearchIndexSynchronizer fontSearchIndexSynchronizer;
+    @Autowired
+    private FontRequestFailureHandler fontRequestFailureHandler;
 
     private final Long existMemberId = 999L;
     private final String existMemberName = "existMemberNickName";
@@ -211,6 +228,111 @@ class FontServiceIntegrationTest {
         assertThat(ids).isEqualTo(sorted);
     }
 
+    @Test
+    @DisplayName("font - getFontSlice success test")
+    void getFontSliceSuccess() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            Font font = fontService.create(
+                    existMemberId,
+                    FontCreateDTO.builder()
+                            .name("슬라이스폰트" + i)
+                            .engName("SLICE" + i)
+                            .example("예제" + i)
+                            .build(),
+                    fileDetails
+            );
+            fontService.updateProgress(font.getId(), fontProgressUpdateDTO);
+        }
+
+        // when
+        SliceResponse<FontResponse> first = fontService.getFontSlice(existMemberId, 0, 2, true);
+        SliceResponse<FontResponse> last = fontService.getFontSlice(existMemberId, 1, 2, false);
+
+        // then
+        assertAll(
+                () -> assertThat(first.getContent()).hasSize(2),
+                () -> assertThat(first.isHasNext()).isTrue(),
+                () -> assertThat(first.getApproximateTotalElements()).isNotNull(),
+                () -> assertThat(last.getContent()).hasSize(2),
+                () -> assertThat(last.isHasNext()).isFalse(),
+                () -> assertThat(last.getApproximateTotalElements()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("font - getFontsByCursor success test")
+    void getFontsByCursorSuccess() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            Font font = fontService.create(
+                    existMemberId,
+                    FontCreateDTO.builder()
+                            .name("커서폰트" + i)
+                            .engName("CURSOR" + i)
+                            .example("예제" + i)
+                            .build(),
+                    fileDetails
+            );
+            fontService.updateProgress(font.getId(), fontProgressUpdateDTO);
+        }
+
+        int size = 2;
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        CursorPageResponse<FontResponse> result;
+        do {
+            result = fontService.getFontsByCursor(existMemberId, size, cursor);
+            result.getContent().forEach(font -> ids.add(font.getId()));
+            cursor = result.getNextCursor();
+        } while (result.isHasNext());
+
+        // then
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort(Comparator.reverseOrder());
+
+        assertThat(ids).hasSize(6);
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids).isEqualTo(sorted);
+    }
+
+    @Test
+    @DisplayName("font - getFontPageByCursor with keyword pages through search index candidates")
+    void getFontPageByCursorWithKeyword() {
+        // given
+        List<Long> created = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Font font = fontService.create(
+                    existMemberId,
+                    FontCreateDTO.builder()
+                            .name("검색커서폰트" + i)
+                            .engName("SEARCHCURSOR" + i)
+                            .example("예제" + i)
+                            .build(),
+                    fileDetails
+            );
+            fontService.updateProgress(font.getId(), fontProgressUpdateDTO);
+            created.add(font.getId());
+        }
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        CursorPageResponse<FontPageResponse> result;
+        do {
+            result = fontService.getFontPageByCursor(existMemberId, 2, "downloadCount", "검색커서", cursor);
+            result.getContent().forEach(font -> ids.add(font.getId()));
+            cursor = result.getNextCursor();
+        } while (result.isHasNext());
+
+        // then
+        List<Long> expected = new ArrayList<>(created);
+        expected.sort(Comparator.reverseOrder());
+        assertThat(ids).isEqualTo(expected);
+    }
+
     @Test
     @DisplayName("font - getFont detail success test")
     void getFontDetailSuccess() {
@@ -240,6 +362,39 @@ class FontServiceIntegrationTest {
                 .isExactlyInstanceOf(FontNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("font - a deleted font leaves autocomplete, also on instances that only see it through sync")
+    void deleteFontRemovesAutocompleteSuggestion() {
+        // given
+        Font font = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("삭제자동완성")
+                        .engName("DELETEAUTO")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+        fontService.updateProgress(font.getId(), fontProgressUpdateDTO);
+        Font doneFont = fontService.getOrThrowById(font.getId());
+        assertThat(fontService.getAutocompleteSuggestions("삭제자동", 10))
+                .extracting(FontAutocompleteResponse::getId)
+                .containsExactly(font.getId());
+
+        // when
+        fontService.delete(existMemberId, font.getId());
+        List<FontAutocompleteResponse> afterDelete = fontService.getAutocompleteSuggestions("삭제자동", 10);
+        fontAutocompleteIndex.update(List.of(doneFont));
+        fontSearchIndexSynchronizer.syncRecentlyUpdated();
+        List<FontAutocompleteResponse> afterSync = fontService.getAutocompleteSuggestions("삭제자동", 10);
+
+        // then
+        assertAll(
+                () -> assertThat(afterDelete).isEmpty(),
+                () -> assertThat(afterSync).isEmpty()
+        );
+    }
+
     @Test
     @DisplayName("font - delete fail test caused by access denied")
     void deleteFontAccessDeniedFail() {
@@ -302,6 +457,7 @@ class FontServiceIntegrationTest {
         for (int i = 0; i < 5; i++) {
             fontService.fontDownload(existMemberId, font2.getId());
         }
+        fontDownloadCountBuffer.flush();
 
         int page = 0;
         int size = 5;
@@ -387,6 +543,7 @@ class FontServiceIntegrationTest {
         for (int i = 0; i < 1; i++) {
             fontService.fontDownload(existMemberId, font3.getId());
         }
+        fontDownloadCountBuffer.flush();
 
         // when
         List<FontResponse> result = fontService.getPopularFonts(existMemberId);
@@ -452,6 +609,7 @@ class FontServiceIntegrationTest {
         for (int i = 0; i < 1; i++) {
             fontService.fontDownload(existMemberId, font3.getId());
         }
+        fontDownloadCountBuffer.flush();
 
         // when
         List<FontResponse> result = fontService.getPopularFonts(existMemberId);
@@ -495,4 +653,239 @@ class FontServiceIntegrationTest {
         // then
         assertThat(fontUpdateResponse.getStatus()).isEqualTo(FontStatus.DONE);
     }
+
+    @Test
+    @DisplayName("font - fontDownload buffers the count until flush")
+    void fontDownloadCountIsFlushedInBatch() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            fontService.fontDownload(existMemberId, existFontId);
+        }
+        Long downloadCountBeforeFlush = fontService.getOrThrowById(existFontId).getDownloadCount();
+
+        // when
+        fontDownloadCountBuffer.flush();
+
+        // then
+        assertAll(
+                () -> assertThat(downloadCountBeforeFlush).isEqualTo(existFontDownloadCount),
+                () -> assertThat(fontService.getOrThrowById(existFontId).getDownloadCount()).isEqualTo(existFontDownloadCount + 3)
+        );
+    }
+
+    @Test
+    @DisplayName("font - reportProgress keeps percentage and stage out of the DB until a terminal update")
+    void reportProgressIsShownUntilTerminalUpdate() {
+        // given
+        Font createdFont = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("진행률폰트")
+                        .engName("ENG2")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+        FontProgressUpdateDTO report = FontProgressUpdateDTO.builder()
+                .status(FontStatus.PROGRESS)
+                .percentage(40)
+                .stage("rendering")
+                .build();
+
+        // when
+        fontService.reportProgress(createdFont.getId(), report);
+        String eTagAfterReport = fontService.getFontProgressETag(existMemberId);
+        fontService.reportProgress(createdFont.getId(), report);
+        FontProgressResponse inProgress = fontService.getFontProgress(existMemberId).get(0);
+
+        fontService.updateProgress(createdFont.getId(), fontProgressUpdateDTO);
+        FontProgressResponse done = fontService.getFontProgress(existMemberId).get(0);
+
+        // then
+        assertAll(
+                () -> assertThat(fontService.getFontProgressETag(existMemberId)).isNotEqualTo(eTagAfterReport),
+                () -> assertThat(inProgress.getStatus()).isEqualTo(FontStatus.PROGRESS),
+                () -> assertThat(inProgress.getPercentage()).isEqualTo(40),
+                () -> assertThat(inProgress.getStage()).isEqualTo("rendering"),
+                () -> assertThat(done.getStatus()).isEqualTo(FontStatus.DONE),
+                () -> assertThat(done.getPercentage()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("font - repeated progress reports do not change the progress version")
+    void repeatedProgressReportIsSkipped() {
+        // given
+        Font createdFont = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("반복보고폰트")
+                        .engName("ENG3")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+        FontProgressUpdateDTO report = FontProgressUpdateDTO.builder()
+                .status(FontStatus.PROGRESS)
+                .percentage(70)
+                .build();
+        fontService.reportProgress(createdFont.getId(), report);
+        String eTag = fontService.getFontProgressETag(existMemberId);
+
+        // when
+        fontService.reportProgress(createdFont.getId(), report);
+
+        // then
+        assertThat(fontService.getFontProgressETag(existMemberId)).isEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("font - updateProgresses applies the last update per font and reports each result")
+    void updateProgressesAppliesBatch() {
+        // given
+        Font first = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("일괄폰트일")
+                        .engName("BATCH1")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+        Font second = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("일괄폰트이")
+                        .engName("BATCH2")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+        List<FontProgressBatchItem> items = List.of(
+                FontProgressBatchItem.builder().fontId(first.getId()).status(FontStatus.PROGRESS).percentage(90).build(),
+                FontProgressBatchItem.builder().fontId(first.getId()).status(FontStatus.DONE).build(),
+                FontProgressBatchItem.builder().fontId(second.getId()).status(FontStatus.FAILED).build(),
+                FontProgressBatchItem.builder().fontId(existFontId).status(FontStatus.DONE).build(),
+                FontProgressBatchItem.builder().fontId(nonExistFontId).status(FontStatus.DONE).build());
+
+        // when
+        List<FontProgressBatchUpdateResponse> results = fontService.updateProgresses(items);
+
+        // then
+        assertAll(
+                () -> assertThat(results).extracting(FontProgressBatchUpdateResponse::getFontId)
+                        .containsExactly(first.getId(), second.getId(), existFontId, nonExistFontId),
+                () -> assertThat(results).extracting(FontProgressBatchUpdateResponse::getResult)
+                        .containsExactly(FontProgressBatchUpdateResponse.Result.UPDATED,
+                                FontProgressBatchUpdateResponse.Result.UPDATED,
+                                FontProgressBatchUpdateResponse.Result.UNCHANGED,
+                                FontProgressBatchUpdateResponse.Result.NOT_FOUND),
+                () -> assertThat(fontService.getOrThrowById(first.getId()).getStatus()).isEqualTo(FontStatus.DONE),
+                () -> assertThat(fontService.getOrThrowById(second.getId()).getStatus()).isEqualTo(FontStatus.FAILED)
+        );
+    }
+
+    @Test
+    @DisplayName("font - updateStatuses does not overwrite a font that already finished")
+    void updateStatusesSkipsFinishedFont() {
+        // given
+        Font font = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("경합폰트")
+                        .engName("RACE")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+        Font staleFailed = font.updateProgress(FontProgressUpdateDTO.builder().status(FontStatus.FAILED).build());
+        fontService.updateProgress(font.getId(), fontProgressUpdateDTO);
+
+        // when
+        Set<Long> updatedIds = fontRepository.updateStatuses(List.of(staleFailed));
+
+        // then
+        assertAll(
+                () -> assertThat(updatedIds).isEmpty(),
+                () -> assertThat(fontService.getOrThrowById(font.getId()).getStatus()).isEqualTo(FontStatus.DONE)
+        );
+    }
+
+    @Test
+    @DisplayName("font - updateProgress does not turn a finished font into FAILED")
+    void updateProgressSkipsFinishedFont() {
+        // given
+        Font font = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("완료폰트")
+                        .engName("FINISHED")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+        fontRepository.updateStatuses(List.of(font.updateProgress(fontProgressUpdateDTO)));
+
+        // when
+        FontUpdateResponse response = fontService.updateProgress(font.getId(),
+                FontProgressUpdateDTO.builder().status(FontStatus.FAILED).build());
+
+        // then
+        assertAll(
+                () -> assertThat(response.getStatus()).isEqualTo(FontStatus.DONE),
+                () -> assertThat(fontService.getOrThrowById(font.getId()).getStatus()).isEqualTo(FontStatus.DONE)
+        );
+    }
+
+    @Test
+    @DisplayName("font - abandoned font requests mark only fonts still in progress as FAILED")
+    void abandonedFontRequestsMarkFontsFailed() {
+        // given
+        Font abandoned = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("요청실패폰트")
+                        .engName("ABANDONED")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+
+        // when
+        fontRequestFailureHandler.markFailed(new FontRequestAbandonedEvent(List.of(abandoned.getId(), existFontId)));
+
+        // then
+        assertAll(
+                () -> assertThat(fontService.getOrThrowById(abandoned.getId()).getStatus()).isEqualTo(FontStatus.FAILED),
+                () -> assertThat(fontService.getOrThrowById(existFontId).getStatus()).isEqualTo(FontStatus.DONE)
+        );
+    }
+
+    @Test
+    @DisplayName("font - updateProgresses keeps the completion when a progress report for the same font follows it")
+    void updateProgressesPrefersTerminalStatus() {
+        // given
+        Font font = fontService.create(
+                existMemberId,
+                FontCreateDTO.builder()
+                        .name("순서폰트")
+                        .engName("ORDER")
+                        .example("예제입니다")
+                        .build(),
+                fileDetails
+        );
+        List<FontProgressBatchItem> items = List.of(
+                FontProgressBatchItem.builder().fontId(font.getId()).status(FontStatus.DONE).build(),
+                FontProgressBatchItem.builder().fontId(font.getId()).status(FontStatus.PROGRESS).percentage(95).build());
+
+        // when
+        List<FontProgressBatchUpdateResponse> results = fontService.updateProgresses(items);
+
+        // then
+        assertAll(
+                () -> assertThat(results).extracting(FontProgressBatchUpdateResponse::getResult)
+                        .containsExactly(FontProgressBatchUpdateResponse.Result.UPDATED),
+                () -> assertThat(fontService.getOrThrowById(font.getId()).getStatus()).isEqualTo(FontStatus.DONE)
+        );
+    }
 }
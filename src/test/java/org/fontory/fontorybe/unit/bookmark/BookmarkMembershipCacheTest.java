@@ -0,0 +1,66 @@
+package org.fontory.fontorybe.unit.bookmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.fontory.fontorybe.bookmark.service.BookmarkMembershipCache;
+import org.fontory.fontorybe.bookmark.service.port.BookmarkRepository;
+import org.fontory.fontorybe.common.application.PrimaryReads;
+import org.fontory.fontorybe.unit.mock.FakeBookmarkBitmapStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class BookmarkMembershipCacheTest {
+    private final Long memberId = 1L;
+
+    private BookmarkRepository bookmarkRepository;
+    private FakeBookmarkBitmapStorage bookmarkBitmapStorage;
+    private PrimaryReads primaryReads;
+    private BookmarkMembershipCache bookmarkMembershipCache;
+
+    @BeforeEach
+    void init() {
+        bookmarkRepository = mock(BookmarkRepository.class);
+        bookmarkBitmapStorage = new FakeBookmarkBitmapStorage();
+        primaryReads = new PrimaryReads(mock(PlatformTransactionManager.class));
+        bookmarkMembershipCache = new BookmarkMembershipCache(bookmarkRepository, bookmarkBitmapStorage, primaryReads, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("isBookmarked - a cold load is shared with other nodes through the shared tier")
+    void coldLoadIsShared() {
+        when(bookmarkRepository.findAllFontIdsByMemberId(memberId)).thenReturn(List.of(10L));
+
+        assertThat(bookmarkMembershipCache.isBookmarked(memberId, 10L)).isTrue();
+        assertThat(bookmarkBitmapStorage.contains(memberId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("isBookmarked - a cold load reads the primary, not the lagging replica")
+    void coldLoadReadsPrimary() {
+        when(bookmarkRepository.findAllFontIdsByMemberId(memberId))
+                .thenAnswer(invocation -> PrimaryReads.isRequested() ? List.of(10L) : List.of());
+
+        assertThat(bookmarkMembershipCache.isBookmarked(memberId, 10L)).isTrue();
+        assertThat(PrimaryReads.isRequested()).isFalse();
+    }
+
+    @Test
+    @DisplayName("isBookmarked - a bookmark committed during a cold load keeps the stale bitmap out of the shared tier")
+    void bookmarkDuringLoadIsNotOverwritten() {
+        BookmarkMembershipCache otherNode = new BookmarkMembershipCache(bookmarkRepository, bookmarkBitmapStorage, primaryReads, 100, 60_000);
+        when(bookmarkRepository.findAllFontIdsByMemberId(memberId)).thenAnswer(invocation -> {
+            // 이 노드가 DB를 읽은 직후 다른 노드에서 북마크가 커밋된다.
+            otherNode.onBookmarkAdded(memberId, 20L);
+            return List.of(10L);
+        });
+
+        bookmarkMembershipCache.isBookmarked(memberId, 10L);
+
+        assertThat(bookmarkBitmapStorage.contains(memberId)).isFalse();
+    }
+}
@@ -0,0 +1,200 @@
+package org.fontory.fontorybe.unit.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fontory.fontorybe.authentication.domain.UserPrincipal;
+import org.fontory.fontorybe.common.adapter.inbound.filter.IdempotencyFilter;
+import org.fontory.fontorybe.unit.mock.FakeIdempotencyStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class IdempotencyFilterTest {
+    private FakeIdempotencyStorage idempotencyStorage;
+    private IdempotencyFilter idempotencyFilter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void init() {
+        idempotencyStorage = new FakeIdempotencyStorage();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        idempotencyFilter = new IdempotencyFilter(idempotencyStorage, objectMapper,
+                List.of("POST /fonts", "POST /bookmarks/*"), 5000);
+        executions = new AtomicInteger();
+        UserPrincipal userPrincipal = new UserPrincipal(1L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletRequest request(String uri, String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private FilterChain respondWith(int status) {
+        return (request, response) -> {
+            int execution = executions.incrementAndGet();
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getOutputStream().write(("{\"id\":" + execution + ",\"echo\":\"" + body.length() + "\"}")
+                    .getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        idempotencyFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("doFilter - a retried request replays the stored response without executing again")
+    void replaysStoredResponse() throws Exception {
+        MockHttpServletResponse first = perform(request("/fonts", "key-1", "{\"name\":\"폰트\"}"), respondWith(201));
+        MockHttpServletResponse retried = perform(request("/fonts", "key-1", "{\"name\":\"폰트\"}"), respondWith(201));
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retried.getStatus()).isEqualTo(201);
+        assertThat(retried.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(first.getContentAsString(StandardCharsets.UTF_8));
+        assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("doFilter - the same key with a different body is rejected with 422")
+    void rejectsDifferentRequest() throws Exception {
+        perform(request("/fonts", "key-1", "{\"name\":\"폰트\"}"), respondWith(201));
+
+        MockHttpServletResponse response = perform(request("/fonts", "key-1", "{\"name\":\"다른 폰트\"}"), respondWith(201));
+
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("doFilter - a concurrent duplicate waits for the first request and gets its response")
+    void concurrentDuplicateWaits() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            started.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respondWith(201).doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(new UserPrincipal(1L), null, List.of()));
+            try {
+                return perform(request("/bookmarks/7", "key-1", ""), slowChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        started.await();
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(new UserPrincipal(1L), null, List.of()));
+            try {
+                return perform(request("/bookmarks/7", "key-1", ""), respondWith(201));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(300);
+        finish.countDown();
+
+        assertThat(duplicate.join().getContentAsString()).isEqualTo(first.join().getContentAsString());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("doFilter - a 5xx response is not stored so the key can be retried")
+    void serverErrorIsNotStored() throws Exception {
+        perform(request("/fonts", "key-1", "{}"), respondWith(503));
+
+        MockHttpServletResponse retried = perform(request("/fonts", "key-1", "{}"), respondWith(201));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retried.getStatus()).isEqualTo(201);
+        assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilter - requests without the header or outside the endpoints are not tracked")
+    void ignoresUntrackedRequests() throws Exception {
+        perform(request("/fonts", null, "{}"), respondWith(201));
+        perform(request("/fonts", null, "{}"), respondWith(201));
+        perform(request("/members", "key-1", "{}"), respondWith(201));
+
+        assertThat(executions).hasValue(3);
+        assertThat(idempotencyStorage.contains("1:key-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("doFilter - the cached body can be read through a ReadListener")
+    void cachedBodySupportsReadListener() throws Exception {
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        AtomicInteger allDataRead = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        received.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        perform(request("/fonts", "key-listener", "{\"name\":\"폰트\"}"), chain);
+
+        assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"폰트\"}");
+        assertThat(allDataRead.get()).isEqualTo(1);
+    }
+}
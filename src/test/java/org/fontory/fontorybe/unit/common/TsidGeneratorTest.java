@@ -0,0 +1,57 @@
+package org.fontory.fontorybe.unit.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import org.fontory.fontorybe.common.application.TsidGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TsidGeneratorTest {
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    private static Clock fixedClock(String instant) {
+        return Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+    }
+
+    @Test
+    @DisplayName("nextId - ids are unique and increasing even past the per-second sequence")
+    void nextIdIsMonotonic() {
+        TsidGenerator generator = new TsidGenerator(1, fixedClock("2026-01-01T00:00:00Z"));
+
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("nextId - ids follow time, differ by node and stay JavaScript-safe")
+    void nextIdOrdersByTimeAndNode() {
+        long earlier = new TsidGenerator(63, fixedClock("2026-01-01T00:00:00Z")).nextId();
+        long later = new TsidGenerator(0, fixedClock("2026-01-01T00:00:01Z")).nextId();
+        long otherNode = new TsidGenerator(1, fixedClock("2026-01-01T00:00:01Z")).nextId();
+        long farFuture = new TsidGenerator(63, fixedClock("2150-01-01T00:00:00Z")).nextId();
+
+        assertThat(later).isGreaterThan(earlier);
+        assertThat(otherNode).isNotEqualTo(later);
+        assertThat(farFuture).isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    @DisplayName("constructor - node id out of range is rejected")
+    void rejectsInvalidNodeId() {
+        assertThatThrownBy(() -> new TsidGenerator(TsidGenerator.MAX_NODE_ID + 1, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
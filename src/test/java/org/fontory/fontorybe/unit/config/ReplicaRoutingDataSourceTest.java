@@ -0,0 +1,130 @@
+package org.fontory.fontorybe.unit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.fontory.fontorybe.authentication.domain.UserPrincipal;
+import org.fontory.fontorybe.common.application.PrimaryReads;
+import org.fontory.fontorybe.config.datasource.RecentWriterRegistry;
+import org.fontory.fontorybe.config.datasource.ReplicaLagMonitor;
+import org.fontory.fontorybe.config.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class ReplicaRoutingDataSourceTest {
+    private final Long memberId = 1L;
+
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void init() throws SQLException {
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        replicaLagMonitor = mock(ReplicaLagMonitor.class);
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReplicaRoutingDataSource(
+                primary, replica, new RecentWriterRegistry(60_000), replicaLagMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        UserPrincipal principal = new UserPrincipal(memberId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private Connection connectionIn(boolean readOnly) throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        Connection connection = routingDataSource.getConnection();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        return connection;
+    }
+
+    private double routed(String pool, String reason) {
+        return meterRegistry.get("datasource.routing").tag("pool", pool).tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("routing - read only transactions go to the replica, writes to the primary")
+    void routesByReadOnly() throws SQLException {
+        SecurityContextHolder.clearContext();
+
+        assertThat(connectionIn(true)).isSameAs(replicaConnection);
+        assertThat(connectionIn(false)).isSameAs(primaryConnection);
+        assertThat(connectionIn(true)).isSameAs(replicaConnection);
+        assertThat(routed("replica", "read")).isEqualTo(2);
+        assertThat(routed("primary", "write")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("routing - a member reads from the primary right after committing a write")
+    void readYourWrites() throws SQLException {
+        assertThat(connectionIn(true)).isSameAs(replicaConnection);
+        assertThat(connectionIn(false)).isSameAs(primaryConnection);
+
+        assertThat(connectionIn(true)).isSameAs(primaryConnection);
+        assertThat(routed("primary", "sticky")).isEqualTo(1);
+
+        SecurityContextHolder.clearContext();
+        assertThat(connectionIn(true)).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("routing - reads fall back to the primary while the replica lags")
+    void fallsBackOnReplicaLag() throws SQLException {
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(false);
+
+        assertThat(connectionIn(true)).isSameAs(primaryConnection);
+        assertThat(routed("primary", "replica_lag")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("routing - primary reads go to the primary without making the member sticky")
+    void primaryReadsGoToPrimary() throws SQLException {
+        PrimaryReads primaryReads = new PrimaryReads(mock(PlatformTransactionManager.class));
+
+        Connection connection = primaryReads.read(() -> {
+            try {
+                return connectionIn(true);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(routed("primary", "primary_read")).isEqualTo(1);
+        assertThat(connectionIn(true)).isSameAs(replicaConnection);
+    }
+}
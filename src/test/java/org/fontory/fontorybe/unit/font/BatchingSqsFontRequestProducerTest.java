@@ -0,0 +1,146 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.awspring.cloud.sqs.operations.SqsOperations;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import org.fontory.fontorybe.font.FontRequestAbandonedEvent;
+import org.fontory.fontorybe.font.domain.exception.FontSQSProduceExcepetion;
+import org.fontory.fontorybe.font.infrastructure.BatchingSqsFontRequestProducer;
+import org.fontory.fontorybe.font.service.dto.FontRequestProduceDto;
+import org.fontory.fontorybe.unit.mock.FakeApplicationEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class BatchingSqsFontRequestProducerTest {
+    private static final String QUEUE_NAME = "font-request.fifo";
+
+    private SqsOperations sqsOperations;
+    private FakeApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        sqsOperations = mock(SqsOperations.class);
+        eventPublisher = new FakeApplicationEventPublisher();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private BatchingSqsFontRequestProducer producer(int bufferCapacity, int maxAttempts) {
+        return new BatchingSqsFontRequestProducer(sqsOperations, eventPublisher, meterRegistry, QUEUE_NAME,
+                bufferCapacity, 200, maxAttempts, 10, 50, 5000);
+    }
+
+    private static FontRequestProduceDto request(long fontId) {
+        return FontRequestProduceDto.builder()
+                .fontId(fontId)
+                .memberId(1L)
+                .requestUUID("request-" + fontId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("sendFontRequest - buffered requests are sent in batches of at most 10")
+    @SuppressWarnings("unchecked")
+    void sendsInBatches() throws InterruptedException {
+        BatchingSqsFontRequestProducer producer = producer(100, 3);
+        for (long fontId = 1; fontId <= 25; fontId++) {
+            producer.sendFontRequest(request(fontId));
+        }
+        assertThat(meterRegistry.get("font.request.producer.buffer").gauge().value()).isEqualTo(25);
+
+        producer.start();
+        producer.drain();
+
+        ArgumentCaptor<Collection<Message<FontRequestProduceDto>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(sqsOperations, times(3)).sendMany(eq(QUEUE_NAME), captor.capture());
+        assertThat(captor.getAllValues()).extracting(Collection::size).containsExactly(10, 10, 5);
+        assertThat(meterRegistry.get("font.request.producer.batch.size").summary().totalAmount()).isEqualTo(25);
+        assertThat(meterRegistry.get("font.request.producer.send").tag("result", "success").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("font.request.producer.buffer").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("sendFontRequest - a failed batch is retried with backoff")
+    void retriesFailedBatch() throws InterruptedException {
+        doThrow(new IllegalStateException("sqs down"))
+                .doThrow(new IllegalStateException("sqs down"))
+                .doReturn(null)
+                .when(sqsOperations).sendMany(eq(QUEUE_NAME), anyCollection());
+        BatchingSqsFontRequestProducer producer = producer(100, 3);
+        producer.sendFontRequest(request(1L));
+
+        producer.start();
+        producer.drain();
+
+        verify(sqsOperations, times(3)).sendMany(eq(QUEUE_NAME), anyCollection());
+        assertThat(meterRegistry.get("font.request.producer.send").tag("result", "failure").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("font.request.producer.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("sendFontRequest - a batch is dropped after the last attempt fails")
+    void dropsAfterMaxAttempts() throws InterruptedException {
+        doThrow(new IllegalStateException("sqs down"))
+                .when(sqsOperations).sendMany(eq(QUEUE_NAME), anyCollection());
+        BatchingSqsFontRequestProducer producer = producer(100, 2);
+        producer.sendFontRequest(request(1L));
+        producer.sendFontRequest(request(2L));
+
+        producer.start();
+        producer.drain();
+
+        verify(sqsOperations, times(2)).sendMany(eq(QUEUE_NAME), anyCollection());
+        assertThat(meterRegistry.get("font.request.producer.dropped").counter().count()).isEqualTo(2);
+        assertThat(eventPublisher.getPublishedEvents())
+                .singleElement()
+                .isInstanceOfSatisfying(FontRequestAbandonedEvent.class,
+                        event -> assertThat(event.getFontIds()).containsExactly(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("sendFontRequest - a full buffer rejects the request")
+    void rejectsWhenBufferIsFull() {
+        BatchingSqsFontRequestProducer producer = producer(1, 3);
+        producer.sendFontRequest(request(1L));
+
+        assertThatThrownBy(() -> producer.sendFontRequest(request(2L)))
+                .isInstanceOf(FontSQSProduceExcepetion.class);
+        verifyNoInteractions(sqsOperations);
+    }
+
+    @Test
+    @DisplayName("sendFontRequest - a request that no longer fits after commit is abandoned so the font is marked FAILED")
+    void abandonsWhenBufferFillsAfterCommit() {
+        BatchingSqsFontRequestProducer producer = producer(1, 3);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            producer.sendFontRequest(request(1L));
+            producer.sendFontRequest(request(2L));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(meterRegistry.get("font.request.producer.dropped").counter().count()).isEqualTo(1);
+        assertThat(eventPublisher.getPublishedEvents())
+                .singleElement()
+                .isInstanceOfSatisfying(FontRequestAbandonedEvent.class,
+                        event -> assertThat(event.getFontIds()).isEqualTo(List.of(2L)));
+    }
+}
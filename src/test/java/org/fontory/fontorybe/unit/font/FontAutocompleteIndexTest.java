@@ -0,0 +1,97 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.search.FontAutocompleteIndex;
+import org.fontory.fontorybe.font.service.search.FontAutocompleteIndex.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FontAutocompleteIndexTest {
+    private FontAutocompleteIndex fontAutocompleteIndex;
+
+    @BeforeEach
+    void init() {
+        fontAutocompleteIndex = new FontAutocompleteIndex();
+        fontAutocompleteIndex.rebuild(List.of(
+                font(1L, "가나다라체", "Ganada", 5L, 0L, FontStatus.DONE),
+                font(2L, "나눔 손글씨", "Nanum Hand", 1L, 1L, FontStatus.DONE),
+                font(3L, "가나 고딕", "Gana Gothic", 10L, 3L, FontStatus.DONE),
+                font(4L, "가나제작중", "Progress", 100L, 100L, FontStatus.PROGRESS)
+        ));
+    }
+
+    private static Font font(Long id, String name, String engName, Long downloadCount, Long bookmarkCount, FontStatus status) {
+        return Font.builder()
+                .id(id)
+                .name(name)
+                .engName(engName)
+                .status(status)
+                .downloadCount(downloadCount)
+                .bookmarkCount(bookmarkCount)
+                .build();
+    }
+
+    private List<Long> suggestIds(String keyword, int limit) {
+        return fontAutocompleteIndex.suggest(keyword, limit).stream()
+                .map(Suggestion::id)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("suggest - prefix matches are ranked by download + bookmark count")
+    void suggestRanksByPopularity() {
+        assertThat(suggestIds("가나", 10)).containsExactly(3L, 1L);
+        assertThat(suggestIds("가나", 1)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("suggest - choseong query matches hangul names")
+    void suggestMatchesChoseong() {
+        assertThat(suggestIds("ㄱㄴ", 10)).containsExactly(3L, 1L);
+        assertThat(suggestIds("ㄴㄴㅅ", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("suggest - english name, whitespace and case are normalized")
+    void suggestNormalizesKeyword() {
+        assertThat(suggestIds("GANA", 10)).containsExactly(3L, 1L);
+        assertThat(suggestIds("나눔 손", 10)).containsExactly(2L);
+        assertThat(suggestIds("gothic", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest - fonts that are not DONE and empty keywords are ignored")
+    void suggestIgnoresNotDoneFontsAndEmptyKeyword() {
+        assertThat(suggestIds("가나제", 10)).isEmpty();
+        assertThat(suggestIds(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("update - changed fonts are applied without a full rebuild")
+    void updateAppliesChangedFonts() {
+        fontAutocompleteIndex.update(List.of(
+                font(4L, "가나제작중", "Progress", 100L, 100L, FontStatus.DONE),
+                font(3L, "가나 고딕", "Gana Gothic", 10L, 3L, FontStatus.PROGRESS),
+                font(5L, "가나 명조", "Gana Myeongjo", 0L, 0L, FontStatus.DONE)
+        ));
+
+        assertThat(suggestIds("가나", 10)).containsExactly(4L, 1L, 5L);
+        assertThat(suggestIds("나눔", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("remove - removed fonts are hidden until the next rebuild")
+    void removeHidesFonts() {
+        fontAutocompleteIndex.update(List.of(font(5L, "가나 명조", "Gana Myeongjo", 0L, 0L, FontStatus.DONE)));
+
+        fontAutocompleteIndex.remove(List.of(3L, 5L));
+
+        assertThat(suggestIds("가나", 10)).containsExactly(1L);
+        assertThat(fontAutocompleteIndex.overlaySize()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,174 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.fontory.fontorybe.common.application.PrimaryReads;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.domain.exception.FontNotFoundException;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.FontDetailCache;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.fontory.fontorybe.unit.mock.FakeFontCacheStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class FontDetailCacheTest {
+    private final Long fontId = 1L;
+    private final Long missingFontId = 2L;
+
+    private FontRepository fontRepository;
+    private FakeFontCacheStorage fontCacheStorage;
+    private PrimaryReads primaryReads;
+    private SimpleMeterRegistry meterRegistry;
+    private FontDetailCache fontDetailCache;
+
+    @BeforeEach
+    void init() {
+        fontRepository = mock(FontRepository.class);
+        fontCacheStorage = new FakeFontCacheStorage();
+        primaryReads = new PrimaryReads(mock(PlatformTransactionManager.class));
+        meterRegistry = new SimpleMeterRegistry();
+        fontDetailCache = new FontDetailCache(fontRepository, fontCacheStorage, primaryReads, meterRegistry, 100, 60_000);
+
+        when(fontRepository.findById(fontId)).thenReturn(Optional.of(font(fontId)));
+        when(fontRepository.findById(missingFontId)).thenReturn(Optional.empty());
+    }
+
+    private static Font font(Long id) {
+        return Font.builder()
+                .id(id)
+                .name("캐시폰트")
+                .status(FontStatus.DONE)
+                .downloadCount(0L)
+                .bookmarkCount(0L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("getOrThrowById - concurrent misses load the font from the DB only once")
+    void concurrentMissesLoadOnce() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Font>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return fontDetailCache.getOrThrowById(fontId);
+            }));
+        }
+        start.countDown();
+
+        for (Future<Font> result : results) {
+            assertThat(result.get().getId()).isEqualTo(fontId);
+        }
+        executor.shutdown();
+        verify(fontRepository, times(1)).findById(fontId);
+    }
+
+    @Test
+    @DisplayName("getOrThrowById - missing fonts are cached as absent")
+    void missingFontIsCached() {
+        assertThatThrownBy(() -> fontDetailCache.getOrThrowById(missingFontId)).isExactlyInstanceOf(FontNotFoundException.class);
+        assertThatThrownBy(() -> fontDetailCache.getOrThrowById(missingFontId)).isExactlyInstanceOf(FontNotFoundException.class);
+
+        verify(fontRepository, times(1)).findById(missingFontId);
+        assertThat(fontCacheStorage.contains(missingFontId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("getOrThrowById - a local miss is served from the shared tier")
+    void localMissIsServedFromSharedTier() {
+        fontDetailCache.getOrThrowById(fontId);
+        FontDetailCache otherNode = new FontDetailCache(fontRepository, fontCacheStorage, primaryReads, new SimpleMeterRegistry(), 100, 60_000);
+
+        assertThat(otherNode.getOrThrowById(fontId).getId()).isEqualTo(fontId);
+        verify(fontRepository, times(1)).findById(fontId);
+    }
+
+    @Test
+    @DisplayName("invalidate - evicts both tiers and other nodes' local caches")
+    void invalidateEvictsAllTiers() {
+        FontDetailCache otherNode = new FontDetailCache(fontRepository, fontCacheStorage, primaryReads, new SimpleMeterRegistry(), 100, 60_000);
+        fontDetailCache.getOrThrowById(fontId);
+        otherNode.getOrThrowById(fontId);
+
+        fontDetailCache.invalidate(fontId);
+        otherNode.getOrThrowById(fontId);
+
+        assertThat(fontCacheStorage.contains(fontId)).isTrue();
+        verify(fontRepository, times(2)).findById(fontId);
+    }
+
+    @Test
+    @DisplayName("getOrThrowById - a font invalidated during a cold load is not written back to the shared tier")
+    void invalidationDuringLoadIsNotOverwritten() {
+        when(fontRepository.findById(fontId)).thenAnswer(invocation -> {
+            // 이 노드가 DB를 읽은 직후 다른 노드에서 변경이 커밋되어 Redis 사본이 지워진다.
+            fontCacheStorage.evictAll(List.of(fontId));
+            return Optional.of(font(fontId));
+        });
+
+        fontDetailCache.getOrThrowById(fontId);
+
+        assertThat(fontCacheStorage.contains(fontId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("getAllByIds - fonts invalidated during a cold load are not written back to the shared tier")
+    void invalidationDuringBatchLoadIsNotOverwritten() {
+        when(fontRepository.findAllByIdIn(List.of(fontId))).thenAnswer(invocation -> {
+            fontCacheStorage.evictAll(List.of(fontId));
+            return List.of(font(fontId));
+        });
+
+        assertThat(fontDetailCache.getAllByIds(List.of(fontId))).extracting(Font::getId).containsExactly(fontId);
+        assertThat(fontCacheStorage.contains(fontId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("getOrThrowById, getAllByIds - cold loads read the primary, not the lagging replica")
+    void coldLoadsReadPrimary() {
+        List<Boolean> primaryRequested = new ArrayList<>();
+        when(fontRepository.findById(fontId)).thenAnswer(invocation -> {
+            primaryRequested.add(PrimaryReads.isRequested());
+            return Optional.of(font(fontId));
+        });
+        when(fontRepository.findAllByIdIn(List.of(missingFontId))).thenAnswer(invocation -> {
+            primaryRequested.add(PrimaryReads.isRequested());
+            return List.of();
+        });
+
+        fontDetailCache.getOrThrowById(fontId);
+        fontDetailCache.getAllByIds(List.of(missingFontId));
+
+        assertThat(primaryRequested).containsExactly(true, true);
+        assertThat(PrimaryReads.isRequested()).isFalse();
+    }
+
+    @Test
+    @DisplayName("metrics - local hit ratio and shared tier results are exported")
+    void metricsAreExported() {
+        fontDetailCache.getOrThrowById(fontId);
+        fontDetailCache.getOrThrowById(fontId);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "font_detail").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "font_detail").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("font.cache.shared").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+}
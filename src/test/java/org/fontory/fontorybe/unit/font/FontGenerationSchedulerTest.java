@@ -0,0 +1,109 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.fontory.fontorybe.font.domain.exception.FontGenerationOverloadedException;
+import org.fontory.fontorybe.font.domain.exception.FontGenerationQuotaExceededException;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.FontGenerationScheduler;
+import org.fontory.fontorybe.font.service.dto.FontAdmission;
+import org.fontory.fontorybe.font.service.dto.FontGenerationLoad;
+import org.fontory.fontorybe.font.service.port.FontRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FontGenerationSchedulerTest {
+    private static final Long STANDARD_MEMBER_ID = 1L;
+    private static final Long PRIORITY_MEMBER_ID = 2L;
+
+    private FontRepository fontRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private FontGenerationScheduler scheduler;
+
+    @BeforeEach
+    void init() {
+        fontRepository = mock(FontRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new FontGenerationScheduler(fontRepository, meterRegistry, Set.of(PRIORITY_MEMBER_ID),
+                2, 5, 10, 20, 1000, 60, 30);
+    }
+
+    private void givenInProgress(Long memberId, long count) {
+        when(fontRepository.countByMemberIdAndStatus(memberId, FontStatus.PROGRESS)).thenReturn(count);
+    }
+
+    private void givenQueueDepth(long depth) {
+        when(fontRepository.findGenerationLoads()).thenReturn(List.of(new FontGenerationLoad(99L, depth, 0)));
+        scheduler.refreshLoad();
+    }
+
+    @Test
+    @DisplayName("admit - a request under the quota on an idle queue is accepted without delay")
+    void acceptsUnderQuota() {
+        givenInProgress(STANDARD_MEMBER_ID, 1);
+
+        FontAdmission admission = scheduler.admit(STANDARD_MEMBER_ID);
+
+        assertThat(admission.isDelayed()).isFalse();
+        assertThat(meterRegistry.get("font.generation.admission")
+                .tag("tier", "standard").tag("decision", "accepted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("admit - a member at the quota of their tier is rejected")
+    void rejectsOverQuota() {
+        givenInProgress(STANDARD_MEMBER_ID, 2);
+        givenInProgress(PRIORITY_MEMBER_ID, 2);
+
+        assertThatThrownBy(() -> scheduler.admit(STANDARD_MEMBER_ID))
+                .isInstanceOf(FontGenerationQuotaExceededException.class);
+        assertThat(scheduler.admit(PRIORITY_MEMBER_ID).isDelayed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("admit - every request is rejected once the queue reaches the reject depth")
+    void rejectsWhenOverloaded() {
+        givenInProgress(STANDARD_MEMBER_ID, 0);
+        givenQueueDepth(20);
+
+        assertThatThrownBy(() -> scheduler.admit(STANDARD_MEMBER_ID))
+                .isInstanceOf(FontGenerationOverloadedException.class);
+    }
+
+    @Test
+    @DisplayName("admit - under load a member with fonts in progress is delayed while a new member is not")
+    void delaysBusyMembersUnderLoad() {
+        givenInProgress(STANDARD_MEMBER_ID, 1);
+        givenInProgress(PRIORITY_MEMBER_ID, 0);
+        givenQueueDepth(10);
+
+        assertThat(scheduler.admit(STANDARD_MEMBER_ID).delay()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(scheduler.admit(PRIORITY_MEMBER_ID).isDelayed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("refreshLoad - queue depth and per-tier job gauges follow the repository")
+    void refreshesGauges() {
+        when(fontRepository.findGenerationLoads()).thenReturn(List.of(
+                new FontGenerationLoad(STANDARD_MEMBER_ID, 3, 2),
+                new FontGenerationLoad(PRIORITY_MEMBER_ID, 4, 1)));
+
+        scheduler.refreshLoad();
+
+        assertThat(meterRegistry.get("font.generation.queue.depth").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get("font.generation.jobs").tag("tier", "standard").tag("state", "queued")
+                .gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("font.generation.jobs").tag("tier", "standard").tag("state", "in_flight")
+                .gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("font.generation.jobs").tag("tier", "priority").tag("state", "in_flight")
+                .gauge().value()).isEqualTo(3);
+    }
+}
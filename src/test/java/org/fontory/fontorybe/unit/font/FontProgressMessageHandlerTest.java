@@ -0,0 +1,115 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchItem;
+import org.fontory.fontorybe.font.controller.port.FontService;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.FontProgressMessageHandler;
+import org.fontory.fontorybe.font.service.dto.FontProgressMessage;
+import org.fontory.fontorybe.unit.mock.FakeConsumedMessageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class FontProgressMessageHandlerTest {
+    private FontService fontService;
+    private FakeConsumedMessageStorage consumedMessageStorage;
+    private SimpleMeterRegistry meterRegistry;
+    private FontProgressMessageHandler fontProgressMessageHandler;
+
+    @BeforeEach
+    void init() {
+        fontService = mock(FontService.class);
+        consumedMessageStorage = new FakeConsumedMessageStorage();
+        meterRegistry = new SimpleMeterRegistry();
+        fontProgressMessageHandler = new FontProgressMessageHandler(fontService, consumedMessageStorage, meterRegistry);
+    }
+
+    private static FontProgressMessage message(String messageId, Long fontId, FontStatus status) {
+        FontProgressBatchItem item = FontProgressBatchItem.builder()
+                .fontId(fontId)
+                .status(status)
+                .build();
+        return new FontProgressMessage(messageId, Instant.now().minusSeconds(2), item);
+    }
+
+    @Test
+    @DisplayName("handle - a batch is applied with a single service call and marked consumed")
+    void appliesBatchOnce() {
+        List<FontProgressMessage> messages = List.of(
+                message("m1", 1L, FontStatus.DONE),
+                message("m2", 2L, FontStatus.PROGRESS),
+                new FontProgressMessage("m3", null, null));
+
+        fontProgressMessageHandler.handle(messages);
+
+        verify(fontService, times(1)).updateProgresses(anyList());
+        assertThat(consumedMessageStorage.isConsumed("m1")).isTrue();
+        assertThat(consumedMessageStorage.isConsumed("m3")).isTrue();
+        assertThat(meterRegistry.get("font.progress.consumer.messages").tag("result", "applied").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("font.progress.consumer.messages").tag("result", "malformed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("font.progress.consumer.lag").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("font.progress.consumer.batch").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("handle - redelivered messages are skipped")
+    void skipsDuplicates() {
+        fontProgressMessageHandler.handle(List.of(message("m1", 1L, FontStatus.DONE)));
+
+        fontProgressMessageHandler.handle(List.of(message("m1", 1L, FontStatus.DONE)));
+
+        verify(fontService, times(1)).updateProgresses(anyList());
+        assertThat(meterRegistry.get("font.progress.consumer.messages").tag("result", "duplicate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("handle - a failed batch is not marked consumed so the redelivery is applied")
+    void failedBatchIsRetried() {
+        when(fontService.updateProgresses(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> fontProgressMessageHandler.handle(List.of(message("m1", 1L, FontStatus.DONE))))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(consumedMessageStorage.isConsumed("m1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("handle - a batch of only duplicates does not call the service")
+    void onlyDuplicatesSkipService() {
+        consumedMessageStorage.markConsumed(List.of("m1"));
+
+        fontProgressMessageHandler.handle(List.of(message("m1", 1L, FontStatus.DONE)));
+
+        verify(fontService, never()).updateProgresses(anyList());
+    }
+
+    @Test
+    @DisplayName("handle - a progress report after completion of the same font is passed in queue order")
+    void passesTerminalThenProgressInOrder() {
+        fontProgressMessageHandler.handle(List.of(
+                message("m1", 1L, FontStatus.DONE),
+                message("m2", 1L, FontStatus.PROGRESS)));
+
+        ArgumentCaptor<List<FontProgressBatchItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fontService, times(1)).updateProgresses(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(FontProgressBatchItem::getFontId, FontProgressBatchItem::getStatus)
+                .containsExactly(tuple(1L, FontStatus.DONE), tuple(1L, FontStatus.PROGRESS));
+        assertThat(consumedMessageStorage.isConsumed("m1")).isTrue();
+        assertThat(consumedMessageStorage.isConsumed("m2")).isTrue();
+    }
+}
@@ -0,0 +1,111 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fontory.fontorybe.font.controller.dto.FontProgressResponse;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.domain.exception.FontProgressStreamLimitExceededException;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.FontProgressStream;
+import org.fontory.fontorybe.font.service.port.FontProgressVersionStorage;
+import org.fontory.fontorybe.unit.mock.FakeFontProgressEventChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FontProgressStreamTest {
+    private final Long memberId = 1L;
+    private final String version = "version-1";
+
+    private final AtomicInteger progressReads = new AtomicInteger();
+    private FakeFontProgressEventChannel fontProgressEventChannel;
+    private SimpleMeterRegistry meterRegistry;
+    private FontProgressStream fontProgressStream;
+
+    @BeforeEach
+    void init() {
+        progressReads.set(0);
+        FontProgressVersionStorage fontProgressVersionStorage = mock(FontProgressVersionStorage.class);
+        fontProgressEventChannel = new FakeFontProgressEventChannel();
+        meterRegistry = new SimpleMeterRegistry();
+        fontProgressStream = new FontProgressStream(fontProgressVersionStorage, fontProgressEventChannel,
+                new ObjectMapper().findAndRegisterModules(), meterRegistry, 2, 60_000, 3_000);
+
+        when(fontProgressVersionStorage.getOrCreate(anyLong())).thenReturn(version);
+    }
+
+    private List<FontProgressResponse> readProgress() {
+        progressReads.incrementAndGet();
+        return List.of(FontProgressResponse.from(font()));
+    }
+
+    private static Font font() {
+        return Font.builder()
+                .id(1L)
+                .name("제작중폰트")
+                .status(FontStatus.PROGRESS)
+                .memberId(1L)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("connect - first connection reads the current progress once")
+    void firstConnectionReadsProgress() {
+        fontProgressStream.connect(memberId, null, this::readProgress);
+
+        assertThat(progressReads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("connect - reconnecting with the current version as Last-Event-ID skips the DB")
+    void reconnectWithCurrentVersionSkipsRead() {
+        fontProgressStream.connect(memberId, version, this::readProgress);
+
+        assertThat(progressReads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("publish - progress is delivered through the channel without reading the DB")
+    void publishDoesNotReadProgress() {
+        fontProgressStream.connect(memberId, version, this::readProgress);
+
+        fontProgressStream.publish(memberId, "version-2", List.of(FontProgressResponse.from(font())));
+
+        assertThat(fontProgressEventChannel.getPublished()).hasSize(1);
+        assertThat(fontProgressEventChannel.getPublished().get(0).data()).contains("제작중폰트");
+        assertThat(progressReads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("publishDetail - only the changed font is delivered as a progress-detail event")
+    void publishDetailSendsChangedFontOnly() {
+        fontProgressStream.publishDetail(memberId, "version-2", FontProgressResponse.from(font()));
+
+        assertThat(fontProgressEventChannel.getPublished()).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.name()).isEqualTo("progress-detail");
+                    assertThat(event.data()).startsWith("{");
+                });
+    }
+
+    @Test
+    @DisplayName("connect - connections over the per-instance limit are rejected")
+    void rejectsOverLimit() {
+        fontProgressStream.connect(memberId, version, this::readProgress);
+        fontProgressStream.connect(2L, null, this::readProgress);
+
+        assertThatThrownBy(() -> fontProgressStream.connect(3L, null, this::readProgress))
+                .isInstanceOf(FontProgressStreamLimitExceededException.class);
+        assertThat(meterRegistry.get("font.progress.stream.connections").gauge().value()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,74 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.search.FontSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FontSearchIndexTest {
+    private FontSearchIndex fontSearchIndex;
+
+    @BeforeEach
+    void init() {
+        fontSearchIndex = new FontSearchIndex();
+        fontSearchIndex.rebuild(List.of(
+                font(1L, "가나다라체", "Ganada", FontStatus.DONE),
+                font(2L, "나눔 손글씨", "Nanum Hand", FontStatus.DONE),
+                font(3L, "가나 고딕", "Gana Gothic", FontStatus.DONE),
+                font(4L, "제작중폰트", "Progress", FontStatus.PROGRESS)
+        ));
+    }
+
+    private static Font font(Long id, String name, String engName, FontStatus status) {
+        return Font.builder()
+                .id(id)
+                .name(name)
+                .engName(engName)
+                .status(status)
+                .downloadCount(0L)
+                .bookmarkCount(0L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("search - returns matches in descending id order")
+    void searchReturnsNewestFirst() {
+        assertThat(fontSearchIndex.search("가나")).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("search - single hangul syllable, whitespace and case are normalized")
+    void searchNormalizesKeyword() {
+        assertThat(fontSearchIndex.search("눔")).containsExactly(2L);
+        assertThat(fontSearchIndex.search("나눔손")).containsExactly(2L);
+        assertThat(fontSearchIndex.search("GOTH")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("search - long keyword is verified against the original text")
+    void searchVerifiesLongKeyword() {
+        assertThat(fontSearchIndex.search("가나다라")).containsExactly(1L);
+        assertThat(fontSearchIndex.search("가나고딕체")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - fonts that are not DONE are not indexed")
+    void searchIgnoresNotDoneFonts() {
+        assertThat(fontSearchIndex.search("제작중")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("index/remove - incremental updates are reflected")
+    void incrementalUpdate() {
+        fontSearchIndex.index(font(4L, "제작중폰트", "Progress", FontStatus.DONE));
+        fontSearchIndex.remove(1L);
+
+        assertThat(fontSearchIndex.search("제작중")).containsExactly(4L);
+        assertThat(fontSearchIndex.search("가나")).containsExactly(3L);
+    }
+}
@@ -0,0 +1,73 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.fontory.fontorybe.font.domain.Font;
+import org.fontory.fontorybe.font.infrastructure.InMemoryFontLeaderboard;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryFontLeaderboardTest {
+    private final Long memberId = 1L;
+    private final Long otherMemberId = 2L;
+
+    private InMemoryFontLeaderboard fontLeaderboard;
+
+    @BeforeEach
+    void init() {
+        fontLeaderboard = new InMemoryFontLeaderboard();
+        fontLeaderboard.replaceAll(List.of(
+                font(1L, memberId, 5L, 0L, FontStatus.DONE),
+                font(2L, memberId, 1L, 1L, FontStatus.DONE),
+                font(3L, otherMemberId, 10L, 3L, FontStatus.DONE),
+                font(4L, memberId, 100L, 100L, FontStatus.PROGRESS)
+        ));
+    }
+
+    private static Font font(Long id, Long memberId, Long downloadCount, Long bookmarkCount, FontStatus status) {
+        return Font.builder()
+                .id(id)
+                .memberId(memberId)
+                .status(status)
+                .downloadCount(downloadCount)
+                .bookmarkCount(bookmarkCount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("findTopFontIds - ranked by download + bookmark count, only DONE fonts")
+    void findTopFontIds() {
+        assertThat(fontLeaderboard.findTopFontIds(10)).hasValue(List.of(3L, 1L, 2L));
+        assertThat(fontLeaderboard.findTopFontIds(2)).hasValue(List.of(3L, 1L));
+    }
+
+    @Test
+    @DisplayName("findTopFontIdsByMemberId - ranks only the member's fonts")
+    void findTopFontIdsByMemberId() {
+        assertThat(fontLeaderboard.findTopFontIdsByMemberId(memberId, 10)).hasValue(List.of(1L, 2L));
+        assertThat(fontLeaderboard.findTopFontIdsByMemberId(999L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save/remove - score changes and removals are reflected")
+    void saveAndRemove() {
+        fontLeaderboard.save(font(2L, memberId, 20L, 1L, FontStatus.DONE));
+        fontLeaderboard.save(font(4L, memberId, 100L, 100L, FontStatus.DONE));
+        fontLeaderboard.remove(font(3L, otherMemberId, 10L, 3L, FontStatus.DONE));
+
+        assertThat(fontLeaderboard.findTopFontIds(10)).hasValue(List.of(4L, 2L, 1L));
+        assertThat(fontLeaderboard.findTopFontIdsByMemberId(otherMemberId, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("incrementScore - only fonts already in the ranking are moved")
+    void incrementScore() {
+        fontLeaderboard.incrementScore(font(2L, memberId, 1L, 1L, FontStatus.DONE), 20);
+        fontLeaderboard.incrementScore(font(4L, memberId, 100L, 100L, FontStatus.PROGRESS), 1);
+
+        assertThat(fontLeaderboard.findTopFontIds(10)).hasValue(List.of(2L, 3L, 1L));
+    }
+}
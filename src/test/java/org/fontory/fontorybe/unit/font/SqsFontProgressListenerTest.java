@@ -0,0 +1,121 @@
+package org.fontory.fontorybe.unit.font;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.support.converter.SqsMessagingMessageConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.fontory.fontorybe.font.controller.dto.FontProgressBatchItem;
+import org.fontory.fontorybe.font.controller.port.FontService;
+import org.fontory.fontorybe.font.infrastructure.SqsFontProgressListener;
+import org.fontory.fontorybe.font.infrastructure.entity.FontStatus;
+import org.fontory.fontorybe.font.service.FontProgressMessageHandler;
+import org.fontory.fontorybe.unit.mock.FakeConsumedMessageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+
+/**
+ * SQS SDK 메시지를 리스너 컨테이너와 같은 변환기로 바꿔 넣어, 실제 헤더(메시지 ID, SentTimestamp)로 동작을 확인한다.
+ */
+class SqsFontProgressListenerTest {
+    private final SqsMessagingMessageConverter messageConverter = new SqsMessagingMessageConverter();
+
+    private FontService fontService;
+    private FakeConsumedMessageStorage consumedMessageStorage;
+    private SimpleMeterRegistry meterRegistry;
+    private SqsFontProgressListener listener;
+
+    @BeforeEach
+    void init() {
+        fontService = mock(FontService.class);
+        consumedMessageStorage = new FakeConsumedMessageStorage();
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new SqsFontProgressListener(
+                new FontProgressMessageHandler(fontService, consumedMessageStorage, meterRegistry), new ObjectMapper());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Message<String> message(String messageId, String sentTimestamp, String body) {
+        software.amazon.awssdk.services.sqs.model.Message.Builder builder = software.amazon.awssdk.services.sqs.model.Message.builder()
+                .messageId(messageId)
+                .receiptHandle("receipt-" + messageId)
+                .body(body);
+        if (sentTimestamp != null) {
+            builder.attributes(Map.of(MessageSystemAttributeName.SENT_TIMESTAMP, sentTimestamp));
+        }
+        return (Message<String>) messageConverter.toMessagingMessage(builder.build());
+    }
+
+    @Test
+    @DisplayName("consume - the SQS message ID is the dedup key, so a redelivery is skipped")
+    void redeliveryIsSkipped() {
+        String messageId = UUID.randomUUID().toString();
+        String body = "{\"fontId\": 1, \"status\": \"DONE\"}";
+
+        listener.consume(List.of(message(messageId, String.valueOf(System.currentTimeMillis()), body)));
+        listener.consume(List.of(message(messageId, String.valueOf(System.currentTimeMillis()), body)));
+
+        verify(fontService, times(1)).updateProgresses(anyList());
+        assertThat(consumedMessageStorage.isConsumed(messageId)).isTrue();
+        assertThat(meterRegistry.get("font.progress.consumer.messages").tag("result", "duplicate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("consume - the SentTimestamp attribute feeds the consumer lag, a missing one is tolerated")
+    void sentTimestampIsParsed() {
+        listener.consume(List.of(
+                message(UUID.randomUUID().toString(), String.valueOf(System.currentTimeMillis() - 2_000),
+                        "{\"fontId\": 1, \"status\": \"PROGRESS\", \"percentage\": 40, \"stage\": \"rendering\"}"),
+                message(UUID.randomUUID().toString(), null, "{\"fontId\": 2, \"status\": \"DONE\"}")));
+
+        ArgumentCaptor<List<FontProgressBatchItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fontService, times(1)).updateProgresses(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(FontProgressBatchItem::getFontId, FontProgressBatchItem::getStatus)
+                .containsExactly(tuple(1L, FontStatus.PROGRESS), tuple(2L, FontStatus.DONE));
+        assertThat(meterRegistry.get("font.progress.consumer.lag").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("font.progress.consumer.lag").timer().max(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("consume - malformed bodies are consumed without failing the batch")
+    void malformedBodyIsConsumed() {
+        String messageId = UUID.randomUUID().toString();
+
+        listener.consume(List.of(message(messageId, null, "not json")));
+
+        assertThat(consumedMessageStorage.isConsumed(messageId)).isTrue();
+        assertThat(meterRegistry.get("font.progress.consumer.messages").tag("result", "malformed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("consume - a failure propagates so ON_SUCCESS leaves the batch unacknowledged for redelivery")
+    void failureIsNotAcknowledged() throws NoSuchMethodException {
+        String messageId = UUID.randomUUID().toString();
+        when(fontService.updateProgresses(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> listener.consume(List.of(message(messageId, null, "{\"fontId\": 1, \"status\": \"DONE\"}"))))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(consumedMessageStorage.isConsumed(messageId)).isFalse();
+        SqsListener sqsListener = SqsFontProgressListener.class.getMethod("consume", List.class).getAnnotation(SqsListener.class);
+        assertThat(sqsListener.acknowledgementMode()).isEqualTo("ON_SUCCESS");
+    }
+}
@@ -0,0 +1,77 @@
+package org.fontory.fontorybe.unit.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.fontory.fontorybe.member.MemberProfileChangedEvent;
+import org.fontory.fontorybe.member.controller.dto.MemberUpdateRequest;
+import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.domain.exception.MemberNotFoundException;
+import org.fontory.fontorybe.member.infrastructure.entity.MemberStatus;
+import org.fontory.fontorybe.member.service.InMemoryWriterDirectory;
+import org.fontory.fontorybe.unit.mock.FakeMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryWriterDirectoryTest {
+    private static final long NON_EXIST_MEMBER_ID = -1L;
+
+    private FakeMemberRepository memberRepository;
+    private InMemoryWriterDirectory writerDirectory;
+
+    @BeforeEach
+    void init() {
+        memberRepository = new FakeMemberRepository();
+        writerDirectory = new InMemoryWriterDirectory(memberRepository);
+    }
+
+    private Member saveMember(String nickname) {
+        return memberRepository.save(Member.builder()
+                .nickname(nickname)
+                .status(MemberStatus.ACTIVATE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("warmUp - loads every member in chunks and serves nicknames from memory")
+    void warmUpLoadsAllMembers() {
+        LongStream.rangeClosed(1, 2500).forEach(i -> saveMember("writer" + i));
+
+        writerDirectory.warmUp();
+        Map<Long, String> nicknames = writerDirectory.getNicknames(List.of(1L, 1500L, 2500L));
+
+        assertThat(nicknames).containsEntry(1L, "writer1")
+                .containsEntry(1500L, "writer1500")
+                .containsEntry(2500L, "writer2500");
+    }
+
+    @Test
+    @DisplayName("onMemberProfileChanged - committed nickname changes replace the cached entry")
+    void profileChangeEventUpdatesNickname() {
+        Member member = saveMember("before");
+        writerDirectory.warmUp();
+
+        Member updatedMember = memberRepository.save(member.update(new MemberUpdateRequest("after")));
+        assertThat(writerDirectory.getOrThrowById(member.getId()).getNickname()).isEqualTo("before");
+
+        writerDirectory.onMemberProfileChanged(new MemberProfileChangedEvent(updatedMember));
+        assertThat(writerDirectory.getOrThrowById(member.getId()).getNickname()).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("getOrThrowById - members joined after warm up are loaded once, unknown members fail")
+    void missingMemberIsLoadedFromRepository() {
+        writerDirectory.warmUp();
+        Member member = saveMember("newcomer");
+
+        assertThat(writerDirectory.getOrThrowById(member.getId()).getNickname()).isEqualTo("newcomer");
+        assertThat(writerDirectory.getNicknames(List.of(member.getId(), NON_EXIST_MEMBER_ID)))
+                .containsOnlyKeys(member.getId());
+        assertThatThrownBy(() -> writerDirectory.getOrThrowById(NON_EXIST_MEMBER_ID))
+                .isExactlyInstanceOf(MemberNotFoundException.class);
+    }
+}
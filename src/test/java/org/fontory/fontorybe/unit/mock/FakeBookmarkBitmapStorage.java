@@ -0,0 +1,42 @@
+package org.fontory.fontorybe.unit.mock;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.fontory.fontorybe.bookmark.service.port.BookmarkBitmapStorage;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+/**
+ * FakeBookmarkBitmapStorage: Redis 대신 in-memory Map을 사용하고, 버전 비교 저장을 흉내 낸다.
+ */
+public class FakeBookmarkBitmapStorage implements BookmarkBitmapStorage {
+    private final Map<Long, Roaring64NavigableMap> store = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Roaring64NavigableMap> find(Long memberId) {
+        return Optional.ofNullable(store.get(memberId));
+    }
+
+    @Override
+    public long findVersion(Long memberId) {
+        return versions.getOrDefault(memberId, 0L);
+    }
+
+    @Override
+    public synchronized void save(Long memberId, Roaring64NavigableMap bitmap, long version) {
+        if (version == findVersion(memberId)) {
+            store.put(memberId, bitmap);
+        }
+    }
+
+    @Override
+    public synchronized void evict(Long memberId) {
+        versions.merge(memberId, 1L, Long::sum);
+        store.remove(memberId);
+    }
+
+    public boolean contains(Long memberId) {
+        return store.containsKey(memberId);
+    }
+}
@@ -0,0 +1,27 @@
+package org.fontory.fontorybe.unit.mock;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.fontory.fontorybe.font.service.port.ConsumedMessageStorage;
+
+public class FakeConsumedMessageStorage implements ConsumedMessageStorage {
+    private final Set<String> consumed = new HashSet<>();
+
+    @Override
+    public Set<String> findConsumed(Collection<String> messageIds) {
+        return messageIds.stream()
+                .filter(consumed::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void markConsumed(Collection<String> messageIds) {
+        consumed.addAll(messageIds);
+    }
+
+    public boolean isConsumed(String messageId) {
+        return consumed.contains(messageId);
+    }
+}
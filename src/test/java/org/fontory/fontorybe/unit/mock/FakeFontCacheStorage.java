@@ -0,0 +1,70 @@
+package org.fontory.fontorybe.unit.mock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.fontory.fontorybe.font.service.dto.CachedFont;
+import org.fontory.fontorybe.font.service.port.FontCacheStorage;
+
+/**
+ * FakeFontCacheStorage: Redis 대신 in-memory Map을 사용하고, 무효화 메시지는 구독자에게 즉시 전달한다.
+ * 버전 비교 저장을 흉내 낸다.
+ */
+public class FakeFontCacheStorage implements FontCacheStorage {
+    private final Map<Long, CachedFont> store = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final List<Consumer<Collection<Long>>> listeners = new ArrayList<>();
+
+    @Override
+    public Optional<CachedFont> find(Long fontId) {
+        return Optional.ofNullable(store.get(fontId));
+    }
+
+    @Override
+    public Map<Long, CachedFont> findAll(Collection<Long> fontIds) {
+        Map<Long, CachedFont> result = new HashMap<>();
+        fontIds.forEach(fontId -> find(fontId).ifPresent(cachedFont -> result.put(fontId, cachedFont)));
+        return result;
+    }
+
+    @Override
+    public Map<Long, Long> findVersions(Collection<Long> fontIds) {
+        Map<Long, Long> result = new HashMap<>();
+        fontIds.forEach(fontId -> result.put(fontId, versions.getOrDefault(fontId, 0L)));
+        return result;
+    }
+
+    @Override
+    public synchronized void save(Long fontId, CachedFont cachedFont, long version) {
+        if (version == versions.getOrDefault(fontId, 0L)) {
+            store.put(fontId, cachedFont);
+        }
+    }
+
+    @Override
+    public synchronized void evictAll(Collection<Long> fontIds) {
+        fontIds.forEach(fontId -> {
+            versions.merge(fontId, 1L, Long::sum);
+            store.remove(fontId);
+        });
+    }
+
+    @Override
+    public void publishInvalidation(Collection<Long> fontIds) {
+        listeners.forEach(listener -> listener.accept(fontIds));
+    }
+
+    @Override
+    public void subscribeInvalidation(Consumer<Collection<Long>> listener) {
+        listeners.add(listener);
+    }
+
+    public boolean contains(Long fontId) {
+        return store.containsKey(fontId);
+    }
+}
@@ -0,0 +1,27 @@
+package org.fontory.fontorybe.unit.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.fontory.fontorybe.font.service.dto.FontProgressEvent;
+import org.fontory.fontorybe.font.service.port.FontProgressEventChannel;
+
+public class FakeFontProgressEventChannel implements FontProgressEventChannel {
+    private final List<Consumer<FontProgressEvent>> listeners = new ArrayList<>();
+    private final List<FontProgressEvent> published = new ArrayList<>();
+
+    @Override
+    public void publish(FontProgressEvent event) {
+        published.add(event);
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<FontProgressEvent> listener) {
+        listeners.add(listener);
+    }
+
+    public List<FontProgressEvent> getPublished() {
+        return published;
+    }
+}
@@ -0,0 +1,35 @@
+package org.fontory.fontorybe.unit.mock;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.fontory.fontorybe.common.application.IdempotencyRecord;
+import org.fontory.fontorybe.common.application.IdempotencyStorage;
+
+public class FakeIdempotencyStorage implements IdempotencyStorage {
+    private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean start(String key, String fingerprint) {
+        return records.putIfAbsent(key, IdempotencyRecord.inProgress(fingerprint)) == null;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        return Optional.ofNullable(records.get(key));
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        records.put(key, record);
+    }
+
+    @Override
+    public void release(String key) {
+        records.remove(key);
+    }
+
+    public boolean contains(String key) {
+        return records.containsKey(key);
+    }
+}
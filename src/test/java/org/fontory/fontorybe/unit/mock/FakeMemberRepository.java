@@ -1,10 +1,13 @@
 package org.fontory.fontorybe.unit.mock;
 
 import org.fontory.fontorybe.member.domain.Member;
+import org.fontory.fontorybe.member.domain.WriterProfile;
 import org.fontory.fontorybe.member.service.port.MemberRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,9 +58,34 @@ public class FakeMemberRepository implements MemberRepository {
                 .findAny();
     }
 
+    @Override
+    public List<Member> findAllByIdIn(Collection<Long> ids) {
+        return data.stream()
+                .filter(item -> ids.contains(item.getId()))
+                .toList();
+    }
+
     @Override
     public boolean existsByNickname(String nickname) {
         return data.stream()
                 .anyMatch(item -> item.getNickname().equals(nickname));
     }
+
+    @Override
+    public List<WriterProfile> findWriterProfilesByIdGreaterThan(Long lastId, int limit) {
+        return data.stream()
+                .filter(item -> item.getId() > lastId)
+                .sorted(Comparator.comparing(Member::getId))
+                .limit(limit)
+                .map(WriterProfile::from)
+                .toList();
+    }
+
+    @Override
+    public List<WriterProfile> findWriterProfilesByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt) {
+        return data.stream()
+                .filter(item -> item.getUpdatedAt() != null && !item.getUpdatedAt().isBefore(updatedAt))
+                .map(WriterProfile::from)
+                .toList();
+    }
 }
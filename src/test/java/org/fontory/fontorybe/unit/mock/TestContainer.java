@@ -23,8 +23,10 @@ import org.fontory.fontorybe.member.controller.port.MemberCreationService;
 import org.fontory.fontorybe.member.controller.port.MemberLookupService;
 import org.fontory.fontorybe.member.controller.port.MemberOnboardService;
 import org.fontory.fontorybe.member.controller.port.MemberUpdateService;
+import org.fontory.fontorybe.member.controller.port.WriterDirectory;
 import org.fontory.fontorybe.member.domain.Member;
 import org.fontory.fontorybe.member.domain.MemberDefaults;
+import org.fontory.fontorybe.member.service.InMemoryWriterDirectory;
 import org.fontory.fontorybe.member.service.MemberCreationServiceImpl;
 import org.fontory.fontorybe.member.service.MemberLookupServiceImpl;
 import org.fontory.fontorybe.member.service.MemberOnboardServiceImpl;
@@ -66,6 +68,7 @@ public class TestContainer {
     public final CloudStorageService cloudStorageService;
     public final ProvideService provideService;
     public final MemberUpdateService memberUpdateService;
+    public final WriterDirectory writerDirectory;
     public final TokenStorage tokenStorage;
     public final AuthService authService;
     public final FileService fileService;
@@ -133,8 +136,11 @@ public class TestContainer {
                 .provideService(provideService)
                 .jwtTokenProvider(jwtTokenProvider)
                 .badWordFiltering(badWordFiltering)
+                .eventPublisher(eventPublisher)
                 .build();
 
+        writerDirectory = new InMemoryWriterDirectory(memberRepository);
+
         memberDefaults = new MemberDefaults(
                 LocalDate.of(1999, 12, 31));
 
@@ -151,6 +157,7 @@ public class TestContainer {
                 .memberDefaults(memberDefaults)
                 .memberRepository(memberRepository)
                 .provideService(provideService)
+                .eventPublisher(eventPublisher)
                 .build();
 
         authService = AuthService.builder()
@@ -167,10 +174,11 @@ public class TestContainer {
                 .memberLookupService(memberLookupService)
                 .memberCreationService(memberCreationService)
                 .badWordFiltering(badWordFiltering)
+                .eventPublisher(eventPublisher)
                 .build();
 
         memberController = MemberController.builder()
-                .memberLookupService(memberLookupService)
+                .writerDirectory(writerDirectory)
                 .cloudStorageService(cloudStorageService)
                 .build();
 
@@ -1,6 +1,7 @@
 truncate table `font`;
 truncate table `member`;
 truncate table `provide`;
+truncate table `bookmark`;
 
 INSERT INTO `font` (
     `font_id`,
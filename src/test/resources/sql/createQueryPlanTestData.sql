@@ -0,0 +1,73 @@
+-- 실행 계획 검증용 데이터 (옵티마이저가 작은 테이블에서 인덱스 대신 전체 스캔을 고르지 않도록 충분한 행을 만든다)
+truncate table `font`;
+truncate table `member`;
+truncate table `provide`;
+truncate table `bookmark`;
+truncate table `font_request_outbox`;
+truncate table `font_deletion`;
+
+-- 폰트 10000개, 작성자 500명, 10%는 제작 중
+INSERT INTO `font` (`font_id`, `name`, `eng_name`, `status`, `example`, `download_count`, `bookmark_count`,
+                    `file_key`, `member_id`, `created_at`, `updated_at`)
+SELECT n, CONCAT('폰트', n), CONCAT('font', n), IF(n % 10 = 0, 'PROGRESS', 'DONE'), '예제', n % 997, n % 101,
+       CONCAT('key', n), n % 500 + 1,
+       TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00'), TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00')
+FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + 1 AS n
+      FROM (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e) seq;
+
+-- 회원 2000명
+INSERT INTO `member` (`member_id`, `nickname`, `gender`, `birth`, `provide_id`, `status`, `created_at`, `updated_at`)
+SELECT n, CONCAT('nickname', n), 'MALE', '2000-01-01', n, 'ACTIVATE',
+       TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00'), TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00')
+FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + 1 AS n
+      FROM (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e) seq
+WHERE n <= 2000;
+
+INSERT INTO `provide` (`provide_id`, `provider`, `provided_id`, `email`, `member_id`, `created_at`, `updated_at`)
+SELECT n, 'GOOGLE', CONCAT('provided_id', n), CONCAT('email', n), n,
+       TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00'), TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00')
+FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + 1 AS n
+      FROM (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e) seq
+WHERE n <= 2000;
+
+-- 회원 2000명이 폰트 5개씩 북마크
+INSERT INTO `bookmark` (`bookmark_id`, `member_id`, `font_id`, `created_at`, `updated_at`)
+SELECT n, (n - 1) % 2000 + 1, n, TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00'), TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00')
+FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + 1 AS n
+      FROM (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e) seq;
+
+-- 폰트 제작 요청 10000개, 1%는 아직 보내지 않음
+INSERT INTO `font_request_outbox` (`outbox_id`, `font_id`, `message_group_id`, `payload`, `attempts`, `available_at`,
+                                   `sent_at`, `created_at`, `updated_at`)
+SELECT n, n, CONCAT('member-', n % 500 + 1), '{}', 0, TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00'),
+       IF(n % 100 = 0, NULL, TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00')),
+       TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00'), TIMESTAMPADD(MINUTE, n, '2025-01-01 00:00:00')
+FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + 1 AS n
+      FROM (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e) seq;
+
+-- 삭제된 폰트 기록 1000개
+INSERT INTO `font_deletion` (`font_id`, `deleted_at`)
+SELECT 100000 + n, TIMESTAMPADD(MINUTE, n * 10, '2025-01-01 00:00:00')
+FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + 1 AS n
+      FROM (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+      CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e) seq
+WHERE n <= 1000;
+
+ANALYZE TABLE `font`, `member`, `provide`, `bookmark`, `font_request_outbox`, `font_deletion`;
@@ -1,3 +1,4 @@
 truncate table font;
 truncate table `member`;
-truncate table `provide`;
\ No newline at end of file
+truncate table `provide`;
+truncate table `bookmark`;truncate table `font_deletion`;
@@ -0,0 +1,6 @@
+truncate table font;
+truncate table `member`;
+truncate table `provide`;
+truncate table `bookmark`;
+truncate table `font_request_outbox`;
+truncate table `font_deletion`;